@@ -0,0 +1,70 @@
+package com.deloitte.mindmeet.controller;
+
+import com.deloitte.mindmeet.dto.UserImportResult;
+import com.deloitte.mindmeet.service.UserImportService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * Controlador REST de administración de usuarios
+ * 
+ * Endpoints:
+ * - POST /api/admin/users/import - Importación masiva de usuarios (CSV o NDJSON)
+ * 
+ * @author MindMeet Team
+ * @version 1.0
+ */
+@RestController
+@RequestMapping("/api/admin/users")
+@RequiredArgsConstructor
+@Slf4j
+@CrossOrigin(origins = "*", maxAge = 3600)
+@Tag(name = "Administración de usuarios", description = "API de administración de usuarios")
+@SecurityRequirement(name = "Bearer Authentication")
+public class AdminUserController {
+
+    private final UserImportService userImportService;
+
+    /**
+     * Importa usuarios desde el cuerpo de la petición, leído en streaming
+     * Solo para administradores (ROLE_ADMIN)
+     * CSV: cabecera fullName,email,password. NDJSON: un objeto JSON por línea
+     * 
+     * @param sendWelcomeEmail Si se envían correos de bienvenida
+     * @param request Petición HTTP con el archivo en el cuerpo
+     * @param authentication Información del usuario autenticado
+     * @return ResponseEntity con el resultado por fila
+     */
+    @PreAuthorize("hasRole('ADMIN')")
+    @PostMapping(value = "/import", consumes = {"text/csv", "application/x-ndjson"})
+    @Operation(summary = "Importar usuarios", description = "Crea usuarios en bloque desde un archivo CSV o NDJSON")
+    public ResponseEntity<UserImportResult> importUsers(
+            @RequestParam(defaultValue = "true") boolean sendWelcomeEmail,
+            HttpServletRequest request,
+            Authentication authentication) {
+        UserImportService.Format format = request.getContentType().startsWith("text/csv")
+            ? UserImportService.Format.CSV
+            : UserImportService.Format.NDJSON;
+
+        try {
+            log.info("Importación de usuarios ({}) solicitada por: {}", format, authentication.getName());
+            UserImportResult result = userImportService.importUsers(
+                request.getInputStream(), format, sendWelcomeEmail);
+            return ResponseEntity.ok(result);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+        } catch (Exception e) {
+            log.error("Error en importación de usuarios: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+}
@@ -2,13 +2,16 @@ package com.deloitte.mindmeet.controller;
 
 import com.deloitte.mindmeet.dto.AuthRequest;
 import com.deloitte.mindmeet.dto.AuthResponse;
+import com.deloitte.mindmeet.dto.RefreshTokenRequest;
 import com.deloitte.mindmeet.dto.RegisterRequest;
+import com.deloitte.mindmeet.security.PasswordHashingBusyException;
 import com.deloitte.mindmeet.service.AuthService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -21,6 +24,7 @@ import org.springframework.web.bind.annotation.*;
  * - POST /api/auth/login - Iniciar sesión
  * - POST /api/auth/register - Registrar nuevo usuario
  * - POST /api/auth/forgot-password - Recuperar contraseña
+ * - POST /api/auth/refresh - Renovar token de acceso
  * 
  * @author MindMeet Team
  * @version 1.0
@@ -48,10 +52,13 @@ public class AuthController {
     )
     @ApiResponse(responseCode = "200", description = "Login exitoso")
     @ApiResponse(responseCode = "401", description = "Credenciales inválidas")
+    @ApiResponse(responseCode = "503", description = "Servicio saturado, reintentar tras Retry-After")
     public ResponseEntity<AuthResponse> login(@Valid @RequestBody AuthRequest request) {
         try {
             AuthResponse response = authService.authenticateUser(request);
             return ResponseEntity.ok(response);
+        } catch (PasswordHashingBusyException e) {
+            return serviceBusy(e);
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
                 .body(new AuthResponse(null, "Credenciales inválidas", false));
@@ -72,16 +79,43 @@ public class AuthController {
     )
     @ApiResponse(responseCode = "201", description = "Usuario creado exitosamente")
     @ApiResponse(responseCode = "400", description = "Datos inválidos o email ya existe")
+    @ApiResponse(responseCode = "503", description = "Servicio saturado, reintentar tras Retry-After")
     public ResponseEntity<AuthResponse> register(@Valid @RequestBody RegisterRequest request) {
         try {
             AuthResponse response = authService.registerUser(request);
             return ResponseEntity.status(HttpStatus.CREATED).body(response);
+        } catch (PasswordHashingBusyException e) {
+            return serviceBusy(e);
         } catch (IllegalArgumentException e) {
             return ResponseEntity.status(HttpStatus.BAD_REQUEST)
                 .body(new AuthResponse(null, e.getMessage(), false));
         }
     }
 
+    /**
+     * Endpoint para renovar el token de acceso
+     * Consume el refresh token y devuelve uno nuevo junto al token de acceso
+     * 
+     * @param request Objeto con el refresh token
+     * @return ResponseEntity con nuevo token JWT y nuevo refresh token
+     */
+    @PostMapping("/refresh")
+    @Operation(
+        summary = "Renovar token",
+        description = "Emite un nuevo token de acceso a partir de un refresh token, sin volver a iniciar sesión"
+    )
+    @ApiResponse(responseCode = "200", description = "Token renovado")
+    @ApiResponse(responseCode = "401", description = "Refresh token inválido, expirado o reutilizado")
+    public ResponseEntity<AuthResponse> refresh(@Valid @RequestBody RefreshTokenRequest request) {
+        try {
+            AuthResponse response = authService.refreshAccessToken(request.getRefreshToken());
+            return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                .body(new AuthResponse(null, e.getMessage(), false));
+        }
+    }
+
     /**
      * Endpoint para recuperar contraseña
      * Envía un email con enlace de recuperación
@@ -150,4 +184,16 @@ public class AuthController {
                 .body(new AuthResponse(null, "Error en autenticación social", false));
         }
     }
+
+    /**
+     * Respuesta 503 cuando el pool de hashing de contraseñas está saturado
+     * 
+     * @param e Excepción con el tiempo de reintento sugerido
+     * @return ResponseEntity con cabecera Retry-After
+     */
+    private ResponseEntity<AuthResponse> serviceBusy(PasswordHashingBusyException e) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+            .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+            .body(new AuthResponse(null, e.getMessage(), false));
+    }
 }
@@ -0,0 +1,66 @@
+package com.deloitte.mindmeet.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Respuesta de las operaciones de autenticación
+ *
+ * @author MindMeet Team
+ * @version 1.0
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AuthResponse {
+
+    /**
+     * Token JWT de acceso
+     */
+    private String token;
+
+    /**
+     * Mensaje descriptivo del resultado
+     */
+    private String message;
+
+    /**
+     * Indica si la operación fue exitosa
+     */
+    private Boolean success;
+
+    /**
+     * ID del usuario autenticado
+     */
+    private Long userId;
+
+    /**
+     * Nombre completo del usuario
+     */
+    private String fullName;
+
+    /**
+     * Email del usuario
+     */
+    private String email;
+
+    /**
+     * Refresh token para renovar el token de acceso (rota en cada uso)
+     */
+    private String refreshToken;
+
+    public AuthResponse(String token, String message, Boolean success) {
+        this.token = token;
+        this.message = message;
+        this.success = success;
+    }
+
+    public AuthResponse(String token, String message, Boolean success,
+                        Long userId, String fullName, String email) {
+        this(token, message, success);
+        this.userId = userId;
+        this.fullName = fullName;
+        this.email = email;
+    }
+}
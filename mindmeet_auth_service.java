@@ -3,11 +3,13 @@ package com.deloitte.mindmeet.service;
 import com.deloitte.mindmeet.dto.AuthRequest;
 import com.deloitte.mindmeet.dto.AuthResponse;
 import com.deloitte.mindmeet.dto.RegisterRequest;
+import com.deloitte.mindmeet.dto.UserSnapshot;
 import com.deloitte.mindmeet.model.User;
 import com.deloitte.mindmeet.model.Role;
 import com.deloitte.mindmeet.repository.UserRepository;
-import com.deloitte.mindmeet.repository.RoleRepository;
 import com.deloitte.mindmeet.security.JwtTokenProvider;
+import com.deloitte.mindmeet.security.PasswordHashingBusyException;
+import com.deloitte.mindmeet.security.VerifiedTokenCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -34,10 +36,13 @@ import java.util.Optional;
 public class AuthService {
 
     private final UserRepository userRepository;
-    private final RoleRepository roleRepository;
+    private final UserLookupService userLookupService;
+    private final RoleLookupService roleLookupService;
     private final PasswordEncoder passwordEncoder;
     private final AuthenticationManager authenticationManager;
     private final JwtTokenProvider jwtTokenProvider;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final RefreshTokenService refreshTokenService;
     private final EmailService emailService;
 
     /**
@@ -62,12 +67,12 @@ public class AuthService {
             // Establecer autenticación en el contexto de seguridad
             SecurityContextHolder.getContext().setAuthentication(authentication);
 
-            // Buscar usuario en la base de datos
-            User user = userRepository.findByEmail(request.getEmail())
+            // Buscar usuario (cache de usuarios por email)
+            UserSnapshot user = userLookupService.findByEmail(request.getEmail())
                 .orElseThrow(() -> new IllegalArgumentException("Usuario no encontrado"));
 
             // Verificar si el usuario está activo
-            if (!user.getActive()) {
+            if (!user.active()) {
                 throw new IllegalArgumentException("Usuario desactivado");
             }
 
@@ -76,16 +81,24 @@ public class AuthService {
 
             log.info("Usuario autenticado exitosamente: {}", request.getEmail());
 
-            return new AuthResponse(
+            AuthResponse response = new AuthResponse(
                 token,
                 "Autenticación exitosa",
                 true,
-                user.getId(),
-                user.getFullName(),
-                user.getEmail()
+                user.id(),
+                user.fullName(),
+                user.email()
             );
+            response.setRefreshToken(refreshTokenService.issue(user.id()));
+            return response;
 
         } catch (Exception e) {
+            // La saturación del pool de hashing no es un error de credenciales
+            PasswordHashingBusyException busy = findHashingBusy(e);
+            if (busy != null) {
+                log.warn("Autenticación rechazada por saturación del hashing: {}", request.getEmail());
+                throw busy;
+            }
             log.error("Error en autenticación: {}", e.getMessage());
             throw new IllegalArgumentException("Credenciales inválidas");
         }
@@ -119,19 +132,16 @@ public class AuthService {
         user.setPassword(passwordEncoder.encode(request.getPassword()));
         user.setActive(true);
 
-        // Asignar rol por defecto (USER)
-        Role userRole = roleRepository.findByName("ROLE_USER")
-            .orElseGet(() -> {
-                Role newRole = new Role();
-                newRole.setName("ROLE_USER");
-                return roleRepository.save(newRole);
-            });
-        
+        // Asignar rol por defecto (USER), desde el cache de roles
+        Role userRole = roleLookupService.getOrCreate(RoleLookupService.DEFAULT_ROLE);
+
         user.addRole(userRole);
 
         // Guardar usuario
         user = userRepository.save(user);
 
+        userLookupService.evict(user.getEmail());
+
         log.info("Usuario registrado exitosamente: {}", user.getEmail());
 
         // Generar token JWT automáticamente
@@ -148,7 +158,7 @@ public class AuthService {
             log.error("Error al enviar email de bienvenida: {}", e.getMessage());
         }
 
-        return new AuthResponse(
+        AuthResponse response = new AuthResponse(
             token,
             "Usuario registrado exitosamente",
             true,
@@ -156,6 +166,44 @@ public class AuthService {
             user.getFullName(),
             user.getEmail()
         );
+        response.setRefreshToken(refreshTokenService.issue(user.getId()));
+        return response;
+    }
+
+    /**
+     * Renueva el token de acceso a partir de un refresh token
+     * No vuelve a autenticar la contraseña: basta con el token rotado y
+     * una búsqueda del usuario por ID
+     * 
+     * @param refreshToken Refresh token presentado por el cliente
+     * @return AuthResponse con nuevo token de acceso y nuevo refresh token
+     * @throws IllegalArgumentException si el refresh token es inválido o el usuario está desactivado
+     */
+    @Transactional(noRollbackFor = IllegalArgumentException.class)
+    public AuthResponse refreshAccessToken(String refreshToken) {
+        RefreshTokenService.Rotation rotation = refreshTokenService.rotate(refreshToken);
+
+        User user = userRepository.findById(rotation.userId())
+            .orElseThrow(() -> new IllegalArgumentException("Usuario no encontrado"));
+
+        if (!user.getActive()) {
+            refreshTokenService.revokeAll(user.getId());
+            throw new IllegalArgumentException("Usuario desactivado");
+        }
+
+        Authentication authentication = new UsernamePasswordAuthenticationToken(user.getEmail(), null);
+        String token = jwtTokenProvider.generateToken(authentication);
+
+        AuthResponse response = new AuthResponse(
+            token,
+            "Token renovado exitosamente",
+            true,
+            user.getId(),
+            user.getFullName(),
+            user.getEmail()
+        );
+        response.setRefreshToken(rotation.refreshToken());
+        return response;
     }
 
     /**
@@ -168,7 +216,7 @@ public class AuthService {
         log.info("Solicitando recuperación de contraseña para: {}", email);
 
         // Buscar usuario
-        User user = userRepository.findByEmail(email)
+        UserSnapshot user = userLookupService.findByEmail(email)
             .orElseThrow(() -> new IllegalArgumentException("Usuario no encontrado"));
 
         // Generar token de recuperación (válido por 1 hora)
@@ -176,7 +224,7 @@ public class AuthService {
 
         // Enviar email con enlace de recuperación
         try {
-            emailService.sendPasswordResetEmail(email, user.getFullName(), resetToken);
+            emailService.sendPasswordResetEmail(email, user.fullName(), resetToken);
             log.info("Email de recuperación enviado a: {}", email);
         } catch (Exception e) {
             log.error("Error al enviar email de recuperación: {}", e.getMessage());
@@ -214,18 +262,23 @@ public class AuthService {
         // Actualizar contraseña
         user.setPassword(passwordEncoder.encode(newPassword));
         userRepository.save(user);
+        userLookupService.evict(email);
+
+        // Las sesiones abiertas con la contraseña anterior no pueden renovarse
+        refreshTokenService.revokeAll(user.getId());
 
         log.info("Contraseña restablecida exitosamente para: {}", email);
     }
 
     /**
      * Valida un token JWT
+     * Los tokens ya verificados se resuelven desde el cache sin volver a verificar la firma
      * 
      * @param token Token JWT a validar
      * @return true si el token es válido, false en caso contrario
      */
     public boolean validateToken(String token) {
-        return jwtTokenProvider.validateToken(token);
+        return verifiedTokenCache.isValid(token);
     }
 
     /**
@@ -251,10 +304,13 @@ public class AuthService {
 
     /**
      * Obtiene un usuario por email
+     * Retorna la entidad del repositorio; para lecturas frecuentes usar
+     * UserLookupService, que sirve copias desde el cache
      * 
      * @param email Email del usuario
      * @return Optional con el usuario si existe
      */
+    @Transactional(readOnly = true)
     public Optional<User> getUserByEmail(String email) {
         return userRepository.findByEmail(email);
     }
@@ -271,7 +327,30 @@ public class AuthService {
         
         user.setActive(active);
         userRepository.save(user);
+        userLookupService.evict(user.getEmail());
+
+        // Invalidar de inmediato los tokens del usuario desactivado
+        if (!active) {
+            verifiedTokenCache.revoke(user.getEmail());
+            refreshTokenService.revokeAll(user.getId());
+        }
 
         log.info("Usuario {} {}", user.getEmail(), active ? "activado" : "desactivado");
     }
+
+    /**
+     * Busca una PasswordHashingBusyException en la cadena de causas
+     * (Spring Security puede envolverla en una AuthenticationException)
+     * 
+     * @param e Excepción capturada
+     * @return La excepción de saturación, o null si no hay
+     */
+    private PasswordHashingBusyException findHashingBusy(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof PasswordHashingBusyException busy) {
+                return busy;
+            }
+        }
+        return null;
+    }
 }
@@ -0,0 +1,27 @@
+package com.deloitte.mindmeet.dto;
+
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.NotEmpty;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Solicitud para agregar varios participantes a una reunión
+ *
+ * @author MindMeet Team
+ * @version 1.0
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchParticipantsRequest {
+
+    /**
+     * Emails de los participantes a agregar
+     */
+    @NotEmpty(message = "Debe indicar al menos un participante")
+    private List<@Email(message = "El formato del email no es válido") String> emails;
+}
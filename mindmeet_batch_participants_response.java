@@ -0,0 +1,39 @@
+package com.deloitte.mindmeet.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Resultado de agregar participantes en lote
+ *
+ * @author MindMeet Team
+ * @version 1.0
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchParticipantsResponse {
+
+    /**
+     * Reunión actualizada (sin transcripción ni resumen)
+     */
+    private MeetingDTO meeting;
+
+    /**
+     * Emails agregados como participantes
+     */
+    private List<String> added;
+
+    /**
+     * Emails que ya eran participantes u organizador
+     */
+    private List<String> alreadyParticipants;
+
+    /**
+     * Emails sin usuario registrado
+     */
+    private List<String> notFound;
+}
@@ -0,0 +1,166 @@
+package com.deloitte.mindmeet.benchmark;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Línea base de resultados de los benchmarks y su comparación
+ *
+ * Se guarda en benchmarks/baseline.json con una entrada por benchmark y
+ * combinación de parámetros. Una ejecución se compara con ella métrica a
+ * métrica: el tiempo (o throughput) y los bytes asignados por operación
+ * (gc.alloc.rate.norm). Un empeoramiento mayor que la tolerancia es una
+ * regresión; las entradas sin línea base se informan como nuevas.
+ *
+ * @param recordedAt Fecha de registro
+ * @param jvm JVM con la que se registró
+ * @param note Nota libre (máquina de referencia, commit)
+ * @param results Resultados por benchmark
+ *
+ * @author MindMeet Team
+ * @version 1.0
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record BenchmarkBaseline(String recordedAt, String jvm, String note, Map<String, Result> results) {
+
+    /**
+     * Diferencia mínima de asignación, en bytes por operación, para
+     * considerarla un cambio (evita falsas regresiones sobre valores cercanos a 0)
+     */
+    private static final double MIN_ALLOC_DELTA_BYTES = 16;
+
+    private static final ObjectMapper MAPPER = new ObjectMapper()
+        .enable(SerializationFeature.INDENT_OUTPUT);
+
+    /**
+     * Resultado de un benchmark
+     *
+     * @param mode Modo de JMH (avgt, thrpt, ss, sample)
+     * @param score Puntuación principal
+     * @param scoreError Error de la puntuación (intervalo del 99,9 %)
+     * @param unit Unidad de la puntuación
+     * @param allocBytesPerOp Bytes asignados por operación, null si no se midió
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public record Result(String mode, double score, double scoreError, String unit, Double allocBytesPerOp) {
+
+        private boolean higherIsBetter() {
+            return "thrpt".equals(mode);
+        }
+    }
+
+    /**
+     * Comparación de una métrica con la línea base
+     *
+     * @param benchmark Benchmark y parámetros
+     * @param metric Métrica comparada
+     * @param baseline Valor de la línea base, null si no existe
+     * @param current Valor actual
+     * @param unit Unidad
+     * @param change Variación relativa (positiva = peor)
+     * @param status Resultado de la comparación
+     */
+    public record Comparison(String benchmark, String metric, Double baseline, double current,
+                             String unit, double change, Status status) {
+    }
+
+    /**
+     * Resultado de la comparación de una métrica
+     */
+    public enum Status { OK, IMPROVED, REGRESSION, NEW }
+
+    /**
+     * Lee la línea base de un archivo; si no existe devuelve una vacía
+     *
+     * @param file Archivo JSON
+     * @return Línea base
+     * @throws IOException si el archivo no se puede leer
+     */
+    public static BenchmarkBaseline read(Path file) throws IOException {
+        if (!Files.exists(file)) {
+            return new BenchmarkBaseline(null, null, null, Map.of());
+        }
+        BenchmarkBaseline baseline = MAPPER.readValue(file.toFile(), BenchmarkBaseline.class);
+        return baseline.results() != null ? baseline
+            : new BenchmarkBaseline(baseline.recordedAt(), baseline.jvm(), baseline.note(), Map.of());
+    }
+
+    /**
+     * Escribe la línea base ordenada por nombre de benchmark
+     *
+     * @param file Archivo JSON
+     * @throws IOException si el archivo no se puede escribir
+     */
+    public void write(Path file) throws IOException {
+        BenchmarkBaseline sorted = new BenchmarkBaseline(recordedAt, jvm, note, new TreeMap<>(results));
+        MAPPER.writeValue(file.toFile(), sorted);
+    }
+
+    /**
+     * Compara resultados actuales con esta línea base
+     *
+     * @param current Resultados de la ejecución actual
+     * @param tolerance Empeoramiento relativo tolerado (0.10 = 10 %)
+     * @return Comparaciones por benchmark y métrica
+     */
+    public List<Comparison> compare(Map<String, Result> current, double tolerance) {
+        List<Comparison> comparisons = new ArrayList<>();
+        for (Map.Entry<String, Result> entry : new TreeMap<>(current).entrySet()) {
+            String name = entry.getKey();
+            Result now = entry.getValue();
+            Result before = results.get(name);
+
+            if (before == null || !before.mode().equals(now.mode()) || !before.unit().equals(now.unit())) {
+                comparisons.add(new Comparison(name, "score", null, now.score(), now.unit(), 0, Status.NEW));
+                if (now.allocBytesPerOp() != null) {
+                    comparisons.add(new Comparison(name, "alloc", null, now.allocBytesPerOp(), "B/op", 0, Status.NEW));
+                }
+                continue;
+            }
+
+            double scoreChange = relativeChange(before.score(), now.score(), now.higherIsBetter());
+            comparisons.add(new Comparison(name, "score", before.score(), now.score(), now.unit(),
+                scoreChange, status(scoreChange, tolerance)));
+
+            if (now.allocBytesPerOp() != null) {
+                if (before.allocBytesPerOp() == null) {
+                    comparisons.add(new Comparison(name, "alloc", null, now.allocBytesPerOp(), "B/op", 0, Status.NEW));
+                } else {
+                    double delta = now.allocBytesPerOp() - before.allocBytesPerOp();
+                    double allocChange = relativeChange(before.allocBytesPerOp(), now.allocBytesPerOp(), false);
+                    Status allocStatus = Math.abs(delta) < MIN_ALLOC_DELTA_BYTES ? Status.OK : status(allocChange, tolerance);
+                    comparisons.add(new Comparison(name, "alloc", before.allocBytesPerOp(), now.allocBytesPerOp(),
+                        "B/op", allocChange, allocStatus));
+                }
+            }
+        }
+        return comparisons;
+    }
+
+    /**
+     * Variación relativa orientada a "positivo = peor"
+     */
+    private static double relativeChange(double before, double now, boolean higherIsBetter) {
+        if (before == 0) {
+            return now == 0 ? 0 : (higherIsBetter ? -1 : 1);
+        }
+        double change = (now - before) / before;
+        return higherIsBetter ? -change : change;
+    }
+
+    private static Status status(double change, double tolerance) {
+        if (change > tolerance) {
+            return Status.REGRESSION;
+        }
+        return change < -tolerance ? Status.IMPROVED : Status.OK;
+    }
+}
@@ -0,0 +1,40 @@
+package com.deloitte.mindmeet.benchmark;
+
+import java.util.Random;
+
+/**
+ * Datos sintéticos deterministas para los benchmarks
+ *
+ * @author MindMeet Team
+ * @version 1.0
+ */
+final class BenchmarkData {
+
+    private static final String[] WORDS = {
+        "reunión", "proyecto", "cliente", "entrega", "equipo", "revisión", "acuerdo",
+        "presupuesto", "riesgo", "seguimiento", "decisión", "próxima", "semana", "tarea",
+        "responsable", "fecha", "objetivo", "avance", "de", "la", "el", "que", "en", "para",
+        "con", "los", "las", "se", "por", "una", "del", "al", "como", "más", "pero"
+    };
+
+    private BenchmarkData() {
+    }
+
+    /**
+     * Texto con vocabulario de reunión de la longitud indicada
+     *
+     * @param chars Longitud aproximada en caracteres
+     * @return Texto generado, siempre el mismo para la misma longitud
+     */
+    static String transcript(int chars) {
+        Random random = new Random(chars);
+        StringBuilder text = new StringBuilder(chars + 16);
+        while (text.length() < chars) {
+            if (text.length() > 0) {
+                text.append(random.nextInt(12) == 0 ? ". " : " ");
+            }
+            text.append(WORDS[random.nextInt(WORDS.length)]);
+        }
+        return text.toString();
+    }
+}
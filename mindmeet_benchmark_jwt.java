@@ -0,0 +1,96 @@
+package com.deloitte.mindmeet.benchmark;
+
+import com.deloitte.mindmeet.security.JwtTokenProvider;
+import com.deloitte.mindmeet.security.VerifiedTokenCache;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks de generación y validación de JWT
+ *
+ * JwtTokenProvider se crea en un contexto de Spring mínimo con las mismas
+ * propiedades security.jwt.* de la aplicación. Se mide también la
+ * verificación a través de VerifiedTokenCache con el token ya cacheado,
+ * que es el camino de cada petición autenticada.
+ *
+ * @author MindMeet Team
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class JwtBenchmark {
+
+    private static final String SECRET = "mindmeet-secret-key-2025-deloitte-colombia-super-secure";
+    private static final long EXPIRATION_MS = 86_400_000L;
+
+    private AnnotationConfigApplicationContext context;
+    private JwtTokenProvider jwtTokenProvider;
+    private VerifiedTokenCache verifiedTokenCache;
+    private Authentication authentication;
+    private String token;
+
+    @Setup
+    public void setup() {
+        context = new AnnotationConfigApplicationContext();
+        context.getEnvironment().getPropertySources().addFirst(new MapPropertySource("benchmark", Map.of(
+            "security.jwt.secret", SECRET,
+            "security.jwt.expiration", String.valueOf(EXPIRATION_MS),
+            "security.jwt.refresh-expiration", "604800000")));
+        context.register(JwtTokenProvider.class);
+        context.refresh();
+        jwtTokenProvider = context.getBean(JwtTokenProvider.class);
+
+        verifiedTokenCache = new VerifiedTokenCache(jwtTokenProvider, new ObjectMapper(), 50_000, 600, EXPIRATION_MS);
+
+        authentication = new UsernamePasswordAuthenticationToken("usuario@mindmeet.test", null);
+        token = jwtTokenProvider.generateToken(authentication);
+        verifiedTokenCache.verify(token);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtTokenProvider.generateToken(authentication);
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return jwtTokenProvider.validateToken(token);
+    }
+
+    @Benchmark
+    public String getEmailFromToken() {
+        return jwtTokenProvider.getEmailFromToken(token);
+    }
+
+    @Benchmark
+    public Optional<VerifiedTokenCache.VerifiedToken> verifyCached() {
+        return verifiedTokenCache.verify(token);
+    }
+}
@@ -0,0 +1,62 @@
+package com.deloitte.mindmeet.benchmark;
+
+import com.deloitte.mindmeet.model.Meeting;
+import com.deloitte.mindmeet.model.User;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks del ciclo de vida de Meeting: cálculo de duración y finalización
+ *
+ * @author MindMeet Team
+ * @version 1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class MeetingLifecycleBenchmark {
+
+    private Meeting finished;
+    private Meeting inProgress;
+
+    @Setup
+    public void setup() {
+        User organizer = new User("Organizador", "organizador@mindmeet.test", "hash");
+        organizer.setId(1L);
+
+        finished = new Meeting("Reunión finalizada", LocalDateTime.now().minusMinutes(47), organizer);
+        finished.setEndTime(LocalDateTime.now());
+
+        inProgress = new Meeting("Reunión en curso", LocalDateTime.now().minusMinutes(47), organizer);
+        inProgress.start();
+    }
+
+    @Benchmark
+    public Integer calculateDuration() {
+        return finished.calculateDuration();
+    }
+
+    /**
+     * finish() lee el reloj y recalcula la duración; repetirlo sobre la
+     * misma reunión solo sobrescribe los mismos campos
+     */
+    @Benchmark
+    public Integer finish() {
+        inProgress.finish();
+        return inProgress.getDurationSeconds();
+    }
+}
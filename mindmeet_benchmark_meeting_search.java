@@ -0,0 +1,100 @@
+package com.deloitte.mindmeet.benchmark;
+
+import com.deloitte.mindmeet.service.MeetingSearchIndex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks de la búsqueda de reuniones con el índice en memoria
+ *
+ * Carga {@code meetings} reuniones (100K por defecto, el volumen objetivo)
+ * con transcripciones sintéticas; cada usuario organiza una reunión de cada
+ * {@code users} y participa en otras dos. Se mide en modo SampleTime para
+ * que JMH informe los percentiles: el objetivo es p0.95 &lt; 50 ms. La lectura
+ * de la ventana de texto en la base de datos queda fuera; en producción el
+ * tiempo total se ve en mindmeet.service.calls{method="searchMeetings"}.
+ *
+ * @author MindMeet Team
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MeetingSearchBenchmark {
+
+    private static final int TRANSCRIPT_CHARS = 4_000;
+    private static final int SNIPPET_WIDTH = 160;
+
+    /**
+     * Reuniones indexadas
+     */
+    @Param({"100000"})
+    public int meetings;
+
+    /**
+     * Usuarios distintos entre los que se reparten las reuniones
+     */
+    @Param({"1000"})
+    public int users;
+
+    private MeetingSearchIndex index;
+    private String[] transcripts;
+    private long userId;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        // Variantes de transcripción para no retener 100K textos distintos en memoria
+        transcripts = new String[64];
+        for (int i = 0; i < transcripts.length; i++) {
+            transcripts[i] = BenchmarkData.transcript(TRANSCRIPT_CHARS + i);
+        }
+
+        index = new MeetingSearchIndex();
+        Random random = new Random(42);
+        for (long id = 1; id <= meetings; id++) {
+            long organizer = id % users;
+            long[] members = {organizer, random.nextInt(users), random.nextInt(users)};
+            index.index(new MeetingSearchIndex.SearchDocument(id, "Reunión " + id,
+                "Seguimiento del proyecto " + (id % 97),
+                BenchmarkData.transcript(300 + (int) (id % 200)),
+                transcripts[(int) (id % transcripts.length)],
+                members));
+        }
+        userId = users / 2;
+    }
+
+    @Benchmark
+    public List<MeetingSearchIndex.Hit> searchCommonTerms() {
+        return index.search("presupuesto del proyecto", userId, 20);
+    }
+
+    @Benchmark
+    public List<MeetingSearchIndex.Hit> searchRareTerm() {
+        return index.search("proyecto 42", userId, 20);
+    }
+
+    @Benchmark
+    public String snippet() {
+        String transcript = transcripts[7];
+        return MeetingSearchIndex.snippet(transcript.substring(0, SNIPPET_WIDTH * 2), true, false,
+            Set.of("presupuesto", "proyecto"), SNIPPET_WIDTH);
+    }
+}
@@ -0,0 +1,165 @@
+package com.deloitte.mindmeet.benchmark;
+
+import com.deloitte.mindmeet.dto.MeetingDTO;
+import com.deloitte.mindmeet.dto.UserSnapshot;
+import com.deloitte.mindmeet.model.Meeting;
+import com.deloitte.mindmeet.model.User;
+import com.deloitte.mindmeet.service.MeetingMembershipIndex;
+import com.deloitte.mindmeet.service.MeetingService;
+import com.deloitte.mindmeet.service.UserLookupService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+/**
+ * Benchmarks de MeetingService: conversión a DTO y verificación de acceso
+ *
+ * Ambos métodos son privados y se invocan con MethodHandle. El servicio se
+ * construye solo con las dependencias que usan estos métodos: el índice de
+ * miembros ya cargado (como tras el primer acceso) y una búsqueda de
+ * usuarios que devuelve el usuario como lo haría el cache usersByEmail.
+ * El resto de dependencias queda en null.
+ *
+ * @author MindMeet Team
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class MeetingServiceBenchmark {
+
+    private static final long MEETING_ID = 1L;
+    private static final long ORGANIZER_ID = 1L;
+
+    /**
+     * Participantes de la reunión
+     */
+    @Param({"0", "10", "50", "500"})
+    public int participants;
+
+    private MethodHandle convertToDTO;
+    private MethodHandle hasAccessToMeeting;
+    private MeetingService meetingService;
+    private Meeting meeting;
+
+    private String organizerEmail;
+    private String lastParticipantEmail;
+    private String outsiderEmail;
+
+    @Setup
+    public void setup() throws Throwable {
+        User organizer = user(ORGANIZER_ID);
+        meeting = new Meeting("Comité de arquitectura", LocalDateTime.now().minusHours(1), organizer);
+        meeting.setId(MEETING_ID);
+        meeting.setDescription("Revisión semanal de decisiones técnicas");
+        meeting.setTranscript(BenchmarkData.transcript(20_000));
+        meeting.setSummary(BenchmarkData.transcript(1_500));
+        meeting.setTranscriptionAccuracy(94.5);
+        meeting.setCreatedAt(LocalDateTime.now().minusDays(1));
+        meeting.setUpdatedAt(LocalDateTime.now());
+
+        Map<String, UserSnapshot> usersByEmail = new HashMap<>();
+        usersByEmail.put(organizer.getEmail(), UserSnapshot.of(organizer));
+        for (long id = ORGANIZER_ID + 1; id <= ORGANIZER_ID + participants; id++) {
+            User participant = user(id);
+            meeting.addParticipant(participant);
+            usersByEmail.put(participant.getEmail(), UserSnapshot.of(participant));
+        }
+        User outsider = user(1_000_000L);
+        usersByEmail.put(outsider.getEmail(), UserSnapshot.of(outsider));
+
+        organizerEmail = organizer.getEmail();
+        lastParticipantEmail = user(ORGANIZER_ID + participants).getEmail();
+        outsiderEmail = outsider.getEmail();
+
+        MeetingMembershipIndex membershipIndex = new MeetingMembershipIndex(null, 100_000, 60);
+        List<Long> participantIds = LongStream.rangeClosed(ORGANIZER_ID + 1, ORGANIZER_ID + participants)
+            .boxed()
+            .collect(Collectors.toList());
+        membershipIndex.onMeetingCreated(MEETING_ID, ORGANIZER_ID, participantIds);
+
+        UserLookupService userLookupService = new UserLookupService(null, null, null) {
+            @Override
+            public Optional<UserSnapshot> findByEmail(String email) {
+                return Optional.ofNullable(usersByEmail.get(email));
+            }
+        };
+
+        meetingService = newMeetingService(userLookupService, membershipIndex);
+
+        MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(MeetingService.class, MethodHandles.lookup());
+        convertToDTO = lookup.findVirtual(MeetingService.class, "convertToDTO",
+            MethodType.methodType(MeetingDTO.class, Meeting.class));
+        hasAccessToMeeting = lookup.findVirtual(MeetingService.class, "hasAccessToMeeting",
+            MethodType.methodType(boolean.class, Long.class, String.class));
+    }
+
+    @Benchmark
+    public MeetingDTO convertToDTO() throws Throwable {
+        return (MeetingDTO) convertToDTO.invokeExact(meetingService, meeting);
+    }
+
+    @Benchmark
+    public boolean hasAccessOrganizer() throws Throwable {
+        return (boolean) hasAccessToMeeting.invokeExact(meetingService, (Long) MEETING_ID, organizerEmail);
+    }
+
+    @Benchmark
+    public boolean hasAccessParticipant() throws Throwable {
+        return (boolean) hasAccessToMeeting.invokeExact(meetingService, (Long) MEETING_ID, lastParticipantEmail);
+    }
+
+    @Benchmark
+    public boolean hasAccessDenied() throws Throwable {
+        return (boolean) hasAccessToMeeting.invokeExact(meetingService, (Long) MEETING_ID, outsiderEmail);
+    }
+
+    private static User user(long id) {
+        User user = new User("Usuario " + id, "usuario" + id + "@mindmeet.test", "hash");
+        user.setId(id);
+        return user;
+    }
+
+    /**
+     * Construye el servicio por tipo de parámetro, para no depender del
+     * orden de las dependencias del constructor
+     */
+    private static MeetingService newMeetingService(UserLookupService userLookupService,
+                                                    MeetingMembershipIndex membershipIndex) throws Exception {
+        Constructor<?> constructor = MeetingService.class.getConstructors()[0];
+        Class<?>[] types = constructor.getParameterTypes();
+        Object[] args = new Object[types.length];
+        for (int i = 0; i < types.length; i++) {
+            if (types[i] == UserLookupService.class) {
+                args[i] = userLookupService;
+            } else if (types[i] == MeetingMembershipIndex.class) {
+                args[i] = membershipIndex;
+            }
+        }
+        return (MeetingService) constructor.newInstance(args);
+    }
+}
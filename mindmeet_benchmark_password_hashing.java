@@ -0,0 +1,83 @@
+package com.deloitte.mindmeet.benchmark;
+
+import com.deloitte.mindmeet.security.BoundedPasswordEncoder;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks de hashing de contraseñas con BCrypt
+ *
+ * Compara BCrypt directo con BoundedPasswordEncoder (pool dedicado) para
+ * medir el costo añadido por el traspaso al pool. Cada operación tarda
+ * decenas de milisegundos, por lo que se usan pocas iteraciones largas.
+ *
+ * @author MindMeet Team
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 3)
+@Fork(1)
+public class PasswordHashingBenchmark {
+
+    private static final String PASSWORD = "Reunion.Segura-2025";
+
+    /**
+     * Costo de BCrypt (mindmeet.security.bcrypt.strength)
+     */
+    @Param({"10", "12"})
+    public int strength;
+
+    private BCryptPasswordEncoder bcrypt;
+    private BoundedPasswordEncoder bounded;
+    private String encoded;
+
+    @Setup
+    public void setup() {
+        bcrypt = new BCryptPasswordEncoder(strength);
+        int threads = Runtime.getRuntime().availableProcessors();
+        bounded = new BoundedPasswordEncoder(strength, threads, 64, 60_000, 2, new SimpleMeterRegistry());
+        encoded = bcrypt.encode(PASSWORD);
+    }
+
+    @TearDown
+    public void tearDown() {
+        bounded.close();
+    }
+
+    @Benchmark
+    public String encode() {
+        return bcrypt.encode(PASSWORD);
+    }
+
+    @Benchmark
+    public boolean matches() {
+        return bcrypt.matches(PASSWORD, encoded);
+    }
+
+    @Benchmark
+    public String boundedEncode() {
+        return bounded.encode(PASSWORD);
+    }
+
+    @Benchmark
+    public boolean boundedMatches() {
+        return bounded.matches(PASSWORD, encoded);
+    }
+}
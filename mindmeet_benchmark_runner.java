@@ -0,0 +1,141 @@
+package com.deloitte.mindmeet.benchmark;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Punto de entrada del jar de benchmarks
+ *
+ * Ejecuta los benchmarks JMH con el perfilador de GC (tasa de asignación y
+ * bytes por operación), guarda el resultado completo de JMH en
+ * target/jmh-result.json y compara cada benchmark con la línea base.
+ * Termina con código 1 si alguna métrica empeora más que la tolerancia.
+ *
+ * Uso:
+ *   java -jar target/mindmeet-benchmarks.jar [regex] [--update-baseline]
+ *        [--baseline=baseline.json] [--tolerance=0.10]
+ *
+ * Con --update-baseline los resultados de esta ejecución reemplazan la
+ * línea base; debe hacerse en la máquina de referencia.
+ *
+ * @author MindMeet Team
+ * @version 1.0
+ */
+public final class BenchmarkRunner {
+
+    private static final String ALLOC_METRIC = "gc.alloc.rate.norm";
+
+    private BenchmarkRunner() {
+    }
+
+    public static void main(String[] args) throws RunnerException, IOException {
+        String include = BenchmarkRunner.class.getPackageName() + ".*";
+        Path baselineFile = Paths.get("baseline.json");
+        double tolerance = 0.10;
+        boolean updateBaseline = false;
+
+        for (String arg : args) {
+            if (arg.equals("--update-baseline")) {
+                updateBaseline = true;
+            } else if (arg.startsWith("--baseline=")) {
+                baselineFile = Paths.get(arg.substring("--baseline=".length()));
+            } else if (arg.startsWith("--tolerance=")) {
+                tolerance = Double.parseDouble(arg.substring("--tolerance=".length()));
+            } else {
+                include = arg;
+            }
+        }
+
+        Files.createDirectories(Paths.get("target"));
+        ChainedOptionsBuilder options = new OptionsBuilder()
+            .include(include)
+            .addProfiler(GCProfiler.class)
+            .resultFormat(ResultFormatType.JSON)
+            .result("target/jmh-result.json");
+
+        Collection<RunResult> runResults = new Runner(options.build()).run();
+        Map<String, BenchmarkBaseline.Result> current = toResults(runResults);
+
+        BenchmarkBaseline baseline = BenchmarkBaseline.read(baselineFile);
+
+        if (updateBaseline) {
+            Map<String, BenchmarkBaseline.Result> merged = new HashMap<>(baseline.results());
+            merged.putAll(current);
+            new BenchmarkBaseline(Instant.now().toString(),
+                System.getProperty("java.vm.name") + " " + System.getProperty("java.version"),
+                baseline.note(), merged).write(baselineFile);
+            System.out.printf("Línea base actualizada: %s (%d resultados)%n", baselineFile, current.size());
+            return;
+        }
+
+        List<BenchmarkBaseline.Comparison> comparisons = baseline.compare(current, tolerance);
+        print(comparisons, baselineFile, tolerance);
+
+        boolean regressed = comparisons.stream()
+            .anyMatch(comparison -> comparison.status() == BenchmarkBaseline.Status.REGRESSION);
+        if (regressed) {
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Convierte los resultados de JMH a entradas de la línea base,
+     * con clave "Clase.metodo(param=valor,...)"
+     */
+    private static Map<String, BenchmarkBaseline.Result> toResults(Collection<RunResult> runResults) {
+        Map<String, BenchmarkBaseline.Result> results = new HashMap<>();
+        for (RunResult run : runResults) {
+            var params = run.getParams();
+            String benchmark = params.getBenchmark();
+            String name = benchmark.substring(benchmark.lastIndexOf('.', benchmark.lastIndexOf('.') - 1) + 1);
+            if (!params.getParamsKeys().isEmpty()) {
+                name += params.getParamsKeys().stream()
+                    .map(key -> key + "=" + params.getParam(key))
+                    .collect(Collectors.joining(",", "(", ")"));
+            }
+
+            var primary = run.getPrimaryResult();
+            var alloc = run.getSecondaryResults().get(ALLOC_METRIC);
+            results.put(name, new BenchmarkBaseline.Result(
+                params.getMode().shortLabel(),
+                primary.getScore(),
+                primary.getScoreError(),
+                primary.getScoreUnit(),
+                alloc != null ? alloc.getScore() : null));
+        }
+        return results;
+    }
+
+    private static void print(List<BenchmarkBaseline.Comparison> comparisons, Path baselineFile, double tolerance) {
+        System.out.printf("%nComparación con %s (tolerancia %.0f %%)%n", baselineFile, tolerance * 100);
+        System.out.printf("%-70s %-6s %14s %14s %-8s %8s  %s%n",
+            "Benchmark", "Métrica", "Línea base", "Actual", "Unidad", "Cambio", "Estado");
+        for (BenchmarkBaseline.Comparison comparison : comparisons) {
+            System.out.printf(Locale.ROOT, "%-70s %-6s %14s %14.3f %-8s %8s  %s%n",
+                comparison.benchmark(),
+                comparison.metric(),
+                comparison.baseline() != null ? String.format(Locale.ROOT, "%.3f", comparison.baseline()) : "-",
+                comparison.current(),
+                comparison.unit(),
+                comparison.baseline() != null ? String.format(Locale.ROOT, "%+.1f%%", comparison.change() * 100) : "-",
+                comparison.status());
+        }
+    }
+}
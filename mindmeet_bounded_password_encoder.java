@@ -0,0 +1,199 @@
+package com.deloitte.mindmeet.security;
+
+import com.deloitte.mindmeet.service.WorkerThreads;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * PasswordEncoder BCrypt que ejecuta el hashing en un pool dedicado y acotado
+ *
+ * Los hashes BCrypt son costosos en CPU; ejecutarlos en los hilos de Tomcat
+ * durante un pico de logins deja sin CPU a las peticiones de lectura. Aquí
+ * como máximo {@code threads} hashes se calculan a la vez, con una cola de
+ * {@code queueCapacity}. Si la cola está llena, o la espera supera
+ * {@code maxWaitMillis}, se lanza {@link PasswordHashingBusyException} de
+ * inmediato en lugar de acumular peticiones.
+ *
+ * Las importaciones masivas usan un pool propio de {@code threads / 2}
+ * hilos ({@link #encodeAll}): no compiten por la cola de los logins ni
+ * reciben rechazos por ella, y el hilo que importa espera bloqueado a que
+ * haya un hilo libre en lugar de reintentar.
+ *
+ * Los pools usan siempre hilos de plataforma, también con hilos virtuales
+ * habilitados: BCrypt no se bloquea en E/S, y con hilos virtuales solo
+ * ocuparía los hilos portadores. El hilo de la petición (virtual o no) espera
+ * el resultado sin consumir CPU.
+ *
+ * @author MindMeet Team
+ * @version 1.0
+ */
+@Slf4j
+public class BoundedPasswordEncoder implements PasswordEncoder, AutoCloseable {
+
+    private final BCryptPasswordEncoder delegate;
+    private final ThreadPoolExecutor executor;
+    private final ThreadPoolExecutor bulkExecutor;
+    private final long maxWaitMillis;
+    private final long retryAfterSeconds;
+    private final int bulkParallelism;
+
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+    private final Timer queueWaitTimer;
+
+    /**
+     * @param strength Costo de BCrypt (4-31)
+     * @param threads Hashes simultáneos
+     * @param queueCapacity Solicitudes en espera antes de rechazar
+     * @param maxWaitMillis Espera máxima total de una solicitud
+     * @param retryAfterSeconds Valor sugerido para Retry-After
+     * @param meterRegistry Registro de métricas
+     */
+    public BoundedPasswordEncoder(int strength, int threads, int queueCapacity,
+                                  long maxWaitMillis, long retryAfterSeconds,
+                                  MeterRegistry meterRegistry) {
+        this.delegate = new BCryptPasswordEncoder(strength);
+        this.maxWaitMillis = maxWaitMillis;
+        this.retryAfterSeconds = retryAfterSeconds;
+        this.bulkParallelism = Math.max(1, threads / 2);
+
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(queueCapacity),
+            WorkerThreads.platform("password-hashing"),
+            new ThreadPoolExecutor.AbortPolicy());
+
+        // encodeAll limita con un semáforo las tareas en curso a bulkParallelism,
+        // así que esta cola nunca se llena
+        this.bulkExecutor = new ThreadPoolExecutor(bulkParallelism, bulkParallelism, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(bulkParallelism),
+            WorkerThreads.platform("password-import"),
+            new ThreadPoolExecutor.AbortPolicy());
+
+        this.encodeTimer = Timer.builder("mindmeet.password.hash")
+            .description("Tiempo de cálculo de un hash BCrypt")
+            .tag("operation", "encode")
+            .register(meterRegistry);
+        this.matchesTimer = Timer.builder("mindmeet.password.hash")
+            .description("Tiempo de cálculo de un hash BCrypt")
+            .tag("operation", "matches")
+            .register(meterRegistry);
+        this.queueWaitTimer = Timer.builder("mindmeet.password.queue.wait")
+            .description("Tiempo de espera en la cola de hashing")
+            .register(meterRegistry);
+        Gauge.builder("mindmeet.password.queue.size", executor, pool -> pool.getQueue().size())
+            .description("Solicitudes de hashing en espera")
+            .register(meterRegistry);
+
+        log.info("Hashing BCrypt: costo {}, {} hilos, cola {}", strength, threads, queueCapacity);
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return submit(() -> delegate.encode(rawPassword), encodeTimer);
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return submit(() -> delegate.matches(rawPassword, encodedPassword), matchesTimer);
+    }
+
+    /**
+     * Calcula los hashes de varias contraseñas en paralelo (importaciones masivas)
+     * Se ejecuta en el pool de importación, con como máximo la mitad de hilos
+     * que el de logins, para que los logins interactivos sigan encontrando
+     * hilos libres. El hilo llamador se bloquea en el semáforo mientras todos
+     * los hilos de importación están ocupados.
+     *
+     * @param rawPasswords Contraseñas en claro
+     * @return Hashes en el mismo orden
+     */
+    public List<String> encodeAll(List<? extends CharSequence> rawPasswords) {
+        Semaphore permits = new Semaphore(bulkParallelism);
+        List<Future<String>> futures = new ArrayList<>(rawPasswords.size());
+        try {
+            for (CharSequence rawPassword : rawPasswords) {
+                permits.acquire();
+                futures.add(bulkExecutor.submit(() -> {
+                    try {
+                        return encodeTimer.recordCallable(() -> delegate.encode(rawPassword));
+                    } finally {
+                        permits.release();
+                    }
+                }));
+            }
+
+            List<String> hashes = new ArrayList<>(futures.size());
+            for (Future<String> future : futures) {
+                hashes.add(future.get());
+            }
+            return hashes;
+        } catch (InterruptedException e) {
+            futures.forEach(future -> future.cancel(true));
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Hashing de contraseñas interrumpido", e);
+        } catch (ExecutionException e) {
+            futures.forEach(future -> future.cancel(true));
+            throw new IllegalStateException("Error al calcular el hash de la contraseña", e.getCause());
+        }
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    /**
+     * Ejecuta la operación en el pool y espera su resultado
+     */
+    private <T> T submit(Callable<T> operation, Timer hashTimer) {
+        long submittedAt = System.nanoTime();
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                queueWaitTimer.record(System.nanoTime() - submittedAt, TimeUnit.NANOSECONDS);
+                return hashTimer.recordCallable(operation);
+            });
+        } catch (RejectedExecutionException e) {
+            throw new PasswordHashingBusyException(retryAfterSeconds);
+        }
+
+        try {
+            return future.get(maxWaitMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            throw new PasswordHashingBusyException(retryAfterSeconds);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Hashing de contraseña interrumpido", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Error al calcular el hash de la contraseña", cause);
+        }
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+        bulkExecutor.shutdownNow();
+    }
+}
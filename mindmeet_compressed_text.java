@@ -0,0 +1,106 @@
+package com.deloitte.mindmeet.model;
+
+import org.hibernate.annotations.Immutable;
+
+import java.io.Reader;
+import java.io.StringReader;
+
+/**
+ * Texto almacenado comprimido, descomprimido solo cuando se lee
+ *
+ * Al cargar una entidad Hibernate solo materializa los bytes comprimidos;
+ * {@link #text()} los descomprime la primera vez que se invoca y conserva
+ * el resultado. Un valor creado con {@link #of(String)} se comprime al
+ * escribirse en la base de datos.
+ *
+ * Es inmutable: Hibernate no necesita copiarlo para detectar cambios.
+ *
+ * @author MindMeet Team
+ * @version 1.0
+ */
+@Immutable
+public final class CompressedText {
+
+    private final byte[] compressed;
+    private final Codec codec;
+    private volatile String text;
+
+    private CompressedText(byte[] compressed, Codec codec, String text) {
+        this.compressed = compressed;
+        this.codec = codec;
+        this.text = text;
+    }
+
+    /**
+     * Crea un valor a partir de texto plano; se comprime al guardarse
+     *
+     * @param text Texto
+     * @return Valor, o null si el texto es null
+     */
+    public static CompressedText of(String text) {
+        return text != null ? new CompressedText(null, null, text) : null;
+    }
+
+    /**
+     * Crea un valor a partir de bytes leídos de la base de datos
+     *
+     * @param compressed Bytes comprimidos
+     * @param codec Codec con el que se descomprimirán
+     * @return Valor sin descomprimir
+     */
+    public static CompressedText ofCompressed(byte[] compressed, Codec codec) {
+        return new CompressedText(compressed, codec, null);
+    }
+
+    /**
+     * Texto descomprimido (se descomprime una sola vez)
+     *
+     * @return Texto plano
+     */
+    public String text() {
+        String value = text;
+        if (value == null) {
+            value = codec.decode(compressed);
+            text = value;
+        }
+        return value;
+    }
+
+    /**
+     * Lector del texto que descomprime a medida que se consume,
+     * sin materializar el texto completo
+     *
+     * @return Lector del texto
+     */
+    public Reader reader() {
+        String value = text;
+        return value != null ? new StringReader(value) : codec.reader(compressed);
+    }
+
+    /**
+     * Bytes a guardar en la base de datos
+     *
+     * @param encoder Codec con el que comprimir si el valor aún no está comprimido
+     * @return Bytes comprimidos
+     */
+    public byte[] compressed(Codec encoder) {
+        return compressed != null ? compressed : encoder.encode(text);
+    }
+
+    @Override
+    public String toString() {
+        return text();
+    }
+
+    /**
+     * Compresión y descompresión de texto
+     */
+    public interface Codec {
+
+        byte[] encode(String text);
+
+        String decode(byte[] compressed);
+
+        Reader reader(byte[] compressed);
+    }
+}
@@ -0,0 +1,32 @@
+package com.deloitte.mindmeet.model;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+/**
+ * Convierte {@link CompressedText} a la columna binaria comprimida
+ * Hibernate lo crea mediante el contenedor de beans de Spring, que
+ * inyecta el codec configurado
+ *
+ * @author MindMeet Team
+ * @version 1.0
+ */
+@Converter
+public class CompressedTextConverter implements AttributeConverter<CompressedText, byte[]> {
+
+    private final CompressedText.Codec codec;
+
+    public CompressedTextConverter(CompressedText.Codec codec) {
+        this.codec = codec;
+    }
+
+    @Override
+    public byte[] convertToDatabaseColumn(CompressedText value) {
+        return value != null ? value.compressed(codec) : null;
+    }
+
+    @Override
+    public CompressedText convertToEntityAttribute(byte[] compressed) {
+        return compressed != null ? CompressedText.ofCompressed(compressed, codec) : null;
+    }
+}
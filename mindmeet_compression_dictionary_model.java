@@ -0,0 +1,55 @@
+package com.deloitte.mindmeet.model;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * Entidad que representa un diccionario de compresión de textos
+ * Se entrena con una muestra de transcripciones y resúmenes. Los textos
+ * comprimidos guardan el ID del diccionario usado, por lo que los
+ * diccionarios anteriores se conservan para poder descomprimirlos
+ *
+ * @author MindMeet Team
+ * @version 1.0
+ */
+@Entity
+@Table(name = "compression_dictionaries")
+@Data
+@NoArgsConstructor
+public class CompressionDictionary {
+
+    /**
+     * CRC32 del contenido del diccionario (clave primaria)
+     */
+    @Id
+    private Integer id;
+
+    /**
+     * Contenido del diccionario (máximo 32 KB, ventana de Deflate)
+     */
+    @Column(nullable = false, columnDefinition = "BYTEA")
+    private byte[] data;
+
+    /**
+     * Número de textos usados para entrenarlo
+     */
+    @Column(nullable = false)
+    private Integer sampleCount;
+
+    /**
+     * Fecha de creación; el diccionario más reciente es el activo
+     */
+    @CreationTimestamp
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    public CompressionDictionary(Integer id, byte[] data, Integer sampleCount) {
+        this.id = id;
+        this.data = data;
+        this.sampleCount = sampleCount;
+    }
+}
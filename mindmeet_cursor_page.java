@@ -0,0 +1,36 @@
+package com.deloitte.mindmeet.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Página de resultados paginada por cursor
+ * No incluye el total de elementos: evita la consulta COUNT en cada página
+ *
+ * @param <T> Tipo de los elementos
+ * @author MindMeet Team
+ * @version 1.0
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPage<T> {
+
+    /**
+     * Elementos de la página
+     */
+    private List<T> content;
+
+    /**
+     * Cursor opaco para pedir la página siguiente; null si no hay más
+     */
+    private String nextCursor;
+
+    /**
+     * Tamaño de página solicitado
+     */
+    private int size;
+}
@@ -0,0 +1,75 @@
+package com.deloitte.mindmeet.security;
+
+import com.deloitte.mindmeet.dto.UserSnapshot;
+import com.deloitte.mindmeet.service.UserLookupService;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Filtro que autentica cada petición con el JWT de la cabecera Authorization
+ *
+ * El token se verifica con {@link VerifiedTokenCache}: solo la primera
+ * petición con un token parsea el JWT y verifica su firma; las siguientes
+ * se resuelven por su digest hasta el exp del token, y los tokens revocados
+ * se rechazan aunque estén en cache. Los roles se leen de la copia del
+ * usuario en el cache usersByEmail, sin consultar la base de datos.
+ *
+ * @author MindMeet Team
+ * @version 1.0
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class JwtAuthenticationFilter extends OncePerRequestFilter {
+
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final UserLookupService userLookupService;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        String header = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (header != null && header.startsWith(BEARER_PREFIX)
+                && SecurityContextHolder.getContext().getAuthentication() == null) {
+            authenticate(header.substring(BEARER_PREFIX.length()).trim(), request);
+        }
+        filterChain.doFilter(request, response);
+    }
+
+    private void authenticate(String token, HttpServletRequest request) {
+        try {
+            verifiedTokenCache.verify(token)
+                .flatMap(verified -> userLookupService.findByEmail(verified.email()))
+                .filter(UserSnapshot::active)
+                .ifPresent(user -> {
+                    List<SimpleGrantedAuthority> authorities = user.roles().stream()
+                        .map(SimpleGrantedAuthority::new)
+                        .collect(Collectors.toList());
+                    UsernamePasswordAuthenticationToken authentication =
+                        new UsernamePasswordAuthenticationToken(user.email(), null, authorities);
+                    authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+                    SecurityContextHolder.getContext().setAuthentication(authentication);
+                });
+        } catch (Exception e) {
+            // Un token inválido deja la petición sin autenticar; Spring Security responde 401
+            log.debug("No se pudo autenticar la petición con JWT: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.deloitte.mindmeet.security;
+
+import com.deloitte.mindmeet.service.LiveTranscriptionService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.server.HandshakeInterceptor;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Autentica y autoriza el handshake de la transcripción en vivo
+ *
+ * Los navegadores no permiten cabeceras propias en un WebSocket, por lo que
+ * el JWT se acepta en la cabecera Authorization o en el parámetro
+ * access_token. Solo el organizador de una reunión IN_PROGRESS puede
+ * conectarse; el ID de reunión y el email quedan en los atributos de la sesión.
+ *
+ * @author MindMeet Team
+ * @version 1.0
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class LiveTranscriptionHandshakeInterceptor implements HandshakeInterceptor {
+
+    public static final String MEETING_ID_ATTRIBUTE = "meetingId";
+    public static final String USER_EMAIL_ATTRIBUTE = "userEmail";
+
+    private static final Pattern LIVE_PATH = Pattern.compile("/ws/meetings/(\\d+)/live$");
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final LiveTranscriptionService liveTranscriptionService;
+
+    @Override
+    public boolean beforeHandshake(ServerHttpRequest request, ServerHttpResponse response,
+                                   WebSocketHandler wsHandler, Map<String, Object> attributes) {
+        Matcher matcher = LIVE_PATH.matcher(request.getURI().getPath());
+        if (!matcher.find()) {
+            response.setStatusCode(HttpStatus.NOT_FOUND);
+            return false;
+        }
+        Long meetingId = Long.valueOf(matcher.group(1));
+
+        Optional<VerifiedTokenCache.VerifiedToken> token = resolveToken(request)
+            .flatMap(verifiedTokenCache::verify);
+        if (token.isEmpty()) {
+            response.setStatusCode(HttpStatus.UNAUTHORIZED);
+            return false;
+        }
+        String userEmail = token.get().email();
+
+        try {
+            liveTranscriptionService.authorize(meetingId, userEmail);
+        } catch (IllegalArgumentException e) {
+            log.debug("Transcripción en vivo rechazada para reunión {}: {}", meetingId, e.getMessage());
+            response.setStatusCode(HttpStatus.FORBIDDEN);
+            return false;
+        } catch (IllegalStateException e) {
+            response.setStatusCode(HttpStatus.SERVICE_UNAVAILABLE);
+            return false;
+        }
+
+        attributes.put(MEETING_ID_ATTRIBUTE, meetingId);
+        attributes.put(USER_EMAIL_ATTRIBUTE, userEmail);
+        return true;
+    }
+
+    @Override
+    public void afterHandshake(ServerHttpRequest request, ServerHttpResponse response,
+                               WebSocketHandler wsHandler, Exception exception) {
+        // Sin acciones posteriores al handshake
+    }
+
+    private Optional<String> resolveToken(ServerHttpRequest request) {
+        String header = request.getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
+        if (header != null && header.startsWith(BEARER_PREFIX)) {
+            return Optional.of(header.substring(BEARER_PREFIX.length()));
+        }
+        return Optional.ofNullable(UriComponentsBuilder.fromUri(request.getURI())
+            .build()
+            .getQueryParams()
+            .getFirst("access_token"));
+    }
+}
@@ -0,0 +1,335 @@
+package com.deloitte.mindmeet.service;
+
+import com.deloitte.mindmeet.repository.MeetingRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Servicio de transcripción en vivo de reuniones en curso
+ *
+ * El organizador envía el audio por WebSocket mientras la reunión está
+ * IN_PROGRESS. Cada fragmento pasa por el {@link StreamingTranscriber}; el
+ * texto confirmado se acumula y se agrega a la transcripción (bloqueando
+ * la fila) cada cierto número de caracteres o de segundos, y tanto
+ * el texto confirmado como el parcial se publican a los participantes
+ * suscritos a los eventos de la reunión. Al finalizar la reunión se vuelca
+ * el texto pendiente, de modo que la transcripción ya está casi completa.
+ * Si la reunión se finaliza en otra instancia, esta lo detecta en el
+ * siguiente volcado (como mucho flush-interval-ms después), guarda el texto
+ * pendiente y el restante del transcriptor, y cierra la sesión.
+ *
+ * Hay como máximo una sesión en vivo por reunión en cada instancia.
+ *
+ * @author MindMeet Team
+ * @version 1.0
+ */
+@Service
+@Slf4j
+public class LiveTranscriptionService {
+
+    private final MeetingRepository meetingRepository;
+    private final ObjectProvider<StreamingTranscriber> transcriber;
+    private final MeetingEventPublisher eventPublisher;
+    private final MeetingSearchIndexer searchIndexer;
+    private final TransactionTemplate appendTransaction;
+
+    private final Counter appendedChars;
+    private final Map<Long, LiveSession> sessions = new ConcurrentHashMap<>();
+
+    @Value("${mindmeet.live-transcription.flush-chars:2000}")
+    private int flushChars;
+
+    public LiveTranscriptionService(
+            MeetingRepository meetingRepository,
+            ObjectProvider<StreamingTranscriber> transcriber,
+            MeetingEventPublisher eventPublisher,
+            MeetingSearchIndexer searchIndexer,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry) {
+        this.meetingRepository = meetingRepository;
+        this.transcriber = transcriber;
+        this.eventPublisher = eventPublisher;
+        this.searchIndexer = searchIndexer;
+
+        // El texto confirmado se guarda aunque falle la transacción que provoca el volcado
+        this.appendTransaction = new TransactionTemplate(transactionManager);
+        this.appendTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        this.appendedChars = Counter.builder("mindmeet.live-transcription.chars")
+            .description("Caracteres agregados a transcripciones en vivo")
+            .register(meterRegistry);
+        Gauge.builder("mindmeet.live-transcription.sessions", sessions, Map::size)
+            .description("Sesiones de transcripción en vivo abiertas")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Verifica que el usuario puede transmitir audio de la reunión
+     *
+     * @param meetingId ID de la reunión
+     * @param userEmail Email del usuario
+     * @throws IllegalArgumentException si no es el organizador o la reunión no está en curso
+     * @throws IllegalStateException si no hay un transcriptor en streaming configurado
+     */
+    @Transactional(readOnly = true)
+    public void authorize(Long meetingId, String userEmail) {
+        MeetingStatus status = meetingRepository.findStatusForOrganizer(meetingId, userEmail)
+            .orElseThrow(() -> new IllegalArgumentException("Solo el organizador puede transmitir audio de la reunión"));
+
+        if (status != MeetingStatus.IN_PROGRESS) {
+            throw new IllegalArgumentException("La reunión no está en curso");
+        }
+        if (transcriber.getIfAvailable() == null) {
+            throw new IllegalStateException("Transcripción en vivo no disponible");
+        }
+    }
+
+    /**
+     * Abre la sesión en vivo de una reunión
+     *
+     * @param meetingId ID de la reunión
+     * @param userEmail Email del organizador
+     * @param listener Recibe los resultados y el cierre de la sesión
+     * @throws IllegalStateException si la reunión ya tiene una sesión abierta
+     */
+    public void open(Long meetingId, String userEmail, Listener listener) {
+        StreamingTranscriber streamingTranscriber = transcriber.getIfAvailable();
+        if (streamingTranscriber == null) {
+            throw new IllegalStateException("Transcripción en vivo no disponible");
+        }
+
+        LiveSession session = new LiveSession(meetingId, userEmail, listener, streamingTranscriber.open(meetingId));
+        if (sessions.putIfAbsent(meetingId, session) != null) {
+            session.stream.close();
+            throw new IllegalStateException("La reunión ya tiene una transcripción en vivo");
+        }
+
+        log.info("Transcripción en vivo iniciada para reunión ID: {}", meetingId);
+    }
+
+    /**
+     * Procesa un fragmento de audio de la sesión
+     *
+     * @param meetingId ID de la reunión
+     * @param audio Audio recibido
+     * @throws IOException si el transcriptor falla
+     * @throws IllegalStateException si la sesión no existe o la reunión ya no está en curso
+     */
+    public void onAudio(Long meetingId, ByteBuffer audio) throws IOException {
+        LiveSession session = sessions.get(meetingId);
+        if (session == null) {
+            throw new IllegalStateException("No hay transcripción en vivo para la reunión " + meetingId);
+        }
+
+        boolean appended;
+        session.lock.lock();
+        try {
+            StreamingTranscriber.StreamingResult result = session.stream.accept(audio);
+            session.add(result);
+            appended = session.pending.length() < flushChars || flush(session);
+        } finally {
+            session.lock.unlock();
+        }
+        if (!appended) {
+            close(meetingId, "La reunión ya no está en curso");
+        }
+    }
+
+    /**
+     * Cierra la sesión cuando el cliente se desconecta, volcando el texto pendiente
+     *
+     * @param meetingId ID de la reunión
+     * @param listener Listener con el que se abrió la sesión
+     */
+    public void disconnect(Long meetingId, Listener listener) {
+        LiveSession session = sessions.get(meetingId);
+        // Una conexión rechazada por duplicada no debe cerrar la sesión existente
+        if (session != null && session.listener == listener && sessions.remove(meetingId, session)) {
+            complete(session);
+        }
+    }
+
+    /**
+     * Vuelca el texto pendiente y cierra la sesión antes de finalizar la reunión
+     * No hace nada si la reunión no tiene sesión en vivo o la abrió otro usuario
+     *
+     * @param meetingId ID de la reunión
+     * @param userEmail Email del usuario que finaliza la reunión
+     */
+    public void finishSession(Long meetingId, String userEmail) {
+        LiveSession session = sessions.get(meetingId);
+        if (session == null || !session.userEmail.equals(userEmail)) {
+            return;
+        }
+        close(meetingId, "Reunión finalizada");
+    }
+
+    /**
+     * Vuelca periódicamente el texto pendiente de todas las sesiones
+     */
+    @Scheduled(fixedDelayString = "${mindmeet.live-transcription.flush-interval-ms:5000}")
+    public void flushPending() {
+        sessions.forEach((meetingId, session) -> {
+            boolean appended;
+            session.lock.lock();
+            try {
+                appended = flush(session);
+            } finally {
+                session.lock.unlock();
+            }
+            if (!appended) {
+                close(meetingId, "La reunión ya no está en curso");
+            }
+        });
+    }
+
+    private void close(Long meetingId, String reason) {
+        LiveSession session = sessions.remove(meetingId);
+        if (session != null) {
+            complete(session);
+            session.listener.onClosed(reason);
+        }
+    }
+
+    /**
+     * Confirma el texto restante del transcriptor y lo vuelca
+     */
+    private void complete(LiveSession session) {
+        session.lock.lock();
+        try {
+            try {
+                session.add(session.stream.finish());
+            } catch (IOException e) {
+                log.warn("Error al finalizar la transcripción en vivo de la reunión {}: {}",
+                    session.meetingId, e.getMessage());
+            } finally {
+                session.stream.close();
+            }
+            flush(session);
+        } finally {
+            session.lock.unlock();
+        }
+        searchIndexer.reindexAfterCommit(session.meetingId);
+        log.info("Transcripción en vivo cerrada para reunión ID: {}", session.meetingId);
+    }
+
+    /**
+     * Agrega el texto pendiente a la transcripción de la reunión
+     *
+     * Si la reunión ya se finalizó (por ejemplo, desde otra instancia) el
+     * texto pendiente también se guarda: se reconoció antes de que esta
+     * instancia viera el cambio de estado, y la sesión se cierra a
+     * continuación. Solo se descarta si la reunión se canceló o eliminó.
+     *
+     * @return false si la reunión ya no está en curso y la sesión debe cerrarse
+     */
+    private boolean flush(LiveSession session) {
+        if (session.pending.length() == 0) {
+            return true;
+        }
+
+        String text = session.pending.toString();
+        MeetingStatus status = appendTransaction.execute(transaction ->
+            meetingRepository.findByIdForUpdate(session.meetingId)
+                .map(meeting -> {
+                    if (meeting.getStatus() == MeetingStatus.IN_PROGRESS
+                            || meeting.getStatus() == MeetingStatus.COMPLETED) {
+                        meeting.appendTranscript(text);
+                    }
+                    return meeting.getStatus();
+                })
+                .orElse(null));
+        session.pending.setLength(0);
+
+        if (status != MeetingStatus.IN_PROGRESS && status != MeetingStatus.COMPLETED) {
+            log.warn("Se descartaron {} caracteres de la reunión {}: ya no está en curso",
+                text.length(), session.meetingId);
+            return false;
+        }
+        appendedChars.increment(text.length());
+        if (status == MeetingStatus.COMPLETED) {
+            log.info("Reunión {} finalizada durante la transcripción en vivo: se guardaron los {} caracteres pendientes",
+                session.meetingId, text.length());
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Recibe los resultados de una sesión en vivo
+     */
+    public interface Listener {
+
+        /**
+         * Texto reconocido en el último fragmento
+         *
+         * @param result Texto confirmado y parcial
+         */
+        void onResult(StreamingTranscriber.StreamingResult result);
+
+        /**
+         * La sesión fue cerrada por el servidor
+         *
+         * @param reason Motivo del cierre
+         */
+        void onClosed(String reason);
+    }
+
+    /**
+     * Estado de una sesión en vivo; se accede con su lock
+     *
+     * Es un ReentrantLock y no un bloque synchronized porque se mantiene
+     * durante la transcripción y la escritura en la base de datos: en Java 21
+     * un hilo virtual bloqueado dentro de synchronized retiene su hilo portador.
+     */
+    private final class LiveSession {
+
+        private final Long meetingId;
+        private final String userEmail;
+        private final Listener listener;
+        private final StreamingTranscriber.Stream stream;
+        private final StringBuilder pending = new StringBuilder();
+        private final ReentrantLock lock = new ReentrantLock();
+
+        private LiveSession(Long meetingId, String userEmail, Listener listener,
+                            StreamingTranscriber.Stream stream) {
+            this.meetingId = meetingId;
+            this.userEmail = userEmail;
+            this.listener = listener;
+            this.stream = stream;
+        }
+
+        private void add(StreamingTranscriber.StreamingResult result) {
+            if (!result.hasText()) {
+                return;
+            }
+            if (!result.finalText().isEmpty()) {
+                if (pending.length() > 0) {
+                    pending.append(' ');
+                }
+                pending.append(result.finalText());
+                eventPublisher.publishTranscript(meetingId, result.finalText(), false);
+            }
+            if (!result.partialText().isEmpty()) {
+                eventPublisher.publishTranscript(meetingId, result.partialText(), true);
+            }
+            listener.onResult(result);
+        }
+    }
+}
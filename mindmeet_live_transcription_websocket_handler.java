@@ -0,0 +1,129 @@
+package com.deloitte.mindmeet.controller;
+
+import com.deloitte.mindmeet.security.LiveTranscriptionHandshakeInterceptor;
+import com.deloitte.mindmeet.service.LiveTranscriptionService;
+import com.deloitte.mindmeet.service.StreamingTranscriber;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.BinaryMessage;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.BinaryWebSocketHandler;
+import org.springframework.web.socket.handler.ConcurrentWebSocketSessionDecorator;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Handler WebSocket de la transcripción en vivo
+ *
+ * Endpoint: /ws/meetings/{id}/live
+ * - Mensajes binarios del cliente: fragmentos de audio PCM
+ * - Mensajes de texto del servidor: {"finalText": "...", "partialText": "..."}
+ *
+ * El resto de participantes recibe el mismo texto por
+ * GET /api/meetings/{id}/events (evento "transcript").
+ *
+ * @author MindMeet Team
+ * @version 1.0
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class LiveTranscriptionWebSocketHandler extends BinaryWebSocketHandler {
+
+    private final LiveTranscriptionService liveTranscriptionService;
+    private final ObjectMapper objectMapper;
+
+    @Value("${mindmeet.live-transcription.send-time-limit-ms:5000}")
+    private int sendTimeLimitMs;
+
+    @Value("${mindmeet.live-transcription.send-buffer-bytes:262144}")
+    private int sendBufferBytes;
+
+    /**
+     * Listener de cada conexión, por ID de sesión WebSocket
+     */
+    private final Map<String, SessionListener> listeners = new ConcurrentHashMap<>();
+
+    @Override
+    public void afterConnectionEstablished(WebSocketSession session) throws IOException {
+        Long meetingId = meetingId(session);
+        String userEmail = (String) session.getAttributes().get(LiveTranscriptionHandshakeInterceptor.USER_EMAIL_ATTRIBUTE);
+
+        SessionListener listener = new SessionListener(
+            new ConcurrentWebSocketSessionDecorator(session, sendTimeLimitMs, sendBufferBytes));
+        try {
+            liveTranscriptionService.open(meetingId, userEmail, listener);
+        } catch (IllegalStateException e) {
+            session.close(CloseStatus.POLICY_VIOLATION.withReason(e.getMessage()));
+            return;
+        }
+        listeners.put(session.getId(), listener);
+    }
+
+    @Override
+    protected void handleBinaryMessage(WebSocketSession session, BinaryMessage message) throws IOException {
+        Long meetingId = meetingId(session);
+        try {
+            liveTranscriptionService.onAudio(meetingId, message.getPayload());
+        } catch (IllegalStateException e) {
+            session.close(CloseStatus.NORMAL.withReason(e.getMessage()));
+        } catch (IOException e) {
+            log.error("Error en la transcripción en vivo de la reunión {}: {}", meetingId, e.getMessage());
+            session.close(CloseStatus.SERVER_ERROR.withReason("Error de transcripción"));
+        }
+    }
+
+    @Override
+    public void handleTransportError(WebSocketSession session, Throwable exception) {
+        log.debug("Error de transporte en transcripción en vivo: {}", exception.getMessage());
+    }
+
+    @Override
+    public void afterConnectionClosed(WebSocketSession session, CloseStatus status) {
+        SessionListener listener = listeners.remove(session.getId());
+        if (listener != null) {
+            liveTranscriptionService.disconnect(meetingId(session), listener);
+        }
+    }
+
+    private static Long meetingId(WebSocketSession session) {
+        return (Long) session.getAttributes().get(LiveTranscriptionHandshakeInterceptor.MEETING_ID_ATTRIBUTE);
+    }
+
+    /**
+     * Devuelve los resultados al cliente que envía el audio
+     */
+    private final class SessionListener implements LiveTranscriptionService.Listener {
+
+        private final WebSocketSession session;
+
+        private SessionListener(WebSocketSession session) {
+            this.session = session;
+        }
+
+        @Override
+        public void onResult(StreamingTranscriber.StreamingResult result) {
+            try {
+                session.sendMessage(new TextMessage(objectMapper.writeValueAsString(result)));
+            } catch (IOException | IllegalStateException e) {
+                log.debug("No se pudo enviar el resultado al cliente: {}", e.getMessage());
+            }
+        }
+
+        @Override
+        public void onClosed(String reason) {
+            try {
+                session.close(CloseStatus.NORMAL.withReason(reason));
+            } catch (IOException e) {
+                log.debug("Error al cerrar la sesión WebSocket: {}", e.getMessage());
+            }
+        }
+    }
+}
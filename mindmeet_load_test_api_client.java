@@ -0,0 +1,171 @@
+package com.deloitte.mindmeet.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.UUID;
+
+/**
+ * Cliente HTTP de la prueba de carga
+ *
+ * Cada llamada registra su latencia en {@link LatencyReport} con el nombre
+ * del endpoint (no la URL concreta), tanto si responde bien como si falla.
+ * Las respuestas no 2xx cuentan como error.
+ *
+ * @author MindMeet Team
+ * @version 1.0
+ */
+class LoadTestApiClient {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final HttpClient httpClient;
+    private final String baseUrl;
+    private final Duration requestTimeout;
+
+    LoadTestApiClient(String baseUrl, Duration requestTimeout) {
+        this.baseUrl = baseUrl;
+        this.requestTimeout = requestTimeout;
+        this.httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(10))
+            .build();
+    }
+
+    /**
+     * Registra un usuario y devuelve su token
+     */
+    String register(LatencyReport report, String fullName, String email, String password) {
+        JsonNode body = send(report, "POST /api/auth/register", json("/api/auth/register", null)
+            .POST(body(MAPPER.createObjectNode()
+                .put("fullName", fullName)
+                .put("email", email)
+                .put("password", password))));
+        return body != null ? body.path("token").asText(null) : null;
+    }
+
+    /**
+     * Inicia sesión y devuelve el token
+     */
+    String login(LatencyReport report, String email, String password) {
+        JsonNode body = send(report, "POST /api/auth/login", json("/api/auth/login", null)
+            .POST(body(MAPPER.createObjectNode()
+                .put("email", email)
+                .put("password", password))));
+        return body != null ? body.path("token").asText(null) : null;
+    }
+
+    /**
+     * Crea una reunión y devuelve su ID
+     */
+    Long createMeeting(LatencyReport report, String token, String title, String... participantEmails) {
+        var request = MAPPER.createObjectNode()
+            .put("title", title)
+            .put("description", "Reunión generada por la prueba de carga");
+        var participants = request.putArray("participantEmails");
+        for (String email : participantEmails) {
+            participants.add(email);
+        }
+
+        JsonNode body = send(report, "POST /api/meetings", json("/api/meetings", token).POST(body(request)));
+        return body != null && body.hasNonNull("id") ? body.get("id").asLong() : null;
+    }
+
+    boolean listMeetings(LatencyReport report, String token) {
+        return send(report, "GET /api/meetings", json("/api/meetings?page=0&size=20", token).GET()) != null;
+    }
+
+    boolean getMeeting(LatencyReport report, String token, long id) {
+        return send(report, "GET /api/meetings/{id}", json("/api/meetings/" + id, token).GET()) != null;
+    }
+
+    boolean startMeeting(LatencyReport report, String token, long id) {
+        return send(report, "POST /api/meetings/{id}/start",
+            json("/api/meetings/" + id + "/start", token).POST(HttpRequest.BodyPublishers.noBody())) != null;
+    }
+
+    boolean finishMeeting(LatencyReport report, String token, long id) {
+        return send(report, "POST /api/meetings/{id}/finish",
+            json("/api/meetings/" + id + "/finish", token).POST(HttpRequest.BodyPublishers.noBody())) != null;
+    }
+
+    boolean getStats(LatencyReport report, String token) {
+        return send(report, "GET /api/meetings/stats", json("/api/meetings/stats", token).GET()) != null;
+    }
+
+    /**
+     * Sube una grabación como multipart/form-data
+     */
+    boolean uploadRecording(LatencyReport report, String token, long id, byte[] wav) {
+        String boundary = "----mindmeet-" + UUID.randomUUID();
+        ByteArrayOutputStream multipart = new ByteArrayOutputStream(wav.length + 256);
+        multipart.writeBytes(("--" + boundary + "\r\n"
+            + "Content-Disposition: form-data; name=\"file\"; filename=\"recording.wav\"\r\n"
+            + "Content-Type: audio/wav\r\n\r\n").getBytes(StandardCharsets.UTF_8));
+        multipart.writeBytes(wav);
+        multipart.writeBytes(("\r\n--" + boundary + "--\r\n").getBytes(StandardCharsets.UTF_8));
+
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(baseUrl + "/api/meetings/" + id + "/upload-recording"))
+            .timeout(requestTimeout)
+            .header("Authorization", "Bearer " + token)
+            .header("Content-Type", "multipart/form-data; boundary=" + boundary)
+            .POST(HttpRequest.BodyPublishers.ofByteArray(multipart.toByteArray()));
+        return send(report, "POST /api/meetings/{id}/upload-recording", request) != null;
+    }
+
+    private HttpRequest.Builder json(String path, String token) {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(baseUrl + path))
+            .timeout(requestTimeout)
+            .header("Content-Type", "application/json")
+            .header("Accept", "application/json");
+        if (token != null) {
+            request.header("Authorization", "Bearer " + token);
+        }
+        return request;
+    }
+
+    private static HttpRequest.BodyPublisher body(Object value) {
+        try {
+            return HttpRequest.BodyPublishers.ofByteArray(MAPPER.writeValueAsBytes(value));
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Envía la petición y registra su latencia
+     *
+     * @return Cuerpo JSON (nodo vacío si no es JSON), o null si falló
+     */
+    private JsonNode send(LatencyReport report, String endpoint, HttpRequest.Builder request) {
+        long start = System.nanoTime();
+        try {
+            HttpResponse<byte[]> response = httpClient.send(request.build(), HttpResponse.BodyHandlers.ofByteArray());
+            long elapsed = System.nanoTime() - start;
+            boolean success = response.statusCode() / 100 == 2;
+            report.record(endpoint, elapsed, success);
+            if (!success) {
+                return null;
+            }
+            try {
+                return MAPPER.readTree(response.body());
+            } catch (IOException e) {
+                return MAPPER.createObjectNode();
+            }
+        } catch (IOException e) {
+            report.record(endpoint, System.nanoTime() - start, false);
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+    }
+}
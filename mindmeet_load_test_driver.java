@@ -0,0 +1,352 @@
+package com.deloitte.mindmeet.loadtest;
+
+import com.deloitte.mindmeet.MindMeetApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Prueba de carga de la API con 100, 500 y 1000 usuarios concurrentes
+ * (escenarios de la sección 12.2.5 del informe técnico)
+ *
+ * Arranca la aplicación con el perfil development (H2 en memoria) en un
+ * puerto libre, o usa una instancia ya desplegada con --url. Registra e
+ * inicia sesión con usuarios sintéticos a través de AuthController y después
+ * cada usuario ejecuta en bucle una carga mixta sobre MeetingController:
+ * crear, listar, consultar, iniciar, finalizar, subir grabación y
+ * estadísticas. Es un modelo cerrado: cada usuario espera la respuesta y
+ * un tiempo de reflexión antes de la siguiente petición.
+ *
+ * Las latencias se registran por endpoint en histogramas HDR tras un
+ * periodo de calentamiento. Cada escenario imprime p50/p95/p99 y los
+ * compara con el objetivo de p95 (200 ms por defecto); el registro e inicio
+ * de sesión se informan sin evaluarse porque BCrypt es costoso a propósito.
+ * Termina con código 1 si algún escenario no cumple el objetivo.
+ *
+ * Con --threads=virtual la aplicación arranca con el perfil virtual-threads
+ * (requiere Java 21). Cada escenario informa además el rendimiento total, el
+ * heap usado y los hilos de plataforma, para comparar ambos modos con la
+ * misma carga; los reportes de cada modo llevan su nombre.
+ *
+ * Uso:
+ *   mvn -f benchmarks/pom.xml compile exec:java -Dexec.args="--users=100,500,1000"
+ *   mvn -f benchmarks/pom.xml compile exec:java -Dexec.args="--users=1000 --threads=virtual"
+ *
+ * Opciones: --users=, --duration-seconds=, --warmup-seconds=,
+ * --think-time-ms=, --p95-ms=, --threads=platform|virtual, --url=, --report-dir=
+ *
+ * @author MindMeet Team
+ * @version 1.0
+ */
+public final class LoadTestDriver {
+
+    private static final String PASSWORD = "CargaMindMeet.2025";
+    private static final String MEETING_ENDPOINTS = "/api/meetings";
+
+    private final LoadTestApiClient client;
+    private final Duration duration;
+    private final Duration warmup;
+    private final long thinkTimeMillis;
+    private final String threadMode;
+
+    /**
+     * Usuarios ya registrados, reutilizados entre escenarios
+     */
+    private final List<VirtualUser> users = new ArrayList<>();
+
+    private LoadTestDriver(LoadTestApiClient client, Duration duration, Duration warmup, long thinkTimeMillis,
+                           String threadMode) {
+        this.client = client;
+        this.duration = duration;
+        this.warmup = warmup;
+        this.thinkTimeMillis = thinkTimeMillis;
+        this.threadMode = threadMode;
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = parse(args);
+        List<Integer> levels = Arrays.stream(options.getOrDefault("users", "100,500,1000").split(","))
+            .map(String::trim)
+            .map(Integer::valueOf)
+            .collect(Collectors.toList());
+        Duration duration = Duration.ofSeconds(Long.parseLong(options.getOrDefault("duration-seconds", "60")));
+        Duration warmup = Duration.ofSeconds(Long.parseLong(options.getOrDefault("warmup-seconds", "15")));
+        long thinkTimeMillis = Long.parseLong(options.getOrDefault("think-time-ms", "500"));
+        long p95Objective = Long.parseLong(options.getOrDefault("p95-ms", "200"));
+        Path reportDirectory = Paths.get(options.getOrDefault("report-dir", "target/load-test"));
+        String threadMode = options.getOrDefault("threads", "platform");
+        boolean virtualThreads = threadMode.equals("virtual");
+        if (!virtualThreads && !threadMode.equals("platform")) {
+            throw new IllegalArgumentException("--threads debe ser platform o virtual");
+        }
+        if (virtualThreads && Runtime.version().feature() < 21) {
+            throw new IllegalStateException("--threads=virtual requiere Java 21");
+        }
+
+        ConfigurableApplicationContext application = null;
+        String baseUrl = options.get("url");
+        if (baseUrl == null) {
+            application = startApplication(virtualThreads);
+            baseUrl = "http://localhost:" + application.getEnvironment().getProperty("local.server.port")
+                + application.getEnvironment().getProperty("server.servlet.context-path", "");
+        }
+
+        boolean passed = true;
+        try {
+            LoadTestDriver driver = new LoadTestDriver(
+                new LoadTestApiClient(baseUrl, Duration.ofSeconds(30)), duration, warmup, thinkTimeMillis, threadMode);
+            for (int level : levels) {
+                for (LatencyReport report : driver.run(level)) {
+                    report.print(System.out, reportDirectory, MEETING_ENDPOINTS, p95Objective);
+                    passed &= report.meetsObjective(MEETING_ENDPOINTS, p95Objective);
+                }
+            }
+        } finally {
+            if (application != null) {
+                application.close();
+            }
+        }
+
+        System.out.println(passed
+            ? "\nObjetivo de p95 cumplido en todos los escenarios"
+            : "\nObjetivo de p95 no cumplido; ver " + reportDirectory);
+        System.exit(passed ? 0 : 1);
+    }
+
+    /**
+     * Arranca la aplicación con el perfil development en un puerto libre
+     * Transcripción con el motor segmentado y el transcriptor stub, sin SQL en el log
+     *
+     * @param virtualThreads true para agregar el perfil virtual-threads
+     */
+    private static ConfigurableApplicationContext startApplication(boolean virtualThreads) {
+        return new SpringApplicationBuilder(MindMeetApplication.class)
+            .profiles(virtualThreads ? new String[] {"development", "virtual-threads"} : new String[] {"development"})
+            .properties(
+                "server.port=0",
+                "spring.jpa.show-sql=false",
+                "logging.level.root=WARN",
+                "logging.level.com.deloitte.mindmeet=WARN",
+                "logging.level.org.hibernate.SQL=WARN",
+                "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN",
+                "mindmeet.transcription.transcriber=stub",
+                "mindmeet.transcription.segmented.enabled=true",
+                "storage.location=target/load-test/uploads",
+                "storage.recordings-path=target/load-test/uploads/recordings")
+            .run();
+    }
+
+    /**
+     * Ejecuta un escenario con el número indicado de usuarios concurrentes
+     *
+     * @return Reporte de la preparación (registro e inicio de sesión) y de la carga mixta
+     */
+    private List<LatencyReport> run(int concurrentUsers) throws InterruptedException {
+        LatencyReport setup = new LatencyReport(concurrentUsers + "-usuarios-" + threadMode + "-preparacion");
+        System.out.printf("%nPreparando %d usuarios...%n", concurrentUsers);
+        prepareUsers(concurrentUsers, setup);
+        setup.stop();
+
+        LatencyReport report = new LatencyReport(concurrentUsers + "-usuarios-" + threadMode);
+
+        ExecutorService executor = Executors.newFixedThreadPool(concurrentUsers);
+        long endNanos = System.nanoTime() + warmup.toNanos() + duration.toNanos();
+        CountDownLatch finished = new CountDownLatch(concurrentUsers);
+
+        // Solo se miden los endpoints tras el calentamiento
+        report.pause();
+        for (int i = 0; i < concurrentUsers; i++) {
+            VirtualUser user = users.get(i);
+            executor.execute(() -> {
+                try {
+                    while (System.nanoTime() < endNanos && !Thread.currentThread().isInterrupted()) {
+                        user.act(report);
+                        think();
+                    }
+                } finally {
+                    finished.countDown();
+                }
+            });
+        }
+
+        System.out.printf("Calentamiento de %d s, medición de %d s...%n", warmup.toSeconds(), duration.toSeconds());
+        Thread.sleep(warmup.toMillis());
+        report.reset();
+        try (ResourceSampler sampler = new ResourceSampler()) {
+            finished.await();
+            report.stop();
+            report.resources(sampler.summary());
+        }
+        executor.shutdownNow();
+        return List.of(setup, report);
+    }
+
+    /**
+     * Registra los usuarios que faltan e inicia sesión con todos los del escenario
+     */
+    private void prepareUsers(int count, LatencyReport report) throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(count, 32));
+        String run = Long.toString(System.currentTimeMillis(), 36);
+
+        Map<Integer, VirtualUser> created = new ConcurrentHashMap<>();
+        for (int i = users.size(); i < count; i++) {
+            int index = i;
+            executor.execute(() -> {
+                String email = "carga-" + run + "-" + index + "@mindmeet.test";
+                if (client.register(report, "Usuario de carga " + index, email, PASSWORD) != null) {
+                    created.put(index, new VirtualUser(email));
+                }
+            });
+        }
+        executor.shutdown();
+        executor.awaitTermination(10, TimeUnit.MINUTES);
+        created.entrySet().stream()
+            .sorted(Map.Entry.comparingByKey())
+            .forEach(entry -> users.add(entry.getValue()));
+
+        if (users.size() < count) {
+            throw new IllegalStateException("Solo se registraron " + users.size() + " de " + count + " usuarios");
+        }
+
+        ExecutorService loginExecutor = Executors.newFixedThreadPool(Math.min(count, 32));
+        for (VirtualUser user : users.subList(0, count)) {
+            loginExecutor.execute(() -> user.token = client.login(report, user.email, PASSWORD));
+        }
+        loginExecutor.shutdown();
+        loginExecutor.awaitTermination(10, TimeUnit.MINUTES);
+    }
+
+    private void think() {
+        if (thinkTimeMillis <= 0) {
+            return;
+        }
+        try {
+            // Tiempo de reflexión aleatorio entre 50 % y 150 % del configurado
+            Thread.sleep(ThreadLocalRandom.current().nextLong(thinkTimeMillis / 2, thinkTimeMillis * 3 / 2 + 1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Usuario sintético: conserva sus reuniones por estado para que cada
+     * acción sea válida (solo se inician reuniones programadas, etc.)
+     */
+    private final class VirtualUser {
+
+        private final String email;
+        private volatile String token;
+        private final Deque<Long> scheduled = new ArrayDeque<>();
+        private final Deque<Long> inProgress = new ArrayDeque<>();
+        private final List<Long> meetings = new ArrayList<>();
+
+        private VirtualUser(String email) {
+            this.email = email;
+        }
+
+        /**
+         * Ejecuta una acción de la carga mixta
+         * Pesos: listar 25 %, consultar 25 %, crear 15 %, estadísticas 15 %,
+         * iniciar 8 %, finalizar 8 %, subir grabación 4 %
+         */
+        private void act(LatencyReport report) {
+            if (token == null) {
+                token = client.login(report, email, PASSWORD);
+                return;
+            }
+
+            int roll = ThreadLocalRandom.current().nextInt(100);
+            if (meetings.isEmpty() || (roll >= 50 && roll < 65)) {
+                create(report);
+            } else if (roll < 25) {
+                client.listMeetings(report, token);
+            } else if (roll < 50) {
+                client.getMeeting(report, token, meetings.get(ThreadLocalRandom.current().nextInt(meetings.size())));
+            } else if (roll < 80) {
+                client.getStats(report, token);
+            } else if (roll < 88) {
+                Long id = scheduled.pollFirst();
+                if (id == null) {
+                    create(report);
+                } else if (client.startMeeting(report, token, id)) {
+                    inProgress.addLast(id);
+                }
+            } else if (roll < 96) {
+                Long id = inProgress.pollFirst();
+                if (id == null) {
+                    client.listMeetings(report, token);
+                } else {
+                    client.finishMeeting(report, token, id);
+                }
+            } else {
+                client.uploadRecording(report, token, meetings.get(meetings.size() - 1), wav(Duration.ofSeconds(2)));
+            }
+        }
+
+        private void create(LatencyReport report) {
+            VirtualUser participant = users.get(ThreadLocalRandom.current().nextInt(users.size()));
+            Long id = client.createMeeting(report, token, "Reunión de carga " + (meetings.size() + 1), participant.email);
+            if (id != null) {
+                meetings.add(id);
+                scheduled.addLast(id);
+                // Acota la memoria del usuario en ejecuciones largas
+                if (meetings.size() > 200) {
+                    meetings.remove(0);
+                }
+            }
+        }
+    }
+
+    /**
+     * Genera un WAV PCM de 16 kHz, 16 bits, mono con ruido aleatorio;
+     * cada subida tiene un contenido distinto para no medir la reutilización
+     * de grabaciones y transcripciones
+     */
+    private static byte[] wav(Duration length) {
+        int sampleRate = 16_000;
+        int dataBytes = (int) (length.toSeconds() * sampleRate * 2);
+        ByteBuffer header = ByteBuffer.allocate(44).order(ByteOrder.LITTLE_ENDIAN);
+        header.put("RIFF".getBytes()).putInt(36 + dataBytes).put("WAVE".getBytes())
+            .put("fmt ".getBytes()).putInt(16).putShort((short) 1).putShort((short) 1)
+            .putInt(sampleRate).putInt(sampleRate * 2).putShort((short) 2).putShort((short) 16)
+            .put("data".getBytes()).putInt(dataBytes);
+
+        byte[] samples = new byte[dataBytes];
+        ThreadLocalRandom.current().nextBytes(samples);
+
+        ByteArrayOutputStream wav = new ByteArrayOutputStream(44 + dataBytes);
+        wav.writeBytes(header.array());
+        wav.writeBytes(samples);
+        return wav.toByteArray();
+    }
+
+    private static Map<String, String> parse(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (arg.startsWith("--") && arg.contains("=")) {
+                options.put(arg.substring(2, arg.indexOf('=')), arg.substring(arg.indexOf('=') + 1));
+            }
+        }
+        return options;
+    }
+}
@@ -0,0 +1,173 @@
+package com.deloitte.mindmeet.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latencias por endpoint de un escenario de la prueba de carga
+ *
+ * Cada endpoint tiene un histograma HDR en microsegundos (hasta 60 s, 3
+ * cifras significativas) y un contador de errores. Las peticiones hechas
+ * mientras la grabación está desactivada (calentamiento) no se cuentan.
+ *
+ * @author MindMeet Team
+ * @version 1.0
+ */
+class LatencyReport {
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.SECONDS.toMicros(60);
+
+    private final String scenario;
+    private final Map<String, Endpoint> endpoints = new ConcurrentHashMap<>();
+    private volatile boolean recording = true;
+    private volatile long startedNanos = System.nanoTime();
+    private volatile long stoppedNanos;
+    private volatile String resources;
+
+    LatencyReport(String scenario) {
+        this.scenario = scenario;
+    }
+
+    /**
+     * Registra una petición
+     *
+     * @param endpoint Nombre del endpoint
+     * @param elapsedNanos Latencia
+     * @param success true si respondió 2xx
+     */
+    void record(String endpoint, long elapsedNanos, boolean success) {
+        if (!recording) {
+            return;
+        }
+        Endpoint stats = endpoints.computeIfAbsent(endpoint, key -> new Endpoint());
+        stats.histogram.recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(elapsedNanos), HIGHEST_TRACKABLE_MICROS));
+        if (!success) {
+            stats.errors.increment();
+        }
+    }
+
+    /**
+     * Descarta lo registrado hasta ahora y empieza a medir (fin del calentamiento)
+     */
+    void reset() {
+        endpoints.clear();
+        startedNanos = System.nanoTime();
+        recording = true;
+    }
+
+    void pause() {
+        recording = false;
+    }
+
+    void stop() {
+        recording = false;
+        stoppedNanos = System.nanoTime();
+    }
+
+    /**
+     * Agrega al reporte el consumo de recursos medido durante el escenario
+     *
+     * @param summary Resumen de {@link ResourceSampler}
+     */
+    void resources(String summary) {
+        this.resources = summary;
+    }
+
+    /**
+     * Indica si algún endpoint medido supera el objetivo de p95
+     *
+     * @param prefix Prefijo de los endpoints sujetos al objetivo
+     * @param p95ObjectiveMillis Objetivo de p95 en milisegundos
+     * @return true si se cumple el objetivo en todos
+     */
+    boolean meetsObjective(String prefix, long p95ObjectiveMillis) {
+        return endpoints.entrySet().stream()
+            .filter(entry -> entry.getKey().contains(prefix))
+            .allMatch(entry -> p95Millis(entry.getValue().histogram) <= p95ObjectiveMillis);
+    }
+
+    /**
+     * Imprime la tabla de latencias y la guarda junto a las distribuciones HDR
+     *
+     * @param out Salida
+     * @param directory Directorio donde guardar el reporte
+     * @param prefix Prefijo de los endpoints sujetos al objetivo
+     * @param p95ObjectiveMillis Objetivo de p95 en milisegundos
+     * @throws IOException si no se pueden escribir los archivos
+     */
+    void print(PrintStream out, Path directory, String prefix, long p95ObjectiveMillis) throws IOException {
+        double seconds = (stoppedNanos - startedNanos) / 1e9;
+
+        StringBuilder table = new StringBuilder();
+        table.append(String.format(Locale.ROOT, "%nEscenario: %s (%.0f s medidos)%n", scenario, seconds));
+        table.append(String.format(Locale.ROOT, "%-45s %8s %7s %8s %9s %9s %9s %9s  %s%n",
+            "Endpoint", "Total", "Errores", "req/s", "p50 ms", "p95 ms", "p99 ms", "max ms", "p95 ≤ " + p95ObjectiveMillis + " ms"));
+
+        long requests = 0;
+        for (Map.Entry<String, Endpoint> entry : new TreeMap<>(endpoints).entrySet()) {
+            Histogram histogram = entry.getValue().histogram;
+            long total = histogram.getTotalCount();
+            requests += total;
+            double p95 = p95Millis(histogram);
+            String verdict = entry.getKey().contains(prefix)
+                ? (p95 <= p95ObjectiveMillis ? "OK" : "FALLA")
+                : "(informativo)";
+            table.append(String.format(Locale.ROOT, "%-45s %8d %7d %8.1f %9.1f %9.1f %9.1f %9.1f  %s%n",
+                entry.getKey(),
+                total,
+                entry.getValue().errors.sum(),
+                seconds > 0 ? total / seconds : 0,
+                millis(histogram.getValueAtPercentile(50)),
+                p95,
+                millis(histogram.getValueAtPercentile(99)),
+                millis(histogram.getMaxValue()),
+                verdict));
+        }
+        table.append(String.format(Locale.ROOT, "Total: %d peticiones, %.1f req/s%n",
+            requests, seconds > 0 ? requests / seconds : 0));
+        if (resources != null) {
+            table.append(resources).append(System.lineSeparator());
+        }
+
+        out.print(table);
+
+        Files.createDirectories(directory);
+        Files.writeString(directory.resolve(scenario + "-summary.txt"), table);
+        try (PrintStream distribution = new PrintStream(
+                Files.newOutputStream(directory.resolve(scenario + "-percentiles.txt")))) {
+            for (Map.Entry<String, Endpoint> entry : new TreeMap<>(endpoints).entrySet()) {
+                distribution.printf("# %s (microsegundos)%n", entry.getKey());
+                entry.getValue().histogram.outputPercentileDistribution(distribution, 1.0);
+                distribution.println();
+            }
+        }
+    }
+
+    private static double p95Millis(Histogram histogram) {
+        return millis(histogram.getValueAtPercentile(95));
+    }
+
+    private static double millis(long micros) {
+        return micros / 1000.0;
+    }
+
+    /**
+     * Estadísticas de un endpoint
+     */
+    private static final class Endpoint {
+
+        private final Histogram histogram = new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3);
+        private final LongAdder errors = new LongAdder();
+    }
+}
@@ -0,0 +1,68 @@
+package com.deloitte.mindmeet.loadtest;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.management.ThreadMXBean;
+import java.util.Locale;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Muestrea una vez por segundo el heap usado y los hilos de plataforma de la
+ * JVM durante la medición de un escenario
+ *
+ * Sirve para comparar el modo de hilos de plataforma con el de hilos
+ * virtuales cuando la aplicación se arranca dentro del driver. Los hilos de
+ * los usuarios sintéticos son los mismos en ambos modos, así que la
+ * diferencia corresponde a la aplicación. Los hilos virtuales no aparecen
+ * en el conteo de hilos de la JVM.
+ *
+ * @author MindMeet Team
+ * @version 1.0
+ */
+class ResourceSampler implements AutoCloseable {
+
+    private final MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+    private final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+    private final ScheduledExecutorService scheduler;
+
+    private long samples;
+    private long heapSum;
+    private long heapMax;
+    private int threadsMax;
+
+    ResourceSampler() {
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "load-test-sampler");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleAtFixedRate(this::sample, 0, 1, TimeUnit.SECONDS);
+    }
+
+    private synchronized void sample() {
+        long heap = memory.getHeapMemoryUsage().getUsed();
+        int live = threads.getThreadCount();
+        samples++;
+        heapSum += heap;
+        heapMax = Math.max(heapMax, heap);
+        threadsMax = Math.max(threadsMax, live);
+    }
+
+    /**
+     * Resumen de lo muestreado, en una línea
+     */
+    synchronized String summary() {
+        return String.format(Locale.ROOT,
+            "Heap usado: promedio %.0f MB, máximo %.0f MB | Hilos de plataforma: máximo %d",
+            samples > 0 ? heapSum / (double) samples / (1024 * 1024) : 0,
+            heapMax / (1024.0 * 1024),
+            threadsMax);
+    }
+
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+    }
+}
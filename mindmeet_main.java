@@ -1,9 +1,14 @@
 package com.deloitte.mindmeet;
 
+import com.deloitte.mindmeet.security.BoundedPasswordEncoder;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
 /**
@@ -15,6 +20,9 @@ import org.springframework.security.crypto.password.PasswordEncoder;
  * @since 2025-03-15
  */
 @SpringBootApplication
+@EnableCaching
+@EnableScheduling
+@EnableMethodSecurity
 public class MindMeetApplication {
 
     /**
@@ -32,12 +40,20 @@ public class MindMeetApplication {
 
     /**
      * Bean para encriptación de contraseñas
-     * Utiliza BCrypt para seguridad robusta
+     * Utiliza BCrypt para seguridad robusta, en un pool dedicado y acotado
+     * para no ocupar los hilos de Tomcat durante picos de login
      * 
      * @return PasswordEncoder configurado
      */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(
+            @Value("${mindmeet.security.bcrypt.strength:10}") int strength,
+            @Value("${mindmeet.security.bcrypt.threads:#{T(java.lang.Runtime).getRuntime().availableProcessors()}}") int threads,
+            @Value("${mindmeet.security.bcrypt.queue-capacity:64}") int queueCapacity,
+            @Value("${mindmeet.security.bcrypt.max-wait-ms:2000}") long maxWaitMillis,
+            @Value("${mindmeet.security.bcrypt.retry-after-seconds:2}") long retryAfterSeconds,
+            MeterRegistry meterRegistry) {
+        return new BoundedPasswordEncoder(strength, threads, queueCapacity,
+            maxWaitMillis, retryAfterSeconds, meterRegistry);
     }
 }
@@ -1,21 +1,37 @@
 package com.deloitte.mindmeet.controller;
 
+import com.deloitte.mindmeet.dto.BatchParticipantsRequest;
+import com.deloitte.mindmeet.dto.BatchParticipantsResponse;
+import com.deloitte.mindmeet.dto.CursorPage;
 import com.deloitte.mindmeet.dto.MeetingDTO;
+import com.deloitte.mindmeet.dto.MeetingFieldSet;
 import com.deloitte.mindmeet.dto.MeetingRequest;
+import com.deloitte.mindmeet.dto.MeetingSearchResult;
+import com.deloitte.mindmeet.dto.RecordingUploadRequest;
+import com.deloitte.mindmeet.dto.RecordingUploadStatus;
+import com.deloitte.mindmeet.dto.TranscriptRange;
 import com.deloitte.mindmeet.service.MeetingService;
+import com.deloitte.mindmeet.service.TranscriptRangeException;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 /**
@@ -25,11 +41,18 @@ import java.util.List;
  * Endpoints principales:
  * - POST /api/meetings - Crear nueva reunión
  * - GET /api/meetings - Listar reuniones
+ * - GET /api/meetings?cursor= - Listar reuniones paginando por cursor
+ * - GET /api/meetings/search?q= - Buscar en reuniones (título, descripción, resumen y transcripción)
  * - GET /api/meetings/{id} - Obtener detalles de reunión
  * - PUT /api/meetings/{id} - Actualizar reunión
  * - DELETE /api/meetings/{id} - Eliminar reunión
  * - POST /api/meetings/{id}/start - Iniciar reunión
  * - POST /api/meetings/{id}/finish - Finalizar reunión
+ * - GET /api/meetings/{id}/transcript - Transmitir transcripción por fragmentos
+ * - GET /api/meetings/{id}/events - Eventos de procesamiento (Server-Sent Events)
+ * - POST /api/meetings/{id}/recording-uploads - Iniciar subida por fragmentos
+ * - POST /api/meetings/{id}/participants:batch - Agregar participantes en lote
+ * - DELETE /api/meetings/{id}/participants - Eliminar participante
  * 
  * @author MindMeet Team
  * @version 1.0
@@ -67,9 +90,10 @@ public class MeetingController {
 
     /**
      * Obtiene todas las reuniones del usuario autenticado
-     * Soporta paginación y filtros
+     * Soporta paginación, filtros y selección de campos
      * 
      * @param pageable Configuración de paginación
+     * @param fields Campos a incluir separados por comas (opcional)
      * @param authentication Información del usuario autenticado
      * @return ResponseEntity con página de reuniones
      */
@@ -77,16 +101,75 @@ public class MeetingController {
     @Operation(summary = "Listar reuniones", description = "Obtiene todas las reuniones del usuario")
     public ResponseEntity<Page<MeetingDTO>> getUserMeetings(
             Pageable pageable,
+            @RequestParam(required = false) String fields,
             Authentication authentication) {
-        String userEmail = authentication.getName();
-        Page<MeetingDTO> meetings = meetingService.getUserMeetings(userEmail, pageable);
-        return ResponseEntity.ok(meetings);
+        try {
+            String userEmail = authentication.getName();
+            Page<MeetingDTO> meetings = meetingService.getUserMeetings(
+                userEmail, pageable, MeetingFieldSet.parse(fields));
+            return ResponseEntity.ok(meetings);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+        }
+    }
+
+    /**
+     * Obtiene las reuniones del usuario autenticado paginando por cursor
+     * Se selecciona cuando la petición incluye el parámetro cursor (vacío para la primera página)
+     * 
+     * @param cursor Cursor devuelto en la página anterior
+     * @param size Tamaño de página (máximo 100)
+     * @param fields Campos a incluir separados por comas (opcional)
+     * @param authentication Información del usuario autenticado
+     * @return ResponseEntity con la página y el cursor de la siguiente
+     */
+    @GetMapping(params = "cursor")
+    @Operation(summary = "Listar reuniones por cursor",
+               description = "Obtiene las reuniones del usuario ordenadas por fecha de creación, sin total de elementos")
+    public ResponseEntity<CursorPage<MeetingDTO>> getUserMeetingsByCursor(
+            @RequestParam String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) String fields,
+            Authentication authentication) {
+        try {
+            String userEmail = authentication.getName();
+            CursorPage<MeetingDTO> meetings = meetingService.getUserMeetingsAfter(
+                userEmail, cursor, size, MeetingFieldSet.parse(fields));
+            return ResponseEntity.ok(meetings);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+        }
+    }
+
+    /**
+     * Busca reuniones del usuario por texto
+     * 
+     * @param q Texto de búsqueda
+     * @param limit Número máximo de resultados (máximo 50)
+     * @param authentication Información del usuario autenticado
+     * @return ResponseEntity con resultados ordenados por relevancia
+     */
+    @GetMapping("/search")
+    @Operation(summary = "Buscar reuniones",
+               description = "Busca en título, descripción, resumen y transcripción de las reuniones del usuario")
+    public ResponseEntity<List<MeetingSearchResult>> searchMeetings(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "10") int limit,
+            Authentication authentication) {
+        try {
+            String userEmail = authentication.getName();
+            List<MeetingSearchResult> results = meetingService.searchMeetings(userEmail, q, limit);
+            return ResponseEntity.ok(results);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+        }
     }
 
     /**
      * Obtiene los detalles de una reunión específica
      * 
      * @param id ID de la reunión
+     * @param fields Campos a incluir separados por comas (opcional)
      * @param authentication Información del usuario autenticado
      * @return ResponseEntity con los detalles de la reunión
      */
@@ -94,16 +177,95 @@ public class MeetingController {
     @Operation(summary = "Obtener reunión", description = "Obtiene los detalles de una reunión específica")
     public ResponseEntity<MeetingDTO> getMeetingById(
             @PathVariable Long id,
+            @RequestParam(required = false) String fields,
             Authentication authentication) {
+        MeetingFieldSet fieldSet;
+        try {
+            fieldSet = MeetingFieldSet.parse(fields);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+        }
+
         try {
             String userEmail = authentication.getName();
-            MeetingDTO meeting = meetingService.getMeetingById(id, userEmail);
+            MeetingDTO meeting = meetingService.getMeetingById(id, userEmail, fieldSet);
             return ResponseEntity.ok(meeting);
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
         }
     }
 
+    /**
+     * Transmite la transcripción de una reunión por fragmentos
+     * Soporta lectura parcial mediante offset y length (en caracteres)
+     * 
+     * @param id ID de la reunión
+     * @param offset Posición inicial (base 0)
+     * @param length Número máximo de caracteres (opcional)
+     * @param authentication Información del usuario autenticado
+     * @return ResponseEntity con la transcripción en texto plano; 416 si el
+     *         rango es inválido y 404 si la reunión no existe, no hay acceso
+     *         o no tiene transcripción
+     */
+    @GetMapping("/{id}/transcript")
+    @Operation(summary = "Transcripción", description = "Transmite la transcripción de la reunión por fragmentos")
+    public ResponseEntity<StreamingResponseBody> getTranscript(
+            @PathVariable Long id,
+            @RequestParam(defaultValue = "0") int offset,
+            @RequestParam(required = false) Integer length,
+            Authentication authentication) {
+        TranscriptRange range;
+        try {
+            String userEmail = authentication.getName();
+            range = meetingService.getTranscriptRange(id, userEmail, offset, length);
+        } catch (TranscriptRangeException e) {
+            return ResponseEntity.status(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE)
+                .header("X-Transcript-Total-Length", String.valueOf(e.getTotalLength()))
+                .build();
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
+        }
+
+        StreamingResponseBody body = outputStream -> {
+            Writer writer = new OutputStreamWriter(outputStream, StandardCharsets.UTF_8);
+            meetingService.writeTranscript(id, range, writer);
+            writer.flush();
+        };
+
+        return ResponseEntity.ok()
+            .contentType(new MediaType(MediaType.TEXT_PLAIN, StandardCharsets.UTF_8))
+            .header("X-Transcript-Offset", String.valueOf(range.getOffset()))
+            .header("X-Transcript-Length", String.valueOf(range.getLength()))
+            .header("X-Transcript-Total-Length", String.valueOf(range.getTotalLength()))
+            .body(body);
+    }
+
+    /**
+     * Suscribe al cliente a los eventos de procesamiento de la reunión
+     * Envía eventos "status" (processingStatus) y "progress" (porcentaje de transcripción)
+     * 
+     * @param id ID de la reunión
+     * @param authentication Información del usuario autenticado
+     * @return ResponseEntity con el flujo de eventos
+     */
+    @GetMapping(value = "/{id}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Eventos de procesamiento",
+               description = "Transmite los cambios de estado y el avance de la transcripción (SSE)")
+    public ResponseEntity<SseEmitter> streamEvents(@PathVariable Long id, Authentication authentication) {
+        try {
+            String userEmail = authentication.getName();
+            SseEmitter emitter = meetingService.subscribeToEvents(id, userEmail);
+            return ResponseEntity.ok()
+                .header("Cache-Control", "no-cache")
+                .header("X-Accel-Buffering", "no")
+                .body(emitter);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS).build();
+        }
+    }
+
     /**
      * Actualiza una reunión existente
      * 
@@ -216,19 +378,125 @@ public class MeetingController {
         }
     }
 
+    /**
+     * Inicia una subida de grabación por fragmentos (reanudable)
+     * 
+     * @param id ID de la reunión
+     * @param request Nombre, tipo y tamaño del archivo
+     * @param authentication Información del usuario autenticado
+     * @return ResponseEntity con el estado inicial de la subida
+     */
+    @PostMapping("/{id}/recording-uploads")
+    @Operation(summary = "Iniciar subida", description = "Inicia una subida de grabación por fragmentos")
+    public ResponseEntity<RecordingUploadStatus> initRecordingUpload(
+            @PathVariable Long id,
+            @Valid @RequestBody RecordingUploadRequest request,
+            Authentication authentication) {
+        try {
+            String userEmail = authentication.getName();
+            RecordingUploadStatus status = meetingService.initRecordingUpload(id, request, userEmail);
+            return ResponseEntity.status(HttpStatus.CREATED).body(status);
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+        }
+    }
+
+    /**
+     * Recibe un fragmento de la grabación como cuerpo binario
+     * 
+     * @param id ID de la reunión
+     * @param uploadId ID de la subida
+     * @param index Índice del fragmento (base 0)
+     * @param request Petición HTTP con el contenido del fragmento
+     * @param authentication Información del usuario autenticado
+     * @return ResponseEntity con el estado actualizado de la subida
+     */
+    @PutMapping(value = "/{id}/recording-uploads/{uploadId}/chunks/{index}",
+                consumes = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+    @Operation(summary = "Subir fragmento", description = "Envía un fragmento de la grabación")
+    public ResponseEntity<RecordingUploadStatus> uploadRecordingChunk(
+            @PathVariable Long id,
+            @PathVariable String uploadId,
+            @PathVariable int index,
+            HttpServletRequest request,
+            Authentication authentication) {
+        try {
+            String userEmail = authentication.getName();
+            RecordingUploadStatus status = meetingService.uploadRecordingChunk(
+                id, uploadId, index, request.getInputStream(), userEmail);
+            return ResponseEntity.ok(status);
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+        }
+    }
+
+    /**
+     * Consulta el estado de una subida para reanudarla
+     * 
+     * @param id ID de la reunión
+     * @param uploadId ID de la subida
+     * @param authentication Información del usuario autenticado
+     * @return ResponseEntity con los fragmentos ya recibidos
+     */
+    @GetMapping("/{id}/recording-uploads/{uploadId}")
+    @Operation(summary = "Estado de subida", description = "Consulta los fragmentos recibidos de una subida")
+    public ResponseEntity<RecordingUploadStatus> getRecordingUploadStatus(
+            @PathVariable Long id,
+            @PathVariable String uploadId,
+            Authentication authentication) {
+        try {
+            String userEmail = authentication.getName();
+            return ResponseEntity.ok(meetingService.getRecordingUploadStatus(id, uploadId, userEmail));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
+        }
+    }
+
+    /**
+     * Completa una subida por fragmentos e inicia la transcripción
+     * 
+     * @param id ID de la reunión
+     * @param uploadId ID de la subida
+     * @param authentication Información del usuario autenticado
+     * @return ResponseEntity con URL de la grabación
+     */
+    @PostMapping("/{id}/recording-uploads/{uploadId}/complete")
+    @Operation(summary = "Completar subida", description = "Completa la subida por fragmentos de la grabación")
+    public ResponseEntity<String> completeRecordingUpload(
+            @PathVariable Long id,
+            @PathVariable String uploadId,
+            Authentication authentication) {
+        try {
+            String userEmail = authentication.getName();
+            String recordingUrl = meetingService.completeRecordingUpload(id, uploadId, userEmail);
+            return ResponseEntity.ok(recordingUrl);
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .body("Error al completar la subida");
+        }
+    }
+
     /**
      * Obtiene las reuniones recientes del usuario
      * Retorna las últimas 5 reuniones
      * 
+     * @param fields Campos a incluir separados por comas (opcional)
      * @param authentication Información del usuario autenticado
      * @return ResponseEntity con lista de reuniones recientes
      */
     @GetMapping("/recent")
     @Operation(summary = "Reuniones recientes", description = "Obtiene las reuniones más recientes del usuario")
-    public ResponseEntity<List<MeetingDTO>> getRecentMeetings(Authentication authentication) {
-        String userEmail = authentication.getName();
-        List<MeetingDTO> meetings = meetingService.getRecentMeetings(userEmail, 5);
-        return ResponseEntity.ok(meetings);
+    public ResponseEntity<List<MeetingDTO>> getRecentMeetings(
+            @RequestParam(required = false) String fields,
+            Authentication authentication) {
+        try {
+            String userEmail = authentication.getName();
+            List<MeetingDTO> meetings = meetingService.getRecentMeetings(
+                userEmail, 5, MeetingFieldSet.parse(fields));
+            return ResponseEntity.ok(meetings);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+        }
     }
 
     /**
@@ -267,4 +535,51 @@ public class MeetingController {
             return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
         }
     }
+
+    /**
+     * Agrega varios participantes a la reunión en una sola operación
+     * 
+     * @param id ID de la reunión
+     * @param request Emails de los participantes
+     * @param authentication Información del usuario autenticado
+     * @return ResponseEntity con la reunión actualizada y el resultado por email
+     */
+    @PostMapping("/{id}/participants:batch")
+    @Operation(summary = "Agregar participantes en lote", description = "Agrega varios participantes a la reunión")
+    public ResponseEntity<BatchParticipantsResponse> addParticipants(
+            @PathVariable Long id,
+            @Valid @RequestBody BatchParticipantsRequest request,
+            Authentication authentication) {
+        try {
+            String userEmail = authentication.getName();
+            BatchParticipantsResponse response = meetingService.addParticipants(
+                id, request.getEmails(), userEmail);
+            return ResponseEntity.ok(response);
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+        }
+    }
+
+    /**
+     * Elimina un participante de la reunión
+     * 
+     * @param id ID de la reunión
+     * @param participantEmail Email del participante
+     * @param authentication Información del usuario autenticado
+     * @return ResponseEntity con la reunión actualizada
+     */
+    @DeleteMapping("/{id}/participants")
+    @Operation(summary = "Eliminar participante", description = "Elimina un participante de la reunión")
+    public ResponseEntity<MeetingDTO> removeParticipant(
+            @PathVariable Long id,
+            @RequestParam String participantEmail,
+            Authentication authentication) {
+        try {
+            String userEmail = authentication.getName();
+            MeetingDTO meeting = meetingService.removeParticipant(id, participantEmail, userEmail);
+            return ResponseEntity.ok(meeting);
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+        }
+    }
 }
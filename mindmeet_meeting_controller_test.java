@@ -0,0 +1,89 @@
+package com.deloitte.mindmeet.controller;
+
+import com.deloitte.mindmeet.dto.TranscriptRange;
+import com.deloitte.mindmeet.service.MeetingService;
+import com.deloitte.mindmeet.service.TranscriptRangeException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Pruebas de los códigos de respuesta de la transcripción por rangos
+ *
+ * @author MindMeet Team
+ * @version 1.0
+ */
+class MeetingControllerTest {
+
+    private static final Long MEETING_ID = 7L;
+    private static final String EMAIL = "ana@mindmeet.test";
+
+    private MeetingService meetingService;
+    private MeetingController controller;
+    private Authentication authentication;
+
+    @BeforeEach
+    void setUp() {
+        meetingService = mock(MeetingService.class);
+        controller = new MeetingController(meetingService);
+        authentication = new UsernamePasswordAuthenticationToken(EMAIL, null, List.of());
+    }
+
+    @Test
+    void getTranscriptReturns416ForAnInvalidRange() {
+        when(meetingService.getTranscriptRange(MEETING_ID, EMAIL, 500, null))
+            .thenThrow(new TranscriptRangeException(120));
+
+        ResponseEntity<StreamingResponseBody> response =
+            controller.getTranscript(MEETING_ID, 500, null, authentication);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE);
+        assertThat(response.getHeaders().getFirst("X-Transcript-Total-Length")).isEqualTo("120");
+    }
+
+    @Test
+    void getTranscriptReturns404WhenTheMeetingIsNotAccessible() {
+        when(meetingService.getTranscriptRange(MEETING_ID, EMAIL, 0, null))
+            .thenThrow(new IllegalArgumentException("No tienes acceso a esta reunión"));
+
+        ResponseEntity<StreamingResponseBody> response =
+            controller.getTranscript(MEETING_ID, 0, null, authentication);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+    }
+
+    @Test
+    void getTranscriptReturns404WithoutTranscript() {
+        when(meetingService.getTranscriptRange(MEETING_ID, EMAIL, 0, 10))
+            .thenThrow(new IllegalArgumentException("La reunión no tiene transcripción"));
+
+        ResponseEntity<StreamingResponseBody> response =
+            controller.getTranscript(MEETING_ID, 0, 10, authentication);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+    }
+
+    @Test
+    void getTranscriptReturnsTheValidatedRange() {
+        when(meetingService.getTranscriptRange(MEETING_ID, EMAIL, 10, 20))
+            .thenReturn(new TranscriptRange(10, 20, 120));
+
+        ResponseEntity<StreamingResponseBody> response =
+            controller.getTranscript(MEETING_ID, 10, 20, authentication);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getHeaders().getFirst("X-Transcript-Offset")).isEqualTo("10");
+        assertThat(response.getHeaders().getFirst("X-Transcript-Length")).isEqualTo("20");
+        assertThat(response.getHeaders().getFirst("X-Transcript-Total-Length")).isEqualTo("120");
+    }
+}
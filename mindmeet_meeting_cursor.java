@@ -0,0 +1,74 @@
+package com.deloitte.mindmeet.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Cursor de paginación de reuniones por (createdAt, id)
+ * Se expone al cliente como un valor opaco en Base64 URL
+ *
+ * @author MindMeet Team
+ * @version 1.0
+ */
+public final class MeetingCursor {
+
+    /**
+     * Cursor de la primera página: posterior a cualquier reunión existente
+     */
+    private static final MeetingCursor FIRST = new MeetingCursor(LocalDateTime.of(9999, 12, 31, 23, 59), Long.MAX_VALUE);
+
+    private final LocalDateTime createdAt;
+    private final Long id;
+
+    private MeetingCursor(LocalDateTime createdAt, Long id) {
+        this.createdAt = createdAt;
+        this.id = id;
+    }
+
+    /**
+     * Interpreta el cursor recibido del cliente
+     *
+     * @param value Cursor opaco, o vacío para la primera página
+     * @return Cursor
+     * @throws IllegalArgumentException si el cursor no es válido
+     */
+    public static MeetingCursor parse(String value) {
+        if (value == null || value.isBlank()) {
+            return FIRST;
+        }
+
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(value), StandardCharsets.UTF_8);
+            int separator = decoded.lastIndexOf('|');
+            if (separator < 0) {
+                throw new IllegalArgumentException("Cursor inválido");
+            }
+            return new MeetingCursor(LocalDateTime.parse(decoded.substring(0, separator)),
+                Long.parseLong(decoded.substring(separator + 1)));
+        } catch (DateTimeParseException | NumberFormatException e) {
+            throw new IllegalArgumentException("Cursor inválido");
+        }
+    }
+
+    /**
+     * Genera el cursor que apunta a continuación de una reunión
+     *
+     * @param createdAt Fecha de creación de la última reunión de la página
+     * @param id ID de la última reunión de la página
+     * @return Cursor opaco
+     */
+    public static String encode(LocalDateTime createdAt, Long id) {
+        String raw = createdAt + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public Long getId() {
+        return id;
+    }
+}
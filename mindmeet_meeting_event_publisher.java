@@ -0,0 +1,285 @@
+package com.deloitte.mindmeet.service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Publicador en memoria de eventos de procesamiento de reuniones (Server-Sent Events)
+ *
+ * Cada cliente suscrito a una reunión recibe los cambios de
+ * processingStatus, el porcentaje de avance de la transcripción y, durante
+ * la reunión, el texto de la transcripción en vivo.
+ * Los eventos los emite el pipeline de transcripción una sola vez y se
+ * reparten a todos los suscriptores desde un único hilo, de modo que ni
+ * los clientes consultan la base de datos ni un cliente lento bloquea a
+ * los workers.
+ *
+ * Los eventos se publican solo en esta instancia: un cliente conectado a
+ * otra instancia recibe el estado actual al suscribirse.
+ *
+ * @author MindMeet Team
+ * @version 1.0
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class MeetingEventPublisher {
+
+    static final String STATUS_EVENT = "status";
+    static final String PROGRESS_EVENT = "progress";
+    static final String TRANSCRIPT_EVENT = "transcript";
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${mindmeet.events.timeout-minutes:30}")
+    private long timeoutMinutes;
+
+    @Value("${mindmeet.events.max-subscribers-per-meeting:50}")
+    private int maxSubscribersPerMeeting;
+
+    private final Map<Long, List<SseEmitter>> subscribers = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+
+    /**
+     * Último porcentaje enviado por reunión, para no repetir el mismo valor
+     */
+    private final Map<Long, Integer> lastProgress = new ConcurrentHashMap<>();
+
+    private ExecutorService dispatcher;
+
+    @PostConstruct
+    void start() {
+        dispatcher = Executors.newSingleThreadExecutor(WorkerThreads.platform("meeting-events"));
+        Gauge.builder("mindmeet.events.subscribers", subscriberCount, AtomicInteger::get)
+            .description("Clientes suscritos a eventos de reuniones")
+            .register(meterRegistry);
+    }
+
+    @PreDestroy
+    void stop() {
+        dispatcher.shutdownNow();
+        subscribers.values().forEach(emitters -> emitters.forEach(SseEmitter::complete));
+        subscribers.clear();
+    }
+
+    /**
+     * Suscribe un cliente a los eventos de una reunión
+     *
+     * El estado actual se lee después de registrar el emisor y desde el hilo
+     * que reparte los eventos: un cambio confirmado antes de la lectura ya
+     * está en ella, y uno posterior llega como evento detrás del estado
+     * inicial, así que el cliente nunca queda con un estado anterior al real.
+     *
+     * @param meetingId ID de la reunión
+     * @param currentStatus Lectura del estado actual, enviado como primer evento
+     *                      (null si la reunión ya no existe)
+     * @return Emisor SSE del cliente
+     * @throws IllegalStateException si la reunión alcanzó el máximo de suscriptores
+     */
+    public SseEmitter subscribe(Long meetingId, Supplier<ProcessingStatus> currentStatus) {
+        SseEmitter emitter = new SseEmitter(timeoutMinutes * 60_000);
+        subscribers.compute(meetingId, (id, emitters) -> {
+            if (emitters == null) {
+                emitters = new CopyOnWriteArrayList<>();
+            } else if (emitters.size() >= maxSubscribersPerMeeting) {
+                throw new IllegalStateException("Demasiados suscriptores para la reunión " + meetingId);
+            }
+            emitters.add(emitter);
+            return emitters;
+        });
+        subscriberCount.incrementAndGet();
+
+        Runnable unsubscribe = () -> unsubscribe(meetingId, emitter);
+        emitter.onCompletion(unsubscribe);
+        emitter.onTimeout(unsubscribe);
+        emitter.onError(error -> unsubscribe.run());
+
+        dispatcher.execute(() -> {
+            ProcessingStatus status;
+            try {
+                status = currentStatus.get();
+            } catch (RuntimeException e) {
+                log.warn("No se pudo leer el estado de la reunión {}: {}", meetingId, e.getMessage());
+                emitter.completeWithError(e);
+                unsubscribe(meetingId, emitter);
+                return;
+            }
+            if (status == null) {
+                emitter.complete();
+                unsubscribe(meetingId, emitter);
+                return;
+            }
+            send(meetingId, emitter, STATUS_EVENT, new StatusEvent(meetingId, status));
+        });
+        return emitter;
+    }
+
+    /**
+     * Publica un cambio de estado tras el commit de la transacción actual
+     * Un rollback no llega a los clientes
+     *
+     * @param meetingId ID de la reunión
+     * @param status Nuevo estado de procesamiento
+     */
+    public void publishStatus(Long meetingId, ProcessingStatus status) {
+        Runnable publish = () -> {
+            if (status != ProcessingStatus.PROCESSING) {
+                lastProgress.remove(meetingId);
+            }
+            broadcast(meetingId, STATUS_EVENT, new StatusEvent(meetingId, status));
+        };
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    publish.run();
+                }
+            });
+        } else {
+            publish.run();
+        }
+    }
+
+    /**
+     * Publica el porcentaje de avance de la transcripción
+     *
+     * @param meetingId ID de la reunión
+     * @param percent Porcentaje completado (0-100)
+     */
+    public void publishProgress(Long meetingId, int percent) {
+        // Los segmentos terminan en paralelo: se descartan valores repetidos o atrasados
+        AtomicBoolean advanced = new AtomicBoolean();
+        lastProgress.compute(meetingId, (id, previous) -> {
+            if (previous != null && previous >= percent) {
+                return previous;
+            }
+            advanced.set(true);
+            return percent;
+        });
+        if (!advanced.get()) {
+            return;
+        }
+        broadcast(meetingId, PROGRESS_EVENT, new ProgressEvent(meetingId, percent));
+    }
+
+    /**
+     * Publica texto de la transcripción en vivo
+     *
+     * @param meetingId ID de la reunión
+     * @param text Texto reconocido
+     * @param partial true si es una hipótesis que aún puede cambiar
+     */
+    public void publishTranscript(Long meetingId, String text, boolean partial) {
+        broadcast(meetingId, TRANSCRIPT_EVENT, new TranscriptEvent(meetingId, text, partial));
+    }
+
+    /**
+     * Envía un comentario a todos los suscriptores para mantener viva la conexión
+     * a través de proxies y detectar clientes desconectados
+     */
+    @Scheduled(fixedDelayString = "${mindmeet.events.heartbeat-interval-ms:20000}")
+    public void heartbeat() {
+        if (subscribers.isEmpty()) {
+            return;
+        }
+        dispatcher.execute(() -> subscribers.forEach((meetingId, emitters) -> {
+            for (SseEmitter emitter : emitters) {
+                try {
+                    emitter.send(SseEmitter.event().comment("ping"));
+                } catch (IOException | IllegalStateException e) {
+                    emitter.completeWithError(e);
+                    unsubscribe(meetingId, emitter);
+                }
+            }
+        }));
+    }
+
+    /**
+     * Número de clientes suscritos a una reunión
+     *
+     * @param meetingId ID de la reunión
+     * @return Número de suscriptores
+     */
+    public int subscriberCount(Long meetingId) {
+        List<SseEmitter> emitters = subscribers.get(meetingId);
+        return emitters != null ? emitters.size() : 0;
+    }
+
+    private void broadcast(Long meetingId, String name, Object data) {
+        List<SseEmitter> emitters = subscribers.get(meetingId);
+        if (emitters == null || emitters.isEmpty()) {
+            return;
+        }
+        dispatcher.execute(() -> emitters.forEach(emitter -> send(meetingId, emitter, name, data)));
+    }
+
+    private void send(Long meetingId, SseEmitter emitter, String name, Object data) {
+        try {
+            emitter.send(SseEmitter.event().name(name).data(data, MediaType.APPLICATION_JSON));
+        } catch (IOException | IllegalStateException e) {
+            log.debug("Suscriptor de la reunión {} desconectado: {}", meetingId, e.getMessage());
+            emitter.completeWithError(e);
+            unsubscribe(meetingId, emitter);
+        }
+    }
+
+    private void unsubscribe(Long meetingId, SseEmitter emitter) {
+        subscribers.computeIfPresent(meetingId, (id, emitters) -> {
+            if (emitters.remove(emitter)) {
+                subscriberCount.decrementAndGet();
+            }
+            return emitters.isEmpty() ? null : emitters;
+        });
+    }
+
+    /**
+     * Evento de cambio de estado
+     *
+     * @param meetingId ID de la reunión
+     * @param status Estado de procesamiento
+     */
+    public record StatusEvent(Long meetingId, ProcessingStatus status) {
+    }
+
+    /**
+     * Evento de avance de la transcripción
+     *
+     * @param meetingId ID de la reunión
+     * @param percent Porcentaje completado (0-100)
+     */
+    public record ProgressEvent(Long meetingId, int percent) {
+    }
+
+    /**
+     * Evento de transcripción en vivo
+     *
+     * @param meetingId ID de la reunión
+     * @param text Texto reconocido
+     * @param partial true si es una hipótesis que aún puede cambiar
+     */
+    public record TranscriptEvent(Long meetingId, String text, boolean partial) {
+    }
+}
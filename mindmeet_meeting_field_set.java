@@ -0,0 +1,94 @@
+package com.deloitte.mindmeet.dto;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Selector de campos (sparse fieldset) para las respuestas de reuniones
+ * Interpreta el parámetro {@code fields=} y decide qué columnas debe cargar el servicio
+ *
+ * @author MindMeet Team
+ * @version 1.0
+ */
+public final class MeetingFieldSet {
+
+    /**
+     * Campos de texto extenso que solo se cargan si se solicitan explícitamente
+     */
+    public static final String TRANSCRIPT = "transcript";
+    public static final String SUMMARY = "summary";
+
+    /**
+     * Campos válidos del DTO de reunión
+     */
+    private static final Set<String> KNOWN_FIELDS = Set.of(
+        "id", "title", "description", "startTime", "endTime", "durationSeconds",
+        "status", "processingStatus", "recordingUrl", TRANSCRIPT, SUMMARY,
+        "transcriptionAccuracy", "organizerName", "organizerEmail",
+        "participantCount", "createdAt", "updatedAt"
+    );
+
+    private static final MeetingFieldSet ALL = new MeetingFieldSet(null);
+
+    /**
+     * Campos solicitados; null significa todos los campos
+     */
+    private final Set<String> fields;
+
+    private MeetingFieldSet(Set<String> fields) {
+        this.fields = fields;
+    }
+
+    /**
+     * Interpreta el valor del parámetro {@code fields}
+     *
+     * @param value Lista separada por comas, o null para todos los campos
+     * @return Selector de campos
+     * @throws IllegalArgumentException si se solicita un campo desconocido
+     */
+    public static MeetingFieldSet parse(String value) {
+        if (value == null || value.isBlank()) {
+            return ALL;
+        }
+
+        Set<String> requested = Arrays.stream(value.split(","))
+            .map(String::trim)
+            .filter(field -> !field.isEmpty())
+            .collect(Collectors.toSet());
+
+        for (String field : requested) {
+            if (!KNOWN_FIELDS.contains(field)) {
+                throw new IllegalArgumentException("Campo desconocido: " + field);
+            }
+        }
+
+        // El identificador siempre se incluye para poder enlazar la reunión
+        Set<String> withId = new HashSet<>(requested);
+        withId.add("id");
+        return new MeetingFieldSet(Collections.unmodifiableSet(withId));
+    }
+
+    /**
+     * Selector que incluye todos los campos
+     */
+    public static MeetingFieldSet all() {
+        return ALL;
+    }
+
+    /**
+     * Indica si el campo debe incluirse en la respuesta
+     */
+    public boolean includes(String field) {
+        return fields == null || fields.contains(field);
+    }
+
+    /**
+     * Indica si hay que leer las columnas TEXT de transcripción o resumen
+     */
+    public boolean loadsLargeText() {
+        return includes(TRANSCRIPT) || includes(SUMMARY);
+    }
+}
@@ -0,0 +1,240 @@
+package com.deloitte.mindmeet.service;
+
+import com.deloitte.mindmeet.config.ReadWriteRoutingDataSource;
+import com.deloitte.mindmeet.repository.MeetingParticipantJdbcRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Índice en memoria de miembros de cada reunión para verificar accesos
+ *
+ * Guarda por reunión el ID del organizador y los IDs de los participantes
+ * como un arreglo ordenado de long (búsqueda binaria, sin objetos User ni
+ * colecciones de Hibernate). Se carga de forma perezosa con dos consultas
+ * JDBC y se mantiene al día tras el commit de cada cambio de participantes.
+ *
+ * Una carga que se cruza con un cambio confirmado en esta instancia no se
+ * guarda: podría haber leído los miembros anteriores al cambio y volver a
+ * publicarlos después de aplicarlo (por ejemplo, devolver el acceso a un
+ * participante eliminado).
+ *
+ * Los cambios hechos en otra instancia no se propagan: allí la entrada
+ * sigue vigente hasta que expira (mindmeet.membership-index.ttl-minutes).
+ * Ese TTL es, por tanto, el tiempo máximo que un participante eliminado
+ * puede conservar el acceso en otra instancia; el tamaño está acotado.
+ *
+ * @author MindMeet Team
+ * @version 1.0
+ */
+@Component
+public class MeetingMembershipIndex {
+
+    private static final long[] NO_PARTICIPANTS = new long[0];
+
+    private final MeetingParticipantJdbcRepository participantRepository;
+    private final Cache<Long, Membership> memberships;
+
+    /**
+     * Cambios confirmados aplicados al índice; una carga solo se guarda si
+     * no hubo ninguno mientras leía la base de datos
+     */
+    private final AtomicLong changes = new AtomicLong();
+
+    public MeetingMembershipIndex(
+            MeetingParticipantJdbcRepository participantRepository,
+            @Value("${mindmeet.membership-index.max-meetings:100000}") long maxMeetings,
+            @Value("${mindmeet.membership-index.ttl-minutes:10}") long ttlMinutes) {
+        this.participantRepository = participantRepository;
+        this.memberships = Caffeine.newBuilder()
+            .maximumSize(maxMeetings)
+            .expireAfterWrite(Duration.ofMinutes(ttlMinutes))
+            .recordStats()
+            .build();
+    }
+
+    /**
+     * Verifica si el usuario es organizador o participante de la reunión
+     *
+     * @param meetingId ID de la reunión
+     * @param userId ID del usuario
+     * @return true si tiene acceso; false si no, o si la reunión no existe
+     */
+    public boolean hasAccess(Long meetingId, Long userId) {
+        Membership membership = get(meetingId);
+        return membership != null && membership.includes(userId);
+    }
+
+    /**
+     * Verifica si el usuario es el organizador de la reunión
+     *
+     * @param meetingId ID de la reunión
+     * @param userId ID del usuario
+     * @return true si es el organizador
+     */
+    public boolean isOrganizer(Long meetingId, Long userId) {
+        Membership membership = get(meetingId);
+        return membership != null && membership.organizerId == userId;
+    }
+
+    /**
+     * Número de participantes de la reunión (sin contar al organizador)
+     *
+     * @param meetingId ID de la reunión
+     * @return Número de participantes, 0 si la reunión no existe
+     */
+    public int participantCount(Long meetingId) {
+        Membership membership = get(meetingId);
+        return membership != null ? membership.participantIds.length : 0;
+    }
+
+    /**
+     * Registra una reunión recién creada
+     *
+     * @param meetingId ID de la reunión
+     * @param organizerId ID del organizador
+     * @param participantIds IDs de los participantes
+     */
+    public void onMeetingCreated(Long meetingId, Long organizerId, Collection<Long> participantIds) {
+        long[] ids = toSortedArray(participantIds);
+        afterCommit(() -> memberships.put(meetingId, new Membership(organizerId, ids)));
+    }
+
+    /**
+     * Registra participantes agregados a una reunión
+     *
+     * @param meetingId ID de la reunión
+     * @param userIds IDs de los usuarios agregados
+     */
+    public void onParticipantsAdded(Long meetingId, Collection<Long> userIds) {
+        long[] added = toSortedArray(userIds);
+        afterCommit(() -> memberships.asMap().computeIfPresent(meetingId,
+            (id, membership) -> membership.with(added)));
+    }
+
+    /**
+     * Registra un participante eliminado de una reunión
+     *
+     * @param meetingId ID de la reunión
+     * @param userId ID del usuario eliminado
+     */
+    public void onParticipantRemoved(Long meetingId, Long userId) {
+        afterCommit(() -> memberships.asMap().computeIfPresent(meetingId,
+            (id, membership) -> membership.without(userId)));
+    }
+
+    /**
+     * Elimina una reunión del índice
+     *
+     * @param meetingId ID de la reunión
+     */
+    public void onMeetingDeleted(Long meetingId) {
+        afterCommit(() -> memberships.invalidate(meetingId));
+    }
+
+    /**
+     * Obtiene los miembros de la reunión, cargándolos si no están en el índice
+     */
+    private Membership get(Long meetingId) {
+        Membership membership = memberships.getIfPresent(meetingId);
+        if (membership != null) {
+            return membership;
+        }
+
+        long changesBeforeLoad = changes.get();
+        Long organizerId = participantRepository.findOrganizerId(meetingId);
+        if (organizerId == null) {
+            return null;
+        }
+        List<Long> participantIds = participantRepository.findParticipantIds(meetingId);
+        membership = new Membership(organizerId, toSortedArray(participantIds));
+
+        // Solo se publica fuera de transacciones de escritura pendientes de commit,
+        // y nunca si se leyó de una réplica que puede estar atrasada
+        if ((!TransactionSynchronizationManager.isActualTransactionActive()
+                || TransactionSynchronizationManager.isCurrentTransactionReadOnly())
+                && !ReadWriteRoutingDataSource.isReplicaRead()) {
+            publish(meetingId, membership, changesBeforeLoad);
+        }
+        return membership;
+    }
+
+    /**
+     * Guarda una carga si ningún cambio se confirmó mientras se leía
+     * La comprobación se hace dentro de compute: un cambio cuenta antes de
+     * tocar la entrada, y sobre la misma clave compute y el cambio no se
+     * intercalan, así que o la carga se descarta o el cambio se aplica
+     * después sobre ella
+     */
+    private void publish(Long meetingId, Membership loaded, long changesBeforeLoad) {
+        memberships.asMap().compute(meetingId, (id, current) ->
+            current == null && changes.get() == changesBeforeLoad ? loaded : current);
+    }
+
+    /**
+     * Ejecuta la acción tras el commit de la transacción actual, o de inmediato si no hay transacción
+     * Así un rollback nunca deja el índice con miembros que no existen
+     */
+    private void afterCommit(Runnable action) {
+        Runnable change = () -> {
+            changes.incrementAndGet();
+            action.run();
+        };
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    change.run();
+                }
+            });
+        } else {
+            change.run();
+        }
+    }
+
+    private static long[] toSortedArray(Collection<Long> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return NO_PARTICIPANTS;
+        }
+        return ids.stream().mapToLong(Long::longValue).sorted().distinct().toArray();
+    }
+
+    /**
+     * Miembros de una reunión; inmutable, cada cambio crea una nueva instancia
+     */
+    private static final class Membership {
+
+        private final long organizerId;
+        private final long[] participantIds;
+
+        private Membership(long organizerId, long[] participantIds) {
+            this.organizerId = organizerId;
+            this.participantIds = participantIds;
+        }
+
+        private boolean includes(long userId) {
+            return organizerId == userId || Arrays.binarySearch(participantIds, userId) >= 0;
+        }
+
+        private Membership with(long[] added) {
+            long[] merged = Arrays.copyOf(participantIds, participantIds.length + added.length);
+            System.arraycopy(added, 0, merged, participantIds.length, added.length);
+            return new Membership(organizerId, Arrays.stream(merged).sorted().distinct().toArray());
+        }
+
+        private Membership without(long userId) {
+            return new Membership(organizerId, Arrays.stream(participantIds)
+                .filter(id -> id != userId)
+                .toArray());
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.deloitte.mindmeet.service;
+
+import com.deloitte.mindmeet.repository.MeetingRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.MultiGauge;
+import io.micrometer.core.instrument.Tags;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Métricas de negocio de las reuniones
+ *
+ * - mindmeet.meetings.transitions: cambios de estado (start, finish)
+ *   etiquetados con el estado de origen; se cuentan tras el commit para que
+ *   un rollback no los registre
+ * - mindmeet.meetings.processing: reuniones por estado de procesamiento de IA,
+ *   recalculado periódicamente con una sola consulta agregada en lugar de en
+ *   cada lectura de Prometheus
+ *
+ * @author MindMeet Team
+ * @version 1.0
+ */
+@Component
+@Slf4j
+public class MeetingMetrics {
+
+    private final MeterRegistry meterRegistry;
+    private final MeetingRepository meetingRepository;
+    private final MultiGauge processingStatus;
+
+    public MeetingMetrics(MeterRegistry meterRegistry, MeetingRepository meetingRepository) {
+        this.meterRegistry = meterRegistry;
+        this.meetingRepository = meetingRepository;
+        this.processingStatus = MultiGauge.builder("mindmeet.meetings.processing")
+            .description("Reuniones por estado de procesamiento de IA")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Registra un cambio de estado de una reunión tras el commit de la transacción actual
+     *
+     * @param transition Transición (start, finish)
+     * @param from Estado de la reunión antes del cambio
+     */
+    public void recordTransition(String transition, MeetingStatus from) {
+        Counter counter = Counter.builder("mindmeet.meetings.transitions")
+            .description("Cambios de estado de reuniones")
+            .tag("transition", transition)
+            .tag("from", from.name())
+            .register(meterRegistry);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    counter.increment();
+                }
+            });
+        } else {
+            counter.increment();
+        }
+    }
+
+    /**
+     * Recalcula la distribución de reuniones por estado de procesamiento
+     * Los estados sin reuniones se publican con valor 0 para que la serie no desaparezca
+     */
+    @Scheduled(fixedDelayString = "${mindmeet.metrics.processing-refresh-interval-ms:30000}",
+               initialDelayString = "${mindmeet.metrics.processing-refresh-interval-ms:30000}")
+    @Transactional(readOnly = true)
+    public void refreshProcessingStatus() {
+        Map<ProcessingStatus, Long> counts = new EnumMap<>(ProcessingStatus.class);
+        for (ProcessingStatus status : ProcessingStatus.values()) {
+            counts.put(status, 0L);
+        }
+        for (Object[] row : meetingRepository.countByProcessingStatus()) {
+            if (row[0] != null) {
+                counts.put((ProcessingStatus) row[0], ((Number) row[1]).longValue());
+            }
+        }
+
+        List<MultiGauge.Row<?>> rows = new ArrayList<>(counts.size());
+        counts.forEach((status, count) -> rows.add(MultiGauge.Row.of(Tags.of("status", status.name()), count)));
+        processingStatus.register(rows, true);
+
+        log.debug("Distribución de estados de procesamiento: {}", counts);
+    }
+}
@@ -3,10 +3,15 @@ package com.deloitte.mindmeet.model;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
+import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.DynamicUpdate;
 import org.hibernate.annotations.UpdateTimestamp;
 
 import java.time.LocalDateTime;
@@ -17,11 +22,26 @@ import java.util.Set;
  * Entidad que representa una reunión en el sistema MindMeet
  * Almacena información sobre reuniones, incluyendo grabaciones y transcripciones
  * 
+ * Las actualizaciones solo escriben las columnas modificadas: la transcripción
+ * en vivo y la migración a texto comprimido escriben las columnas de texto
+ * por separado, y guardar la entidad no debe sobrescribirlas con el valor
+ * leído antes.
+ * 
+ * La transcripción y el resumen se guardan comprimidos (transcript_z,
+ * summary_z) y solo se descomprimen al leerlos. Las columnas TEXT heredadas
+ * se mantienen para las filas que la migración aún no ha procesado.
+ * 
  * @author MindMeet Team
  * @version 1.0
  */
 @Entity
-@Table(name = "meetings")
+@Table(name = "meetings", indexes = {
+    // Listado por cursor (createdAt, id) de las reuniones de un organizador
+    @Index(name = "idx_meetings_organizer_created", columnList = "organizer_id, createdAt, id"),
+    // Referencias a cada grabación almacenada por contenido
+    @Index(name = "idx_meetings_recording_hash", columnList = "recordingHash")
+})
+@DynamicUpdate
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -87,16 +107,56 @@ public class Meeting {
     private String recordingUrl;
 
     /**
-     * Transcripción generada por IA
+     * SHA-256 del contenido de la grabación (clave de recording_blobs)
      */
-    @Column(columnDefinition = "TEXT")
-    private String transcript;
+    @Column(length = 64)
+    private String recordingHash;
 
     /**
-     * Resumen generado por IA
+     * Transcripción sin comprimir de filas aún no migradas (columna heredada)
+     * Se vacía al asignar una nueva transcripción
      */
-    @Column(columnDefinition = "TEXT")
-    private String summary;
+    @Column(name = "transcript", columnDefinition = "TEXT")
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @ToString.Exclude
+    private String legacyTranscript;
+
+    /**
+     * Transcripción generada por IA, comprimida
+     */
+    @Convert(converter = CompressedTextConverter.class)
+    @Column(name = "transcript_z", columnDefinition = "BYTEA")
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @ToString.Exclude
+    private CompressedText transcriptData;
+
+    /**
+     * Longitud en caracteres de la transcripción comprimida
+     */
+    @Column(name = "transcript_chars")
+    @Setter(AccessLevel.NONE)
+    private Integer transcriptLength;
+
+    /**
+     * Resumen sin comprimir de filas aún no migradas (columna heredada)
+     */
+    @Column(name = "summary", columnDefinition = "TEXT")
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @ToString.Exclude
+    private String legacySummary;
+
+    /**
+     * Resumen generado por IA, comprimido
+     */
+    @Convert(converter = CompressedTextConverter.class)
+    @Column(name = "summary_z", columnDefinition = "BYTEA")
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @ToString.Exclude
+    private CompressedText summaryData;
 
     /**
      * Porcentaje de precisión de la transcripción (0-100)
@@ -120,7 +180,9 @@ public class Meeting {
     @JoinTable(
         name = "meeting_participants",
         joinColumns = @JoinColumn(name = "meeting_id"),
-        inverseJoinColumns = @JoinColumn(name = "user_id")
+        inverseJoinColumns = @JoinColumn(name = "user_id"),
+        // Reuniones en las que participa un usuario (la clave primaria empieza por meeting_id)
+        indexes = @Index(name = "idx_meeting_participants_user", columnList = "user_id, meeting_id")
     )
     private Set<User> participants = new HashSet<>();
 
@@ -185,6 +247,76 @@ public class Meeting {
         this.participants.remove(participant);
     }
 
+    /**
+     * Transcripción generada por IA; se descomprime al leerla
+     * 
+     * @return Transcripción, o null si no existe
+     */
+    public String getTranscript() {
+        return transcriptData != null ? transcriptData.text() : legacyTranscript;
+    }
+
+    /**
+     * Asigna la transcripción; se comprime al guardar la reunión
+     * 
+     * @param transcript Nueva transcripción
+     */
+    public void setTranscript(String transcript) {
+        this.transcriptData = CompressedText.of(transcript);
+        this.transcriptLength = transcript != null ? transcript.length() : null;
+        this.legacyTranscript = null;
+    }
+
+    /**
+     * Transcripción en su forma comprimida, para copiarla sin descomprimirla
+     * 
+     * @return Transcripción comprimida, o null si no existe
+     */
+    public CompressedText getCompressedTranscript() {
+        return transcriptData != null ? transcriptData : CompressedText.of(legacyTranscript);
+    }
+
+    /**
+     * Asigna una transcripción ya comprimida (p. ej. reutilizada de otra grabación)
+     * 
+     * @param transcript Transcripción comprimida
+     * @param length Longitud en caracteres
+     */
+    public void setCompressedTranscript(CompressedText transcript, Integer length) {
+        this.transcriptData = transcript;
+        this.transcriptLength = length;
+        this.legacyTranscript = null;
+    }
+
+    /**
+     * Agrega texto al final de la transcripción, separado por un espacio
+     * 
+     * @param text Texto a agregar
+     */
+    public void appendTranscript(String text) {
+        String current = getTranscript();
+        setTranscript(current == null || current.isEmpty() ? text : current + ' ' + text);
+    }
+
+    /**
+     * Resumen generado por IA; se descomprime al leerlo
+     * 
+     * @return Resumen, o null si no existe
+     */
+    public String getSummary() {
+        return summaryData != null ? summaryData.text() : legacySummary;
+    }
+
+    /**
+     * Asigna el resumen; se comprime al guardar la reunión
+     * 
+     * @param summary Nuevo resumen
+     */
+    public void setSummary(String summary) {
+        this.summaryData = CompressedText.of(summary);
+        this.legacySummary = null;
+    }
+
     /**
      * Calcula la duración de la reunión en segundos
      * 
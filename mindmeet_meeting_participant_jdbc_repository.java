@@ -0,0 +1,101 @@
+package com.deloitte.mindmeet.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Acceso JDBC directo a la tabla de unión meeting_participants
+ * Permite agregar participantes en lotes sin cargar la colección
+ * Meeting.participants ni volver a guardar la reunión completa
+ *
+ * Cada cambio de participantes actualiza meetings.updated_at, igual que
+ * un guardado de la reunión: el refresco periódico del índice de búsqueda
+ * detecta los cambios de otras instancias por esa columna
+ *
+ * @author MindMeet Team
+ * @version 1.0
+ */
+@Repository
+@RequiredArgsConstructor
+public class MeetingParticipantJdbcRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Tamaño de lote JDBC, el mismo configurado para Hibernate
+     */
+    @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:20}")
+    private int batchSize;
+
+    /**
+     * Obtiene los IDs de los participantes actuales de una reunión
+     *
+     * @param meetingId ID de la reunión
+     * @return IDs de usuario
+     */
+    public List<Long> findParticipantIds(Long meetingId) {
+        return jdbcTemplate.queryForList(
+            "SELECT user_id FROM meeting_participants WHERE meeting_id = ?",
+            Long.class, meetingId);
+    }
+
+    /**
+     * Obtiene el ID del organizador de una reunión
+     *
+     * @param meetingId ID de la reunión
+     * @return ID del organizador, o null si la reunión no existe
+     */
+    public Long findOrganizerId(Long meetingId) {
+        List<Long> ids = jdbcTemplate.queryForList(
+            "SELECT organizer_id FROM meetings WHERE id = ?", Long.class, meetingId);
+        return ids.isEmpty() ? null : ids.get(0);
+    }
+
+    /**
+     * Elimina un participante de una reunión
+     *
+     * @param meetingId ID de la reunión
+     * @param userId ID del usuario
+     * @return true si el usuario era participante
+     */
+    public boolean deleteParticipant(Long meetingId, Long userId) {
+        boolean deleted = jdbcTemplate.update(
+            "DELETE FROM meeting_participants WHERE meeting_id = ? AND user_id = ?",
+            meetingId, userId) > 0;
+        if (deleted) {
+            touchMeeting(meetingId);
+        }
+        return deleted;
+    }
+
+    /**
+     * Inserta participantes en lotes JDBC
+     *
+     * @param meetingId ID de la reunión
+     * @param userIds IDs de los usuarios a agregar (no deben existir ya en la reunión)
+     */
+    public void insertParticipants(Long meetingId, Collection<Long> userIds) {
+        jdbcTemplate.batchUpdate(
+            "INSERT INTO meeting_participants (meeting_id, user_id) VALUES (?, ?)",
+            new ArrayList<>(userIds),
+            batchSize,
+            (statement, userId) -> {
+                statement.setLong(1, meetingId);
+                statement.setLong(2, userId);
+            });
+        touchMeeting(meetingId);
+    }
+
+    private void touchMeeting(Long meetingId) {
+        jdbcTemplate.update("UPDATE meetings SET updated_at = ? WHERE id = ?",
+            Timestamp.valueOf(LocalDateTime.now()), meetingId);
+    }
+}
@@ -0,0 +1,267 @@
+package com.deloitte.mindmeet.repository;
+
+import com.deloitte.mindmeet.dto.MeetingSummaryView;
+import com.deloitte.mindmeet.model.CompressedText;
+import com.deloitte.mindmeet.model.Meeting;
+import com.deloitte.mindmeet.model.User;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Repositorio de acceso a datos para reuniones
+ *
+ * @author MindMeet Team
+ * @version 1.0
+ */
+@Repository
+public interface MeetingRepository extends JpaRepository<Meeting, Long> {
+
+    /**
+     * Columnas comunes al final de las proyecciones de listado
+     */
+    String SUMMARY_TAIL =
+        "m.transcriptionAccuracy AS transcriptionAccuracy, " +
+        "o.fullName AS organizerName, o.email AS organizerEmail, " +
+        "(SELECT COUNT(p) FROM Meeting mp JOIN mp.participants p WHERE mp.id = m.id) AS participantCount, " +
+        "m.createdAt AS createdAt, m.updatedAt AS updatedAt " +
+        "FROM Meeting m JOIN m.organizer o ";
+
+    /**
+     * Columnas de la proyección de listado: organizador unido y conteo de
+     * participantes como subconsulta correlacionada
+     */
+    String SUMMARY_SELECT =
+        "SELECT m.id AS id, m.title AS title, m.description AS description, " +
+        "m.startTime AS startTime, m.endTime AS endTime, m.durationSeconds AS durationSeconds, " +
+        "CAST(m.status AS String) AS status, CAST(m.processingStatus AS String) AS processingStatus, " +
+        "m.recordingUrl AS recordingUrl, " +
+        "m.legacyTranscript AS legacyTranscript, m.transcriptData AS transcriptData, " +
+        "m.legacySummary AS legacySummary, m.summaryData AS summaryData, " +
+        SUMMARY_TAIL;
+
+    /**
+     * Variante compacta de la proyección: no lee las columnas de
+     * transcripción ni resumen (getTranscript y getSummary no deben usarse)
+     */
+    String COMPACT_SUMMARY_SELECT =
+        "SELECT m.id AS id, m.title AS title, m.description AS description, " +
+        "m.startTime AS startTime, m.endTime AS endTime, m.durationSeconds AS durationSeconds, " +
+        "CAST(m.status AS String) AS status, CAST(m.processingStatus AS String) AS processingStatus, " +
+        "m.recordingUrl AS recordingUrl, " +
+        SUMMARY_TAIL;
+
+    /**
+     * Filtro de visibilidad: el usuario es organizador o participante
+     */
+    String VISIBLE_TO_USER =
+        "WHERE o = :user OR EXISTS (SELECT 1 FROM Meeting mv JOIN mv.participants pv " +
+        "WHERE mv.id = m.id AND pv = :user) ";
+
+    /**
+     * Filtro de cursor: reuniones anteriores a (createdAt, id), más recientes primero
+     */
+    String BEFORE_CURSOR =
+        "AND (m.createdAt < :createdAt OR (m.createdAt = :createdAt AND m.id < :id)) " +
+        "ORDER BY m.createdAt DESC, m.id DESC";
+
+    /**
+     * Busca reuniones donde el usuario es organizador o participante
+     */
+    Page<Meeting> findByOrganizerOrParticipants(User organizer, User participant, Pageable pageable);
+
+    /**
+     * Lista reuniones visibles para el usuario como proyección en una sola consulta
+     *
+     * @param user Usuario organizador o participante
+     * @param pageable Configuración de paginación
+     * @return Página de proyecciones de reunión
+     */
+    @Query(
+        value = SUMMARY_SELECT + VISIBLE_TO_USER,
+        countQuery = "SELECT COUNT(m) FROM Meeting m JOIN m.organizer o " + VISIBLE_TO_USER
+    )
+    Page<MeetingSummaryView> findSummariesVisibleTo(@Param("user") User user, Pageable pageable);
+
+    /**
+     * Lista reuniones visibles para el usuario sin transcripción ni resumen
+     *
+     * @param user Usuario organizador o participante
+     * @param pageable Configuración de paginación
+     * @return Página de proyecciones compactas
+     */
+    @Query(
+        value = COMPACT_SUMMARY_SELECT + VISIBLE_TO_USER,
+        countQuery = "SELECT COUNT(m) FROM Meeting m JOIN m.organizer o " + VISIBLE_TO_USER
+    )
+    Page<MeetingSummaryView> findCompactSummariesVisibleTo(@Param("user") User user, Pageable pageable);
+
+    /**
+     * Reuniones organizadas por el usuario anteriores al cursor, sin consulta COUNT
+     *
+     * @param user Usuario organizador
+     * @param createdAt Fecha de creación del cursor
+     * @param id ID del cursor
+     * @param limit Número máximo de filas (solo se usa el tamaño)
+     * @return Proyecciones ordenadas por (createdAt, id) descendente
+     */
+    @Query(SUMMARY_SELECT + "WHERE o = :user " + BEFORE_CURSOR)
+    List<MeetingSummaryView> findSummariesOrganizedBefore(@Param("user") User user,
+                                                          @Param("createdAt") LocalDateTime createdAt,
+                                                          @Param("id") Long id,
+                                                          Pageable limit);
+
+    /**
+     * Variante compacta de {@link #findSummariesOrganizedBefore}
+     */
+    @Query(COMPACT_SUMMARY_SELECT + "WHERE o = :user " + BEFORE_CURSOR)
+    List<MeetingSummaryView> findCompactSummariesOrganizedBefore(@Param("user") User user,
+                                                                 @Param("createdAt") LocalDateTime createdAt,
+                                                                 @Param("id") Long id,
+                                                                 Pageable limit);
+
+    /**
+     * Reuniones en las que participa el usuario anteriores al cursor, sin consulta COUNT
+     * Excluye las que organiza, para que ambas listas no se solapen
+     *
+     * @param user Usuario participante
+     * @param createdAt Fecha de creación del cursor
+     * @param id ID del cursor
+     * @param limit Número máximo de filas (solo se usa el tamaño)
+     * @return Proyecciones ordenadas por (createdAt, id) descendente
+     */
+    @Query(SUMMARY_SELECT + "JOIN m.participants pc WHERE pc = :user AND o <> :user " + BEFORE_CURSOR)
+    List<MeetingSummaryView> findSummariesParticipatingBefore(@Param("user") User user,
+                                                              @Param("createdAt") LocalDateTime createdAt,
+                                                              @Param("id") Long id,
+                                                              Pageable limit);
+
+    /**
+     * Variante compacta de {@link #findSummariesParticipatingBefore}
+     */
+    @Query(COMPACT_SUMMARY_SELECT + "JOIN m.participants pc WHERE pc = :user AND o <> :user " + BEFORE_CURSOR)
+    List<MeetingSummaryView> findCompactSummariesParticipatingBefore(@Param("user") User user,
+                                                                     @Param("createdAt") LocalDateTime createdAt,
+                                                                     @Param("id") Long id,
+                                                                     Pageable limit);
+
+    /**
+     * Obtiene la proyección de una reunión por ID
+     */
+    @Query(SUMMARY_SELECT + "WHERE m.id = :id")
+    Optional<MeetingSummaryView> findSummaryById(@Param("id") Long id);
+
+    /**
+     * Obtiene la proyección compacta de una reunión por ID
+     */
+    @Query(COMPACT_SUMMARY_SELECT + "WHERE m.id = :id")
+    Optional<MeetingSummaryView> findCompactSummaryById(@Param("id") Long id);
+
+    /**
+     * Longitud en caracteres de la transcripción, comprimida o heredada
+     */
+    @Query("SELECT COALESCE(m.transcriptLength, LENGTH(m.legacyTranscript)) FROM Meeting m WHERE m.id = :id")
+    Integer findTranscriptLength(@Param("id") Long id);
+
+    /**
+     * Obtiene la transcripción comprimida sin cargar la reunión
+     *
+     * @param id ID de la reunión
+     * @return Transcripción comprimida, o null si no existe o la fila no está migrada
+     */
+    @Query("SELECT m.transcriptData FROM Meeting m WHERE m.id = :id")
+    CompressedText findCompressedTranscript(@Param("id") Long id);
+
+    /**
+     * Lee un fragmento de la transcripción heredada (sin comprimir)
+     * sin materializar el texto completo
+     *
+     * @param id ID de la reunión
+     * @param start Posición inicial (base 1)
+     * @param length Número de caracteres
+     * @return Fragmento de la transcripción
+     */
+    @Query("SELECT SUBSTRING(m.legacyTranscript, :start, :length) FROM Meeting m WHERE m.id = :id")
+    String findTranscriptChunk(@Param("id") Long id,
+                               @Param("start") int start,
+                               @Param("length") int length);
+
+    /**
+     * Estado de una reunión si el usuario es su organizador
+     *
+     * @param id ID de la reunión
+     * @param email Email del organizador
+     * @return Estado de la reunión, vacío si no existe o el usuario no la organiza
+     */
+    @Query("SELECT m.status FROM Meeting m WHERE m.id = :id AND m.organizer.email = :email")
+    Optional<MeetingStatus> findStatusForOrganizer(@Param("id") Long id, @Param("email") String email);
+
+    /**
+     * Busca una reunión bloqueando la fila, para agregar texto a la
+     * transcripción sin perder escrituras concurrentes
+     *
+     * @param id ID de la reunión
+     * @return Reunión bloqueada hasta el fin de la transacción
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT m FROM Meeting m WHERE m.id = :id")
+    Optional<Meeting> findByIdForUpdate(@Param("id") Long id);
+
+    /**
+     * Obtiene solo el estado de procesamiento de IA de una reunión
+     *
+     * @param id ID de la reunión
+     * @return Estado de procesamiento, vacío si la reunión no existe
+     */
+    @Query("SELECT m.processingStatus FROM Meeting m WHERE m.id = :id")
+    Optional<ProcessingStatus> findProcessingStatusById(@Param("id") Long id);
+
+    /**
+     * Actualiza el estado de procesamiento de IA sin cargar la reunión
+     *
+     * @param id ID de la reunión
+     * @param status Nuevo estado de procesamiento
+     * @return Número de filas actualizadas
+     */
+    @Modifying
+    @Query("UPDATE Meeting m SET m.processingStatus = :status WHERE m.id = :id")
+    int updateProcessingStatus(@Param("id") Long id, @Param("status") ProcessingStatus status);
+
+    /**
+     * Agrega los valores de las estadísticas del dashboard de un organizador
+     * Se usa solo en la reconciliación periódica de organizer_meeting_stats
+     *
+     * @param organizerId ID del organizador
+     * @return Una fila [total, completadas, suma de precisión, reuniones con precisión]
+     */
+    @Query("SELECT COUNT(m), " +
+           "COALESCE(SUM(CASE WHEN m.status = 'COMPLETED' THEN 1 ELSE 0 END), 0), " +
+           "COALESCE(SUM(m.transcriptionAccuracy), 0), COUNT(m.transcriptionAccuracy) " +
+           "FROM Meeting m WHERE m.organizer.id = :organizerId")
+    List<Object[]> aggregateStatsForOrganizer(@Param("organizerId") Long organizerId);
+
+    /**
+     * IDs de los usuarios que organizan al menos una reunión
+     */
+    @Query("SELECT DISTINCT m.organizer.id FROM Meeting m")
+    List<Long> findOrganizerIds();
+
+    /**
+     * Cuenta las reuniones por estado de procesamiento de IA
+     * Se usa solo para el gauge periódico de distribución de estados
+     *
+     * @return Filas [estado de procesamiento, número de reuniones]
+     */
+    @Query("SELECT m.processingStatus, COUNT(m) FROM Meeting m GROUP BY m.processingStatus")
+    List<Object[]> countByProcessingStatus();
+}
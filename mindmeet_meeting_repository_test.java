@@ -0,0 +1,153 @@
+package com.deloitte.mindmeet.repository;
+
+import com.deloitte.mindmeet.dto.MeetingSummaryView;
+import com.deloitte.mindmeet.model.Meeting;
+import com.deloitte.mindmeet.model.User;
+import com.deloitte.mindmeet.service.TextCompressionCodec;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Pruebas del listado de reuniones visibles para un usuario
+ *
+ * Verifica con las estadísticas de Hibernate que cada página se construye
+ * con la consulta de la proyección más, como mucho, la consulta COUNT,
+ * sin importar cuántas reuniones, participantes o transcripciones tenga.
+ *
+ * @author MindMeet Team
+ * @version 1.0
+ */
+@DataJpaTest(properties = {
+    "spring.jpa.properties.hibernate.generate_statistics=true",
+    "mindmeet.compression.dictionary.enabled=false"
+})
+@Import({TextCompressionCodec.class, MeetingRepositoryTest.MetricsConfig.class})
+class MeetingRepositoryTest {
+
+    private static final int PAGE_SIZE = 10;
+
+    @Autowired
+    private MeetingRepository meetingRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private User viewer;
+    private Statistics statistics;
+
+    @BeforeEach
+    void seed() {
+        viewer = persist(new User("Ana Viewer", "ana@mindmeet.test", "password-ana"));
+        User other = persist(new User("Luis Other", "luis@mindmeet.test", "password-luis"));
+        User stranger = persist(new User("Eva Stranger", "eva@mindmeet.test", "password-eva"));
+
+        LocalDateTime start = LocalDateTime.now().minusDays(30);
+        for (int i = 0; i < 15; i++) {
+            Meeting meeting = new Meeting("Organizada " + i, start.plusHours(i), viewer);
+            meeting.addParticipant(other);
+            meeting.addParticipant(stranger);
+            meeting.setTranscript("Transcripción de la reunión organizada " + i);
+            meeting.setSummary("Resumen " + i);
+            entityManager.persist(meeting);
+        }
+        for (int i = 0; i < 10; i++) {
+            Meeting meeting = new Meeting("Invitada " + i, start.plusDays(1).plusHours(i), other);
+            meeting.addParticipant(viewer);
+            entityManager.persist(meeting);
+        }
+        for (int i = 0; i < 5; i++) {
+            entityManager.persist(new Meeting("Ajena " + i, start.plusDays(2).plusHours(i), stranger));
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManager.getEntityManagerFactory()
+            .unwrap(SessionFactory.class)
+            .getStatistics();
+    }
+
+    @Test
+    void findSummariesVisibleToRunsAtMostTwoStatementsPerPage() {
+        // 25 reuniones visibles: dos páginas completas (proyección + COUNT)
+        // y una última incompleta en la que Spring Data omite el COUNT
+        long[] expectedStatements = {2, 2, 1};
+
+        for (int page = 0; page < expectedStatements.length; page++) {
+            statistics.clear();
+
+            Page<MeetingSummaryView> result = meetingRepository.findSummariesVisibleTo(
+                viewer, PageRequest.of(page, PAGE_SIZE, Sort.by(Sort.Direction.DESC, "createdAt")));
+            readEveryColumn(result);
+
+            assertThat(result.getTotalElements()).isEqualTo(25);
+            assertThat(statistics.getPrepareStatementCount())
+                .as("sentencias SQL de la página %d", page)
+                .isEqualTo(expectedStatements[page]);
+            assertThat(statistics.getEntityLoadCount())
+                .as("entidades cargadas en la página %d", page)
+                .isZero();
+        }
+    }
+
+    @Test
+    void findSummariesVisibleToCountsParticipantsInTheSameQuery() {
+        statistics.clear();
+
+        Page<MeetingSummaryView> result = meetingRepository.findSummariesVisibleTo(
+            viewer, PageRequest.of(0, 30));
+
+        assertThat(result.getContent()).hasSize(25);
+        assertThat(result.getContent())
+            .filteredOn(view -> view.getTitle().startsWith("Organizada"))
+            .allSatisfy(view -> {
+                assertThat(view.getParticipantCount()).isEqualTo(2L);
+                assertThat(view.getOrganizerEmail()).isEqualTo("ana@mindmeet.test");
+                assertThat(view.getTranscript()).startsWith("Transcripción");
+            });
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    /**
+     * Lee todos los campos de la proyección, incluidos los derivados, para
+     * detectar cargas perezosas que añadan sentencias
+     */
+    private static void readEveryColumn(Page<MeetingSummaryView> page) {
+        for (MeetingSummaryView view : page.getContent()) {
+            assertThat(view.getOrganizerName()).isNotBlank();
+            assertThat(view.getParticipantCount()).isNotNull();
+            view.getTranscript();
+            view.getSummary();
+        }
+    }
+
+    private User persist(User user) {
+        entityManager.persist(user);
+        return user;
+    }
+
+    @TestConfiguration
+    static class MetricsConfig {
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+}
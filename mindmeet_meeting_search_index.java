@@ -0,0 +1,509 @@
+package com.deloitte.mindmeet.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Índice invertido en memoria sobre título, descripción, resumen y transcripción
+ *
+ * Cada reunión recibe un ordinal interno; las listas de postings guardan
+ * ordinales, frecuencias ponderadas por campo y la posición de la primera
+ * aparición del término en arreglos primitivos. La relevancia se calcula
+ * con BM25 (k1 = 1.2, b = 0.75). Los términos se
+ * normalizan a minúsculas sin tildes y se descartan las palabras vacías del
+ * español. Reindexar o eliminar una reunión deja su ordinal anterior como
+ * inactivo; cuando los inactivos superan a los activos se compacta el índice.
+ *
+ * Cada reunión guarda también su título y los IDs ordenados de su
+ * organizador y participantes: la búsqueda filtra la visibilidad sin
+ * consultar la base de datos, y el resultado indica el campo y la posición
+ * de la coincidencia para leer solo ese fragmento del texto.
+ *
+ * @author MindMeet Team
+ * @version 1.0
+ */
+@Component
+@Slf4j
+public class MeetingSearchIndex {
+
+    private static final float K1 = 1.2f;
+    private static final float B = 0.75f;
+
+    private static final float TITLE_WEIGHT = 3.0f;
+    private static final float SUMMARY_WEIGHT = 2.0f;
+    private static final float DESCRIPTION_WEIGHT = 1.5f;
+    private static final float TRANSCRIPT_WEIGHT = 1.0f;
+
+    private static final int MIN_TERM_LENGTH = 2;
+
+    /**
+     * Campos en orden de preferencia para el fragmento del resultado
+     */
+    private static final String[] SNIPPET_FIELDS = {"summary", "transcript", "description", "title"};
+    private static final int OFFSET_BITS = 28;
+    private static final int MAX_OFFSET = (1 << OFFSET_BITS) - 1;
+
+    private static final Set<String> STOPWORDS = Set.of(
+        "a", "al", "algo", "ante", "antes", "aqui", "asi", "bajo", "cada", "como", "con", "contra",
+        "cual", "cuando", "de", "del", "desde", "donde", "dos", "el", "ella", "ellas", "ellos", "en",
+        "entre", "era", "es", "esa", "ese", "eso", "esta", "estaba", "estan", "este", "esto", "estos",
+        "fue", "ha", "hay", "hasta", "la", "las", "le", "les", "lo", "los", "mas", "me", "mi", "muy",
+        "nos", "o", "otra", "otro", "para", "pero", "por", "porque", "que", "se", "sea", "ser", "si",
+        "sin", "sobre", "son", "su", "sus", "tambien", "te", "tiene", "todo", "todos", "tu", "un",
+        "una", "uno", "unos", "y", "ya", "yo"
+    );
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<String, Postings> postingsByTerm = new HashMap<>();
+    private final Map<Long, Integer> ordinalByMeeting = new HashMap<>();
+    private final BitSet live = new BitSet();
+
+    private long[] meetingIds = new long[1024];
+    private float[] lengths = new float[1024];
+    private String[] titles = new String[1024];
+    private long[][] members = new long[1024][];
+    private int nextOrdinal;
+    private int liveCount;
+    private double totalLength;
+
+    /**
+     * Indexa o reindexa una reunión
+     *
+     * @param document Textos de la reunión
+     */
+    public void index(SearchDocument document) {
+        Map<String, Float> frequencies = new HashMap<>();
+        Map<String, Integer> positions = new HashMap<>();
+        float length = 0;
+        length += addTerms(frequencies, positions, document.summary(), 0, SUMMARY_WEIGHT);
+        length += addTerms(frequencies, positions, document.transcript(), 1, TRANSCRIPT_WEIGHT);
+        length += addTerms(frequencies, positions, document.description(), 2, DESCRIPTION_WEIGHT);
+        length += addTerms(frequencies, positions, document.title(), 3, TITLE_WEIGHT);
+        long[] memberIds = sortedMembers(document.memberIds());
+
+        lock.writeLock().lock();
+        try {
+            removeLocked(document.meetingId());
+
+            int ordinal = nextOrdinal++;
+            ensureCapacity(ordinal + 1);
+            meetingIds[ordinal] = document.meetingId();
+            lengths[ordinal] = length;
+            titles[ordinal] = document.title();
+            members[ordinal] = memberIds;
+            live.set(ordinal);
+            liveCount++;
+            totalLength += length;
+            ordinalByMeeting.put(document.meetingId(), ordinal);
+
+            for (Map.Entry<String, Float> entry : frequencies.entrySet()) {
+                postingsByTerm.computeIfAbsent(entry.getKey(), term -> new Postings())
+                    .add(ordinal, entry.getValue(), positions.get(entry.getKey()));
+            }
+
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Reemplaza el organizador y los participantes de una reunión indexada
+     * Sin efecto si la reunión no está en el índice
+     *
+     * @param meetingId ID de la reunión
+     * @param memberIds IDs del organizador y los participantes
+     */
+    public void updateMembers(Long meetingId, long[] memberIds) {
+        long[] sorted = sortedMembers(memberIds);
+        lock.writeLock().lock();
+        try {
+            Integer ordinal = ordinalByMeeting.get(meetingId);
+            if (ordinal != null) {
+                members[ordinal] = sorted;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Elimina una reunión del índice
+     *
+     * @param meetingId ID de la reunión
+     */
+    public void remove(Long meetingId) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(meetingId);
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Busca reuniones por relevancia BM25 entre las que el usuario organiza
+     * o en las que participa
+     *
+     * @param query Texto de búsqueda
+     * @param userId ID del usuario
+     * @param limit Número máximo de resultados
+     * @return Resultados ordenados por relevancia descendente
+     */
+    public List<Hit> search(String query, Long userId, int limit) {
+        Set<String> terms = queryTerms(query);
+        if (terms.isEmpty() || userId == null) {
+            return Collections.emptyList();
+        }
+
+        Map<Integer, Match> matches = new HashMap<>();
+        lock.readLock().lock();
+        try {
+            if (liveCount == 0) {
+                return Collections.emptyList();
+            }
+            float averageLength = (float) (totalLength / liveCount);
+
+            for (String term : terms) {
+                Postings postings = postingsByTerm.get(term);
+                if (postings == null) {
+                    continue;
+                }
+                // df aproximado: incluye ordinales inactivos hasta la próxima compactación
+                int documentFrequency = Math.min(postings.size, liveCount);
+                double idf = Math.log(1 + (liveCount - documentFrequency + 0.5) / (documentFrequency + 0.5));
+
+                for (int i = 0; i < postings.size; i++) {
+                    int ordinal = postings.ordinals[i];
+                    if (!live.get(ordinal) || Arrays.binarySearch(members[ordinal], userId) < 0) {
+                        continue;
+                    }
+                    float frequency = postings.frequencies[i];
+                    float norm = K1 * (1 - B + B * lengths[ordinal] / averageLength);
+                    float score = (float) (idf * frequency * (K1 + 1) / (frequency + norm));
+                    matches.computeIfAbsent(ordinal, key -> new Match()).add(score, postings.positions[i]);
+                }
+            }
+
+            PriorityQueue<Hit> top = new PriorityQueue<>(limit + 1, (a, b) -> Float.compare(a.score(), b.score()));
+            for (Map.Entry<Integer, Match> entry : matches.entrySet()) {
+                int ordinal = entry.getKey();
+                Match match = entry.getValue();
+                top.add(new Hit(meetingIds[ordinal], titles[ordinal], match.score,
+                    SNIPPET_FIELDS[match.position >>> OFFSET_BITS], match.position & MAX_OFFSET));
+                if (top.size() > limit) {
+                    top.poll();
+                }
+            }
+
+            List<Hit> hits = new ArrayList<>(top);
+            hits.sort((a, b) -> Float.compare(b.score(), a.score()));
+            return hits;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Número de reuniones indexadas
+     *
+     * @return Reuniones activas en el índice
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return liveCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Términos normalizados de una consulta, sin palabras vacías
+     *
+     * @param query Texto de búsqueda
+     * @return Términos únicos en orden de aparición
+     */
+    public static Set<String> queryTerms(String query) {
+        Set<String> terms = new LinkedHashSet<>();
+        if (query != null) {
+            forEachTerm(fold(query), (term, start) -> terms.add(term));
+        }
+        return terms;
+    }
+
+    /**
+     * Genera un fragmento del texto alrededor de la primera coincidencia
+     * Los términos encontrados se marcan con &lt;em&gt;
+     *
+     * @param text Texto original
+     * @param terms Términos normalizados de la consulta
+     * @param width Ancho aproximado del fragmento en caracteres
+     * @return Fragmento, o null si el texto no contiene ningún término
+     */
+    public static String snippet(String text, Set<String> terms, int width) {
+        return snippet(text, true, true, terms, width);
+    }
+
+    /**
+     * Genera un fragmento a partir de una ventana del texto original
+     * Si la ventana no empieza o no termina con el texto, el fragmento se
+     * marca con "…" de ese lado aunque llegue al borde de la ventana
+     *
+     * @param window Ventana del texto original
+     * @param atStart Si la ventana empieza al principio del texto
+     * @param atEnd Si la ventana termina al final del texto
+     * @param terms Términos normalizados de la consulta
+     * @param width Ancho aproximado del fragmento en caracteres
+     * @return Fragmento, o null si la ventana no contiene ningún término
+     */
+    public static String snippet(String window, boolean atStart, boolean atEnd, Set<String> terms, int width) {
+        String text = window;
+        if (text == null || text.isEmpty()) {
+            return null;
+        }
+
+        // fold conserva la longitud, así que las posiciones valen para el texto original
+        String folded = fold(text);
+        List<int[]> matches = new ArrayList<>();
+        forEachTerm(folded, (term, start) -> {
+            if (terms.contains(term)) {
+                matches.add(new int[] {start, start + term.length()});
+            }
+        });
+        if (matches.isEmpty()) {
+            return null;
+        }
+
+        int first = matches.get(0)[0];
+        int from = Math.max(0, first - width / 3);
+        int to = Math.min(text.length(), from + width);
+        while (from > 0 && !Character.isWhitespace(text.charAt(from - 1)) && first - from < width / 2) {
+            from--;
+        }
+
+        StringBuilder snippet = new StringBuilder(width + 32);
+        if (from > 0 || !atStart) {
+            snippet.append("…");
+        }
+        int position = from;
+        for (int[] match : matches) {
+            if (match[0] < from) {
+                continue;
+            }
+            if (match[1] > to) {
+                break;
+            }
+            snippet.append(text, position, match[0])
+                .append("<em>").append(text, match[0], match[1]).append("</em>");
+            position = match[1];
+        }
+        snippet.append(text, position, to);
+        if (to < text.length() || !atEnd) {
+            snippet.append("…");
+        }
+        return snippet.toString();
+    }
+
+    /**
+     * Agrega los términos de un campo; la posición guardada por término es la
+     * primera aparición en el campo de mayor preferencia para el fragmento
+     * (índice del campo en los bits altos, desplazamiento en los bajos)
+     */
+    private float addTerms(Map<String, Float> frequencies, Map<String, Integer> positions,
+                           String text, int field, float weight) {
+        if (text == null || text.isEmpty()) {
+            return 0;
+        }
+        float[] length = {0};
+        forEachTerm(fold(text), (term, start) -> {
+            frequencies.merge(term, weight, Float::sum);
+            positions.putIfAbsent(term, field << OFFSET_BITS | Math.min(start, MAX_OFFSET));
+            length[0] += weight;
+        });
+        return length[0];
+    }
+
+    private static long[] sortedMembers(long[] memberIds) {
+        long[] sorted = memberIds != null ? memberIds.clone() : new long[0];
+        Arrays.sort(sorted);
+        return sorted;
+    }
+
+    private void removeLocked(Long meetingId) {
+        Integer ordinal = ordinalByMeeting.remove(meetingId);
+        if (ordinal != null && live.get(ordinal)) {
+            live.clear(ordinal);
+            liveCount--;
+            totalLength -= lengths[ordinal];
+            titles[ordinal] = null;
+            members[ordinal] = null;
+        }
+    }
+
+    /**
+     * Reasigna ordinales consecutivos y elimina los postings inactivos
+     */
+    private void compactIfNeeded() {
+        int dead = nextOrdinal - liveCount;
+        if (dead < 1024 || dead < liveCount) {
+            return;
+        }
+
+        int[] remap = new int[nextOrdinal];
+        Arrays.fill(remap, -1);
+        int next = 0;
+        for (int ordinal = live.nextSetBit(0); ordinal >= 0; ordinal = live.nextSetBit(ordinal + 1)) {
+            remap[ordinal] = next;
+            meetingIds[next] = meetingIds[ordinal];
+            lengths[next] = lengths[ordinal];
+            titles[next] = titles[ordinal];
+            members[next] = members[ordinal];
+            next++;
+        }
+
+        postingsByTerm.values().removeIf(postings -> postings.remap(remap) == 0);
+        ordinalByMeeting.replaceAll((meetingId, ordinal) -> remap[ordinal]);
+        Arrays.fill(titles, next, nextOrdinal, null);
+        Arrays.fill(members, next, nextOrdinal, null);
+        live.clear();
+        live.set(0, next);
+        nextOrdinal = next;
+
+        log.info("Índice de búsqueda compactado: {} reuniones, {} términos", liveCount, postingsByTerm.size());
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity > meetingIds.length) {
+            int newLength = Math.max(capacity, meetingIds.length * 2);
+            meetingIds = Arrays.copyOf(meetingIds, newLength);
+            lengths = Arrays.copyOf(lengths, newLength);
+            titles = Arrays.copyOf(titles, newLength);
+            members = Arrays.copyOf(members, newLength);
+        }
+    }
+
+    /**
+     * Convierte a minúsculas y quita tildes carácter a carácter, conservando la longitud
+     */
+    private static String fold(String text) {
+        char[] chars = new char[text.length()];
+        for (int i = 0; i < chars.length; i++) {
+            char c = text.charAt(i);
+            if (c < 128) {
+                chars[i] = Character.toLowerCase(c);
+            } else {
+                String decomposed = Normalizer.normalize(String.valueOf(c), Normalizer.Form.NFD);
+                chars[i] = Character.toLowerCase(decomposed.charAt(0));
+            }
+        }
+        return new String(chars);
+    }
+
+    private static void forEachTerm(String folded, TermConsumer consumer) {
+        int start = -1;
+        for (int i = 0; i <= folded.length(); i++) {
+            boolean wordChar = i < folded.length() && Character.isLetterOrDigit(folded.charAt(i));
+            if (wordChar && start < 0) {
+                start = i;
+            } else if (!wordChar && start >= 0) {
+                String term = folded.substring(start, i);
+                if (term.length() >= MIN_TERM_LENGTH && !STOPWORDS.contains(term)) {
+                    consumer.accept(term, start);
+                }
+                start = -1;
+            }
+        }
+    }
+
+    @FunctionalInterface
+    private interface TermConsumer {
+        void accept(String term, int start);
+    }
+
+    /**
+     * Relevancia acumulada de una reunión y la mejor posición para el fragmento
+     */
+    private static final class Match {
+
+        private float score;
+        private int position = Integer.MAX_VALUE;
+
+        private void add(float termScore, int termPosition) {
+            score += termScore;
+            position = Math.min(position, termPosition);
+        }
+    }
+
+    /**
+     * Lista de postings de un término en arreglos primitivos
+     */
+    private static final class Postings {
+
+        private int[] ordinals = new int[4];
+        private float[] frequencies = new float[4];
+        private int[] positions = new int[4];
+        private int size;
+
+        private void add(int ordinal, float frequency, int position) {
+            if (size == ordinals.length) {
+                ordinals = Arrays.copyOf(ordinals, size * 2);
+                frequencies = Arrays.copyOf(frequencies, size * 2);
+                positions = Arrays.copyOf(positions, size * 2);
+            }
+            ordinals[size] = ordinal;
+            frequencies[size] = frequency;
+            positions[size] = position;
+            size++;
+        }
+
+        private int remap(int[] remap) {
+            int kept = 0;
+            for (int i = 0; i < size; i++) {
+                int ordinal = remap[ordinals[i]];
+                if (ordinal >= 0) {
+                    ordinals[kept] = ordinal;
+                    frequencies[kept] = frequencies[i];
+                    positions[kept] = positions[i];
+                    kept++;
+                }
+            }
+            size = kept;
+            return kept;
+        }
+    }
+
+    /**
+     * Textos indexables de una reunión y los usuarios que pueden verla
+     */
+    public record SearchDocument(Long meetingId, String title, String description,
+                                 String summary, String transcript, long[] memberIds) {
+    }
+
+    /**
+     * Resultado de búsqueda
+     *
+     * @param meetingId ID de la reunión
+     * @param title Título de la reunión
+     * @param score Relevancia BM25
+     * @param field Campo de la primera coincidencia preferida para el fragmento
+     * @param offset Posición de esa coincidencia dentro del campo
+     */
+    public record Hit(Long meetingId, String title, float score, String field, int offset) {
+    }
+}
@@ -0,0 +1,385 @@
+package com.deloitte.mindmeet.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Mantiene actualizado el índice de búsqueda de reuniones
+ *
+ * Al arrancar la aplicación carga todas las reuniones por bloques de ID; si
+ * un bloque falla, se registra el error y la carga se reintenta desde ese
+ * bloque con espera exponencial. Después, cada creación, modificación,
+ * transcripción, cambio de participantes o eliminación se aplica tras el
+ * commit en un único hilo, de modo que los cambios de una misma reunión se
+ * indexan en orden y nunca antes de ser visibles en la base de datos.
+ *
+ * Los cambios confirmados en otra instancia no llegan por esa vía: un
+ * refresco periódico reindexa las reuniones con meetings.updated_at posterior
+ * al último refresco, con un margen (refresh-overlap-seconds) para las
+ * transacciones que confirman después de fijar la fecha y para la diferencia
+ * de reloj entre instancias. Las reuniones eliminadas en otra instancia no
+ * se detectan aquí; la búsqueda las descarta al verificar el acceso.
+ *
+ * @author MindMeet Team
+ * @version 1.0
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class MeetingSearchIndexer {
+
+    /**
+     * Lee las columnas comprimidas y las heredadas de filas aún no migradas
+     */
+    private static final String SELECT_DOCUMENT =
+        "SELECT id, organizer_id, title, description, summary, summary_z, transcript, transcript_z FROM meetings ";
+
+    private static final String SELECT_MEMBERS =
+        "SELECT meeting_id, user_id FROM meeting_participants WHERE meeting_id IN (:ids)";
+
+    private static final long MAX_RETRY_DELAY_SECONDS = 300;
+
+    private final MeetingSearchIndex searchIndex;
+    private final TextCompressionCodec textCodec;
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+
+    @Value("${mindmeet.search.enabled:true}")
+    private boolean enabled;
+
+    @Value("${mindmeet.search.bootstrap-batch-size:500}")
+    private int batchSize;
+
+    @Value("${mindmeet.search.refresh-overlap-seconds:60}")
+    private long refreshOverlapSeconds;
+
+    /**
+     * Fecha desde la que se buscan cambios; null hasta completar la carga inicial
+     */
+    private volatile LocalDateTime refreshedUpTo;
+
+    private final ScheduledExecutorService executor =
+        Executors.newSingleThreadScheduledExecutor(WorkerThreads.platform("search-indexer"));
+
+    /**
+     * Carga inicial del índice en segundo plano
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void bootstrap() {
+        if (!enabled) {
+            return;
+        }
+        // Los cambios hechos durante la carga los recoge el primer refresco
+        LocalDateTime since = LocalDateTime.now();
+        executor.execute(() -> load(0, 0, System.currentTimeMillis(), since));
+    }
+
+    /**
+     * Carga el índice desde el ID indicado; ante un error reprograma la carga
+     * desde el mismo punto. Las reuniones ya indexadas se conservan
+     */
+    private void load(long fromId, int attempt, long start, LocalDateTime since) {
+        long lastId = fromId;
+        try {
+            List<MeetingSearchIndex.SearchDocument> batch;
+            do {
+                batch = readDocuments("WHERE id > ? ORDER BY id LIMIT ?", lastId, batchSize);
+                batch.forEach(searchIndex::index);
+                if (!batch.isEmpty()) {
+                    lastId = batch.get(batch.size() - 1).meetingId();
+                }
+            } while (batch.size() == batchSize);
+        } catch (RuntimeException e) {
+            long delay = Math.min(MAX_RETRY_DELAY_SECONDS, 1L << Math.min(attempt, 8));
+            log.error("Error en la carga del índice de búsqueda tras el ID {} (intento {}); reintento en {} s",
+                lastId, attempt + 1, delay, e);
+            long resumeFrom = lastId;
+            executor.schedule(() -> load(resumeFrom, attempt + 1, start, since), delay, TimeUnit.SECONDS);
+            return;
+        }
+
+        refreshedUpTo = since;
+        log.info("Índice de búsqueda cargado: {} reuniones en {} ms",
+            searchIndex.size(), System.currentTimeMillis() - start);
+    }
+
+    /**
+     * Reindexa las reuniones modificadas desde el último refresco, incluidas
+     * las que cambiaron en otra instancia
+     */
+    @Scheduled(fixedDelayString = "${mindmeet.search.refresh-interval-ms:30000}",
+               initialDelayString = "${mindmeet.search.refresh-interval-ms:30000}")
+    public void refreshChanges() {
+        if (!enabled || refreshedUpTo == null) {
+            return;
+        }
+        // En el hilo del índice, para no intercalarse con los cambios tras el commit
+        executor.execute(() -> {
+            LocalDateTime since = refreshedUpTo;
+            LocalDateTime now = LocalDateTime.now();
+            try {
+                List<MeetingSearchIndex.SearchDocument> documents = readDocuments(
+                    "WHERE updated_at > ?", Timestamp.valueOf(since.minusSeconds(refreshOverlapSeconds)));
+                documents.forEach(searchIndex::index);
+                refreshedUpTo = now;
+                log.debug("Refresco del índice de búsqueda: {} reuniones modificadas", documents.size());
+            } catch (RuntimeException e) {
+                // Se reintenta desde la misma fecha en el siguiente refresco
+                log.warn("Error al refrescar el índice de búsqueda: {}", e.getMessage());
+            }
+        });
+    }
+
+    @PreDestroy
+    void stop() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Reindexa una reunión tras el commit de la transacción actual
+     *
+     * @param meetingId ID de la reunión
+     */
+    public void reindexAfterCommit(Long meetingId) {
+        afterCommit(() -> {
+            List<MeetingSearchIndex.SearchDocument> documents = readDocuments("WHERE id = ?", meetingId);
+            if (documents.isEmpty()) {
+                searchIndex.remove(meetingId);
+            } else {
+                searchIndex.index(documents.get(0));
+            }
+        });
+    }
+
+    /**
+     * Actualiza los usuarios que pueden ver una reunión tras el commit de la
+     * transacción actual, sin volver a leer sus textos
+     *
+     * @param meetingId ID de la reunión
+     */
+    public void membersChangedAfterCommit(Long meetingId) {
+        afterCommit(() -> {
+            List<Long> organizer = jdbcTemplate.queryForList(
+                "SELECT organizer_id FROM meetings WHERE id = ?", Long.class, meetingId);
+            if (organizer.isEmpty()) {
+                searchIndex.remove(meetingId);
+                return;
+            }
+            Map<Long, List<Long>> participants = loadParticipants(List.of(meetingId));
+            searchIndex.updateMembers(meetingId,
+                memberIds(organizer.get(0), participants.getOrDefault(meetingId, List.of())));
+        });
+    }
+
+    /**
+     * Elimina una reunión del índice tras el commit de la transacción actual
+     *
+     * @param meetingId ID de la reunión
+     */
+    public void removeAfterCommit(Long meetingId) {
+        afterCommit(() -> searchIndex.remove(meetingId));
+    }
+
+    /**
+     * Lee, para cada resultado, solo la ventana del campo alrededor de su
+     * coincidencia: las columnas comprimidas se descomprimen en streaming
+     * hasta el final de la ventana y las heredadas se recortan con SUBSTRING.
+     * El título se toma del propio índice
+     *
+     * @param hits Resultados de la búsqueda
+     * @param before Caracteres a incluir antes de la coincidencia
+     * @param length Longitud máxima de la ventana
+     * @return Ventanas por ID de reunión; sin entrada si la reunión ya no existe
+     */
+    public Map<Long, TextWindow> loadSnippetWindows(List<MeetingSearchIndex.Hit> hits, int before, int length) {
+        Map<Long, TextWindow> windows = new HashMap<>();
+        Map<String, List<MeetingSearchIndex.Hit>> byField = hits.stream()
+            .collect(Collectors.groupingBy(MeetingSearchIndex.Hit::field));
+
+        for (Map.Entry<String, List<MeetingSearchIndex.Hit>> entry : byField.entrySet()) {
+            String field = entry.getKey();
+            List<MeetingSearchIndex.Hit> fieldHits = entry.getValue();
+            if ("title".equals(field)) {
+                fieldHits.forEach(hit -> windows.put(hit.meetingId(), new TextWindow(hit.title(), true, true)));
+                continue;
+            }
+
+            Map<Long, Integer> fromById = fieldHits.stream().collect(Collectors.toMap(
+                MeetingSearchIndex.Hit::meetingId, hit -> Math.max(0, hit.offset() - before)));
+
+            List<Long> legacy = new ArrayList<>();
+            if ("description".equals(field)) {
+                legacy.addAll(fromById.keySet());
+            } else {
+                namedJdbcTemplate.query("SELECT id, " + field + "_z FROM meetings WHERE id IN (:ids)",
+                    new MapSqlParameterSource("ids", fromById.keySet()), rs -> {
+                        long id = rs.getLong("id");
+                        byte[] compressed = rs.getBytes(2);
+                        if (compressed != null) {
+                            windows.put(id, compressedWindow(compressed, fromById.get(id), length));
+                        } else {
+                            legacy.add(id);
+                        }
+                    });
+            }
+
+            for (Long id : legacy) {
+                int from = fromById.get(id);
+                jdbcTemplate.query("SELECT SUBSTRING(" + field + ", ?, ?), CHAR_LENGTH(" + field + ") " +
+                        "FROM meetings WHERE id = ?",
+                    rs -> {
+                        String text = rs.getString(1);
+                        if (text != null) {
+                            windows.put(id, new TextWindow(text, from == 0, from + text.length() >= rs.getInt(2)));
+                        }
+                    }, from + 1, length, id);
+            }
+        }
+        return windows;
+    }
+
+    /**
+     * Descomprime solo hasta el final de la ventana
+     */
+    private TextWindow compressedWindow(byte[] compressed, int from, int length) {
+        try (Reader reader = textCodec.reader(compressed)) {
+            long toSkip = from;
+            while (toSkip > 0) {
+                long skipped = reader.skip(toSkip);
+                if (skipped <= 0) {
+                    break;
+                }
+                toSkip -= skipped;
+            }
+            char[] buffer = new char[length];
+            int read = 0;
+            while (read < length) {
+                int count = reader.read(buffer, read, length - read);
+                if (count < 0) {
+                    break;
+                }
+                read += count;
+            }
+            boolean atEnd = read < length || reader.read() < 0;
+            return new TextWindow(new String(buffer, 0, read), from == 0, atEnd);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private List<MeetingSearchIndex.SearchDocument> readDocuments(String condition, Object... args) {
+        List<DocumentRow> rows = jdbcTemplate.query(SELECT_DOCUMENT + condition, this::mapRow, args);
+        if (rows.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, List<Long>> participants = loadParticipants(
+            rows.stream().map(DocumentRow::meetingId).collect(Collectors.toList()));
+
+        List<MeetingSearchIndex.SearchDocument> documents = new ArrayList<>(rows.size());
+        for (DocumentRow row : rows) {
+            documents.add(new MeetingSearchIndex.SearchDocument(row.meetingId(), row.title(),
+                row.description(), row.summary(), row.transcript(),
+                memberIds(row.organizerId(), participants.getOrDefault(row.meetingId(), List.of()))));
+        }
+        return documents;
+    }
+
+    private Map<Long, List<Long>> loadParticipants(Collection<Long> meetingIds) {
+        Map<Long, List<Long>> participants = new HashMap<>();
+        namedJdbcTemplate.query(SELECT_MEMBERS, new MapSqlParameterSource("ids", meetingIds), rs -> {
+            participants.computeIfAbsent(rs.getLong("meeting_id"), id -> new ArrayList<>())
+                .add(rs.getLong("user_id"));
+        });
+        return participants;
+    }
+
+    private static long[] memberIds(Long organizerId, List<Long> participantIds) {
+        long[] ids = new long[participantIds.size() + 1];
+        ids[0] = organizerId;
+        for (int i = 0; i < participantIds.size(); i++) {
+            ids[i + 1] = participantIds.get(i);
+        }
+        return ids;
+    }
+
+    private DocumentRow mapRow(ResultSet rs, int rowNum) throws SQLException {
+        return new DocumentRow(rs.getLong("id"), rs.getLong("organizer_id"), rs.getString("title"),
+            rs.getString("description"), text(rs, "summary"), text(rs, "transcript"));
+    }
+
+    /**
+     * Texto de la columna comprimida ({@code column}_z) o, si no existe, de la heredada
+     */
+    private String text(ResultSet rs, String column) throws SQLException {
+        byte[] compressed = rs.getBytes(column + "_z");
+        return compressed != null ? textCodec.decode(compressed) : rs.getString(column);
+    }
+
+    private void afterCommit(Runnable update) {
+        if (!enabled) {
+            return;
+        }
+        Runnable task = () -> {
+            try {
+                update.run();
+            } catch (Exception e) {
+                log.error("Error al actualizar el índice de búsqueda: {}", e.getMessage());
+            }
+        };
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    executor.execute(task);
+                }
+            });
+        } else {
+            executor.execute(task);
+        }
+    }
+
+    /**
+     * Fila de meetings leída para indexar
+     */
+    private record DocumentRow(Long meetingId, Long organizerId, String title, String description,
+                               String summary, String transcript) {
+    }
+
+    /**
+     * Ventana del texto de un campo
+     *
+     * @param text Texto de la ventana
+     * @param atStart Si empieza al principio del campo
+     * @param atEnd Si termina al final del campo
+     */
+    public record TextWindow(String text, boolean atStart, boolean atEnd) {
+    }
+}
@@ -0,0 +1,42 @@
+package com.deloitte.mindmeet.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Resultado de la búsqueda de texto en reuniones
+ *
+ * @author MindMeet Team
+ * @version 1.0
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MeetingSearchResult {
+
+    /**
+     * ID de la reunión
+     */
+    private Long meetingId;
+
+    /**
+     * Título de la reunión
+     */
+    private String title;
+
+    /**
+     * Relevancia (BM25); mayor es más relevante
+     */
+    private float score;
+
+    /**
+     * Campo del que proviene el fragmento (title, summary, description, transcript)
+     */
+    private String field;
+
+    /**
+     * Fragmento con los términos encontrados marcados con &lt;em&gt;
+     */
+    private String snippet;
+}
@@ -1,24 +1,52 @@
 package com.deloitte.mindmeet.service;
 
+import com.deloitte.mindmeet.dto.BatchParticipantsResponse;
+import com.deloitte.mindmeet.dto.CursorPage;
+import com.deloitte.mindmeet.dto.MeetingCursor;
 import com.deloitte.mindmeet.dto.MeetingDTO;
+import com.deloitte.mindmeet.dto.MeetingFieldSet;
 import com.deloitte.mindmeet.dto.MeetingRequest;
+import com.deloitte.mindmeet.dto.MeetingSearchResult;
 import com.deloitte.mindmeet.dto.MeetingStatsDTO;
+import com.deloitte.mindmeet.dto.MeetingSummaryView;
+import com.deloitte.mindmeet.dto.RecordingUploadRequest;
+import com.deloitte.mindmeet.dto.RecordingUploadStatus;
+import com.deloitte.mindmeet.dto.TranscriptRange;
+import com.deloitte.mindmeet.dto.UserSnapshot;
+import com.deloitte.mindmeet.model.CompressedText;
 import com.deloitte.mindmeet.model.Meeting;
+import com.deloitte.mindmeet.model.OrganizerMeetingStats;
 import com.deloitte.mindmeet.model.User;
+import com.deloitte.mindmeet.repository.MeetingParticipantJdbcRepository;
 import com.deloitte.mindmeet.repository.MeetingRepository;
 import com.deloitte.mindmeet.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Hibernate;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.Writer;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
@@ -34,11 +62,41 @@ import java.util.stream.Collectors;
 @Transactional
 public class MeetingService {
 
+    /**
+     * Tamaño en caracteres de cada fragmento leído al transmitir una transcripción
+     */
+    private static final int TRANSCRIPT_CHUNK_CHARS = 64 * 1024;
+
     private final MeetingRepository meetingRepository;
+    private final MeetingParticipantJdbcRepository meetingParticipantJdbcRepository;
     private final UserRepository userRepository;
-    private final FileStorageService fileStorageService;
-    private final TranscriptionService transcriptionService;
-    private final NotificationService notificationService;
+    private final UserLookupService userLookupService;
+    private final RecordingBlobStore recordingBlobStore;
+    private final RecordingUploadService recordingUploadService;
+    private final TranscriptionJobService transcriptionJobService;
+    private final TranscriptionResultCache transcriptionResultCache;
+    private final NotificationOutboxService notificationOutboxService;
+    private final MeetingStatsService meetingStatsService;
+    private final MeetingMembershipIndex membershipIndex;
+    private final MeetingSearchIndex searchIndex;
+    private final MeetingSearchIndexer searchIndexer;
+    private final MeetingEventPublisher eventPublisher;
+    private final LiveTranscriptionService liveTranscriptionService;
+    private final MeetingMetrics meetingMetrics;
+
+    @Value("${mindmeet.meeting.max-participants:50}")
+    private int maxParticipants;
+
+    /**
+     * Tamaño máximo de página del listado por cursor
+     */
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+
+    /**
+     * Resultados máximos de la búsqueda de texto y ancho de sus fragmentos
+     */
+    private static final int MAX_SEARCH_RESULTS = 50;
+    private static final int SNIPPET_WIDTH = 160;
 
     /**
      * Crea una nueva reunión
@@ -51,9 +109,8 @@ public class MeetingService {
     public MeetingDTO createMeeting(MeetingRequest request, String userEmail) {
         log.info("Creando nueva reunión: {} por usuario: {}", request.getTitle(), userEmail);
 
-        // Buscar organizador
-        User organizer = userRepository.findByEmail(userEmail)
-            .orElseThrow(() -> new IllegalArgumentException("Usuario no encontrado"));
+        // Buscar organizador (copia en cache; la reunión guarda solo la referencia)
+        User organizer = userReference(userEmail);
 
         // Crear entidad Meeting
         Meeting meeting = new Meeting();
@@ -63,23 +120,39 @@ public class MeetingService {
             request.getStartTime() : LocalDateTime.now());
         meeting.setOrganizer(organizer);
         
-        // Agregar participantes si existen
-        if (request.getParticipantEmails() != null) {
-            for (String participantEmail : request.getParticipantEmails()) {
-                userRepository.findByEmail(participantEmail)
-                    .ifPresent(meeting::addParticipant);
+        // Resolver participantes si existen (una sola consulta IN de id y email,
+        // sin cargar entidades ni roles)
+        List<Long> participantIds = List.of();
+        if (request.getParticipantEmails() != null && !request.getParticipantEmails().isEmpty()) {
+            Set<String> participantEmails = normalizeEmails(request.getParticipantEmails());
+            if (participantEmails.size() > maxParticipants) {
+                throw new IllegalArgumentException(
+                    "La reunión admite como máximo " + maxParticipants + " participantes");
             }
+            participantIds = userRepository.findIdentitiesByEmailIn(participantEmails).stream()
+                .map(UserRepository.UserIdentity::getId)
+                .collect(Collectors.toList());
         }
 
-        // Guardar reunión
+        // Guardar reunión; las filas de meeting_participants se insertan en
+        // lotes JDBC sin pasar por la colección de participantes
         meeting = meetingRepository.save(meeting);
+        if (!participantIds.isEmpty()) {
+            meetingParticipantJdbcRepository.insertParticipants(meeting.getId(), participantIds);
+        }
+        meetingStatsService.onMeetingCreated(organizer.getId());
+        membershipIndex.onMeetingCreated(meeting.getId(), organizer.getId(), participantIds);
+        searchIndexer.reindexAfterCommit(meeting.getId());
 
         log.info("Reunión creada exitosamente con ID: {}", meeting.getId());
 
-        // Enviar notificaciones a participantes (asíncrono)
-        notificationService.notifyMeetingCreated(meeting);
+        // Registrar notificaciones en el outbox (se envían tras el commit)
+        notificationOutboxService.meetingCreated(meeting);
 
-        return convertToDTO(meeting);
+        // Proyección con organizador y conteo de participantes en una consulta
+        return meetingRepository.findSummaryById(meeting.getId())
+            .map(view -> convertToDTO(view, MeetingFieldSet.all()))
+            .orElseThrow(() -> new IllegalStateException("Reunión no encontrada tras crearla"));
     }
 
     /**
@@ -91,16 +164,120 @@ public class MeetingService {
      */
     @Transactional(readOnly = true)
     public Page<MeetingDTO> getUserMeetings(String userEmail, Pageable pageable) {
+        return getUserMeetings(userEmail, pageable, MeetingFieldSet.all());
+    }
+
+    /**
+     * Obtiene las reuniones de un usuario cargando solo los campos solicitados
+     * 
+     * @param userEmail Email del usuario
+     * @param pageable Configuración de paginación
+     * @param fields Campos a incluir en la respuesta
+     * @return Página de reuniones
+     */
+    @Transactional(readOnly = true)
+    public Page<MeetingDTO> getUserMeetings(String userEmail, Pageable pageable, MeetingFieldSet fields) {
         log.info("Obteniendo reuniones del usuario: {}", userEmail);
 
-        User user = userRepository.findByEmail(userEmail)
-            .orElseThrow(() -> new IllegalArgumentException("Usuario no encontrado"));
+        User user = userReference(userEmail);
 
         // Buscar reuniones donde el usuario es organizador o participante
-        Page<Meeting> meetings = meetingRepository
-            .findByOrganizerOrParticipants(user, user, pageable);
+        // (proyección en una sola consulta, sin cargar organizador ni participantes)
+        Page<MeetingSummaryView> meetings = fields.loadsLargeText()
+            ? meetingRepository.findSummariesVisibleTo(user, pageable)
+            : meetingRepository.findCompactSummariesVisibleTo(user, pageable);
+
+        return meetings.map(view -> convertToDTO(view, fields));
+    }
+
+    /**
+     * Obtiene las reuniones de un usuario paginando por cursor (createdAt, id)
+     * No ejecuta COUNT y el costo no crece con la profundidad de la página:
+     * se leen size + 1 reuniones organizadas y size + 1 en las que participa,
+     * ambas ordenadas por índice, y se mezclan en memoria
+     * 
+     * @param userEmail Email del usuario
+     * @param cursor Cursor opaco de la página anterior, o vacío para la primera
+     * @param size Tamaño de página (máximo 100)
+     * @param fields Campos a incluir en la respuesta
+     * @return Página con el cursor de la siguiente
+     * @throws IllegalArgumentException si el usuario no existe o el cursor no es válido
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<MeetingDTO> getUserMeetingsAfter(String userEmail, String cursor, int size,
+                                                       MeetingFieldSet fields) {
+        User user = userReference(userEmail);
+
+        MeetingCursor position = MeetingCursor.parse(cursor);
+        int pageSize = Math.max(1, Math.min(size, MAX_CURSOR_PAGE_SIZE));
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+
+        List<MeetingSummaryView> organized = fields.loadsLargeText()
+            ? meetingRepository.findSummariesOrganizedBefore(user, position.getCreatedAt(), position.getId(), limit)
+            : meetingRepository.findCompactSummariesOrganizedBefore(user, position.getCreatedAt(), position.getId(), limit);
+        List<MeetingSummaryView> participating = fields.loadsLargeText()
+            ? meetingRepository.findSummariesParticipatingBefore(user, position.getCreatedAt(), position.getId(), limit)
+            : meetingRepository.findCompactSummariesParticipatingBefore(user, position.getCreatedAt(), position.getId(), limit);
+
+        List<MeetingSummaryView> merged = mergeByCreatedAtDesc(organized, participating, pageSize + 1);
+
+        boolean hasMore = merged.size() > pageSize;
+        List<MeetingSummaryView> page = hasMore ? merged.subList(0, pageSize) : merged;
+        String nextCursor = null;
+        if (hasMore) {
+            MeetingSummaryView last = page.get(page.size() - 1);
+            nextCursor = MeetingCursor.encode(last.getCreatedAt(), last.getId());
+        }
 
-        return meetings.map(this::convertToDTO);
+        List<MeetingDTO> content = page.stream()
+            .map(view -> convertToDTO(view, fields))
+            .collect(Collectors.toList());
+        return new CursorPage<>(content, nextCursor, pageSize);
+    }
+
+    /**
+     * Busca reuniones por texto en título, descripción, resumen y transcripción
+     * Solo considera las reuniones que el usuario organiza o en las que participa;
+     * cada resultado se confirma con el índice de miembros antes de leer su fragmento
+     * 
+     * @param userEmail Email del usuario
+     * @param query Texto de búsqueda
+     * @param limit Número máximo de resultados (máximo 50)
+     * @return Resultados ordenados por relevancia, con fragmentos
+     * @throws IllegalArgumentException si el usuario no existe o la búsqueda está vacía
+     */
+    @Transactional(readOnly = true)
+    public List<MeetingSearchResult> searchMeetings(String userEmail, String query, int limit) {
+        UserSnapshot user = userLookupService.findByEmail(userEmail)
+            .orElseThrow(() -> new IllegalArgumentException("Usuario no encontrado"));
+
+        Set<String> terms = MeetingSearchIndex.queryTerms(query);
+        if (terms.isEmpty()) {
+            throw new IllegalArgumentException("La búsqueda no contiene términos válidos");
+        }
+
+        // Los miembros del índice de esta instancia pueden estar desactualizados
+        // (cambios hechos en otra instancia): el acceso se confirma de nuevo
+        List<MeetingSearchIndex.Hit> hits = searchIndex.search(query, user.id(),
+                Math.max(1, Math.min(limit, MAX_SEARCH_RESULTS))).stream()
+            .filter(hit -> membershipIndex.hasAccess(hit.meetingId(), user.id()))
+            .collect(Collectors.toList());
+        if (hits.isEmpty()) {
+            return List.of();
+        }
+
+        // Solo se lee la ventana de texto alrededor de la coincidencia de cada resultado
+        Map<Long, MeetingSearchIndexer.TextWindow> windows =
+            searchIndexer.loadSnippetWindows(hits, SNIPPET_WIDTH, SNIPPET_WIDTH * 2);
+
+        List<MeetingSearchResult> results = new ArrayList<>(hits.size());
+        for (MeetingSearchIndex.Hit hit : hits) {
+            MeetingSearchIndexer.TextWindow window = windows.get(hit.meetingId());
+            if (window != null) {
+                results.add(toSearchResult(hit, window, terms));
+            }
+        }
+        return results;
     }
 
     /**
@@ -119,13 +296,159 @@ public class MeetingService {
             .orElseThrow(() -> new IllegalArgumentException("Reunión no encontrada"));
 
         // Verificar que el usuario tiene acceso
-        if (!hasAccessToMeeting(meeting, userEmail)) {
+        if (!hasAccessToMeeting(id, userEmail)) {
             throw new IllegalArgumentException("No tienes acceso a esta reunión");
         }
 
         return convertToDTO(meeting);
     }
 
+    /**
+     * Obtiene una reunión por ID cargando solo los campos solicitados
+     * 
+     * @param id ID de la reunión
+     * @param userEmail Email del usuario
+     * @param fields Campos a incluir en la respuesta
+     * @return DTO de la reunión
+     * @throws IllegalArgumentException si la reunión no existe o el usuario no tiene acceso
+     */
+    @Transactional(readOnly = true)
+    public MeetingDTO getMeetingById(Long id, String userEmail, MeetingFieldSet fields) {
+        log.info("Obteniendo reunión ID: {} para usuario: {}", id, userEmail);
+
+        MeetingSummaryView meeting = (fields.loadsLargeText()
+                ? meetingRepository.findSummaryById(id)
+                : meetingRepository.findCompactSummaryById(id))
+            .orElseThrow(() -> new IllegalArgumentException("Reunión no encontrada"));
+
+        // Verificar que el usuario tiene acceso
+        if (!hasAccessToMeeting(id, userEmail)) {
+            throw new IllegalArgumentException("No tienes acceso a esta reunión");
+        }
+
+        return convertToDTO(meeting, fields);
+    }
+
+    /**
+     * Suscribe al usuario a los eventos de procesamiento de una reunión
+     * El primer evento enviado es el estado actual, leído después de
+     * registrar la suscripción para no perder un cambio concurrente
+     * 
+     * @param id ID de la reunión
+     * @param userEmail Email del usuario
+     * @return Emisor SSE de la suscripción
+     * @throws IllegalArgumentException si la reunión no existe o el usuario no tiene acceso
+     * @throws IllegalStateException si la reunión alcanzó el máximo de suscriptores
+     */
+    @Transactional(readOnly = true)
+    public SseEmitter subscribeToEvents(Long id, String userEmail) {
+        if (!meetingRepository.existsById(id)) {
+            throw new IllegalArgumentException("Reunión no encontrada");
+        }
+        if (!hasAccessToMeeting(id, userEmail)) {
+            throw new IllegalArgumentException("No tienes acceso a esta reunión");
+        }
+
+        return eventPublisher.subscribe(id, () -> meetingRepository.findProcessingStatusById(id).orElse(null));
+    }
+
+    /**
+     * Resuelve el rango de la transcripción a transmitir
+     * 
+     * @param id ID de la reunión
+     * @param userEmail Email del usuario
+     * @param offset Posición inicial (base 0)
+     * @param length Número máximo de caracteres, o null hasta el final
+     * @return Rango validado de la transcripción
+     * @throws TranscriptRangeException si el rango es inválido
+     * @throws IllegalArgumentException si la reunión no existe, no hay acceso o no tiene transcripción
+     */
+    @Transactional(readOnly = true)
+    public TranscriptRange getTranscriptRange(Long id, String userEmail, int offset, Integer length) {
+        if (!meetingRepository.existsById(id)) {
+            throw new IllegalArgumentException("Reunión no encontrada");
+        }
+        if (!hasAccessToMeeting(id, userEmail)) {
+            throw new IllegalArgumentException("No tienes acceso a esta reunión");
+        }
+
+        Integer totalLength = meetingRepository.findTranscriptLength(id);
+        if (totalLength == null) {
+            throw new IllegalArgumentException("La reunión no tiene transcripción");
+        }
+        if (offset < 0 || offset > totalLength || (length != null && length < 0)) {
+            throw new TranscriptRangeException(totalLength);
+        }
+
+        int available = totalLength - offset;
+        int effectiveLength = length != null ? Math.min(length, available) : available;
+
+        return new TranscriptRange(offset, effectiveLength, totalLength);
+    }
+
+    /**
+     * Escribe un rango de la transcripción por fragmentos
+     * Una transcripción comprimida se lee en una sola consulta y se
+     * descomprime a medida que se escribe; en las filas heredadas cada
+     * fragmento se lee en su propia consulta para no mantener una
+     * conexión abierta mientras el cliente consume la respuesta
+     * 
+     * @param id ID de la reunión
+     * @param range Rango previamente validado con getTranscriptRange
+     * @param writer Destino de la transcripción
+     * @throws IOException si falla la escritura
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void writeTranscript(Long id, TranscriptRange range, Writer writer) throws IOException {
+        CompressedText compressed = meetingRepository.findCompressedTranscript(id);
+        if (compressed != null) {
+            try (Reader reader = compressed.reader()) {
+                writeRange(reader, range, writer);
+            }
+            return;
+        }
+
+        int position = range.getOffset();
+        int end = range.getOffset() + range.getLength();
+
+        while (position < end) {
+            int chunkLength = Math.min(TRANSCRIPT_CHUNK_CHARS, end - position);
+            String chunk = meetingRepository.findTranscriptChunk(id, position + 1, chunkLength);
+            if (chunk == null || chunk.isEmpty()) {
+                break;
+            }
+            writer.write(chunk);
+            writer.flush();
+            position += chunk.length();
+        }
+    }
+
+    /**
+     * Copia un rango de caracteres de un lector al destino en fragmentos
+     */
+    private void writeRange(Reader reader, TranscriptRange range, Writer writer) throws IOException {
+        long toSkip = range.getOffset();
+        while (toSkip > 0) {
+            long skipped = reader.skip(toSkip);
+            if (skipped <= 0) {
+                return;
+            }
+            toSkip -= skipped;
+        }
+
+        char[] buffer = new char[Math.min(TRANSCRIPT_CHUNK_CHARS, Math.max(range.getLength(), 1))];
+        int remaining = range.getLength();
+        while (remaining > 0) {
+            int read = reader.read(buffer, 0, Math.min(buffer.length, remaining));
+            if (read < 0) {
+                break;
+            }
+            writer.write(buffer, 0, read);
+            writer.flush();
+            remaining -= read;
+        }
+    }
+
     /**
      * Actualiza una reunión existente
      * 
@@ -157,6 +480,7 @@ public class MeetingService {
         }
 
         meeting = meetingRepository.save(meeting);
+        searchIndexer.reindexAfterCommit(meeting.getId());
 
         log.info("Reunión actualizada exitosamente");
 
@@ -181,6 +505,14 @@ public class MeetingService {
         }
 
         meetingRepository.delete(meeting);
+        if (meeting.getRecordingHash() != null) {
+            recordingBlobStore.release(meeting.getRecordingHash());
+        }
+        membershipIndex.onMeetingDeleted(id);
+        searchIndexer.removeAfterCommit(id);
+        meetingStatsService.onMeetingDeleted(meeting.getOrganizer().getId(),
+            meeting.getStatus() == MeetingStatus.COMPLETED,
+            meeting.getTranscriptionAccuracy());
 
         log.info("Reunión eliminada exitosamente");
     }
@@ -202,13 +534,17 @@ public class MeetingService {
             throw new IllegalArgumentException("Solo el organizador puede iniciar la reunión");
         }
 
+        MeetingStatus previousStatus = meeting.getStatus();
         meeting.start();
         meeting = meetingRepository.save(meeting);
+        if (previousStatus != MeetingStatus.IN_PROGRESS) {
+            meetingMetrics.recordTransition("start", previousStatus);
+        }
 
         log.info("Reunión iniciada exitosamente");
 
         // Notificar a participantes
-        notificationService.notifyMeetingStarted(meeting);
+        notificationOutboxService.meetingStarted(meeting);
 
         return convertToDTO(meeting);
     }
@@ -223,6 +559,9 @@ public class MeetingService {
     public MeetingDTO finishMeeting(Long id, String userEmail) {
         log.info("Finalizando reunión ID: {}", id);
 
+        // Volcar la transcripción en vivo pendiente antes de leer la reunión
+        liveTranscriptionService.finishSession(id, userEmail);
+
         Meeting meeting = meetingRepository.findById(id)
             .orElseThrow(() -> new IllegalArgumentException("Reunión no encontrada"));
 
@@ -230,14 +569,23 @@ public class MeetingService {
             throw new IllegalArgumentException("Solo el organizador puede finalizar la reunión");
         }
 
+        MeetingStatus previousStatus = meeting.getStatus();
+        boolean alreadyCompleted = previousStatus == MeetingStatus.COMPLETED;
+
         meeting.finish();
         meeting = meetingRepository.save(meeting);
 
+        if (!alreadyCompleted) {
+            meetingStatsService.onMeetingCompleted(meeting.getOrganizer().getId());
+            meetingMetrics.recordTransition("finish", previousStatus);
+        }
+
         log.info("Reunión finalizada. Duración: {} segundos", meeting.getDurationSeconds());
 
-        // Iniciar procesamiento de transcripción si hay grabación
-        if (meeting.getRecordingUrl() != null) {
-            transcriptionService.processRecording(meeting.getId());
+        // Encolar transcripción si hay grabación (cola persistente, misma transacción),
+        // salvo que el mismo audio ya esté transcrito
+        if (meeting.getRecordingUrl() != null && !transcriptionResultCache.applyTo(meeting)) {
+            transcriptionJobService.enqueue(meeting.getId());
         }
 
         return convertToDTO(meeting);
@@ -262,23 +610,119 @@ public class MeetingService {
         }
 
         // Validar tipo de archivo
-        String contentType = file.getContentType();
-        if (contentType == null || 
-            (!contentType.startsWith("audio/") && !contentType.startsWith("video/"))) {
-            throw new IllegalArgumentException("Formato de archivo no válido");
+        validateRecordingContentType(file.getContentType());
+
+        // Guardar archivo por contenido (un reenvío del mismo archivo no ocupa más espacio)
+        RecordingBlobStore.StoredRecording recording = recordingBlobStore.store(file);
+        attachRecording(meeting, recording);
+
+        log.info("Grabación subida exitosamente: {}", recording.path());
+
+        return recording.path();
+    }
+
+    /**
+     * Inicia una subida de grabación por fragmentos (reanudable)
+     * 
+     * @param id ID de la reunión
+     * @param request Datos del archivo a subir
+     * @param userEmail Email del usuario
+     * @return Estado inicial de la subida
+     */
+    public RecordingUploadStatus initRecordingUpload(Long id, RecordingUploadRequest request, String userEmail) {
+        log.info("Iniciando subida por fragmentos para reunión ID: {}", id);
+
+        Meeting meeting = meetingRepository.findById(id)
+            .orElseThrow(() -> new IllegalArgumentException("Reunión no encontrada"));
+
+        if (!meeting.getOrganizer().getEmail().equals(userEmail)) {
+            throw new IllegalArgumentException("Solo el organizador puede subir grabaciones");
         }
 
-        // Guardar archivo
-        String recordingUrl = fileStorageService.storeFile(file, "recordings");
-        meeting.setRecordingUrl(recordingUrl);
-        meetingRepository.save(meeting);
+        validateRecordingContentType(request.getContentType());
+
+        return recordingUploadService.initUpload(id, userEmail, request.getFileName(),
+            request.getContentType(), request.getTotalSize());
+    }
+
+    /**
+     * Recibe un fragmento de una subida de grabación
+     * No abre transacción: la propiedad de la subida se valida contra su sesión
+     * 
+     * @param id ID de la reunión
+     * @param uploadId ID de la subida
+     * @param index Índice del fragmento (base 0)
+     * @param content Contenido del fragmento
+     * @param userEmail Email del usuario
+     * @return Estado actualizado de la subida
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public RecordingUploadStatus uploadRecordingChunk(Long id, String uploadId, int index,
+                                                      InputStream content, String userEmail) {
+        return recordingUploadService.writeChunk(id, uploadId, index, content, userEmail);
+    }
+
+    /**
+     * Obtiene el estado de una subida de grabación para reanudarla
+     * 
+     * @param id ID de la reunión
+     * @param uploadId ID de la subida
+     * @param userEmail Email del usuario
+     * @return Estado de la subida
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public RecordingUploadStatus getRecordingUploadStatus(Long id, String uploadId, String userEmail) {
+        return recordingUploadService.getStatus(id, uploadId, userEmail);
+    }
+
+    /**
+     * Completa una subida de grabación por fragmentos
+     * 
+     * @param id ID de la reunión
+     * @param uploadId ID de la subida
+     * @param userEmail Email del usuario
+     * @return URL de la grabación almacenada
+     */
+    public String completeRecordingUpload(Long id, String uploadId, String userEmail) {
+        log.info("Completando subida {} para reunión ID: {}", uploadId, id);
+
+        Meeting meeting = meetingRepository.findById(id)
+            .orElseThrow(() -> new IllegalArgumentException("Reunión no encontrada"));
 
-        log.info("Grabación subida exitosamente: {}", recordingUrl);
+        if (!meeting.getOrganizer().getEmail().equals(userEmail)) {
+            throw new IllegalArgumentException("Solo el organizador puede subir grabaciones");
+        }
 
-        // Iniciar transcripción automática
-        transcriptionService.processRecording(meeting.getId());
+        String uploadedFile = recordingUploadService.completeUpload(id, uploadId, userEmail);
+        RecordingBlobStore.StoredRecording recording = recordingBlobStore.adopt(uploadedFile);
+        attachRecording(meeting, recording);
 
-        return recordingUrl;
+        log.info("Grabación subida exitosamente: {}", recording.path());
+
+        return recording.path();
+    }
+
+    /**
+     * Asigna la grabación almacenada a la reunión y libera la anterior
+     * Si el mismo audio ya se transcribió, reutiliza la transcripción;
+     * en caso contrario encola la transcripción automática
+     */
+    private void attachRecording(Meeting meeting, RecordingBlobStore.StoredRecording recording) {
+        String previousHash = meeting.getRecordingHash();
+        meeting.setRecordingUrl(recording.path());
+        meeting.setRecordingHash(recording.hash());
+
+        // La nueva referencia ya se sumó; si es el mismo contenido se compensa aquí
+        if (previousHash != null) {
+            recordingBlobStore.release(previousHash);
+        }
+
+        boolean reused = transcriptionResultCache.applyTo(meeting);
+        meetingRepository.save(meeting);
+
+        if (!reused) {
+            transcriptionJobService.enqueue(meeting.getId());
+        }
     }
 
     /**
@@ -290,19 +734,34 @@ public class MeetingService {
      */
     @Transactional(readOnly = true)
     public List<MeetingDTO> getRecentMeetings(String userEmail, int limit) {
+        return getRecentMeetings(userEmail, limit, MeetingFieldSet.all());
+    }
+
+    /**
+     * Obtiene las reuniones recientes del usuario cargando solo los campos solicitados
+     * 
+     * @param userEmail Email del usuario
+     * @param limit Número máximo de reuniones
+     * @param fields Campos a incluir en la respuesta
+     * @return Lista de reuniones recientes
+     */
+    @Transactional(readOnly = true)
+    public List<MeetingDTO> getRecentMeetings(String userEmail, int limit, MeetingFieldSet fields) {
         log.info("Obteniendo {} reuniones recientes del usuario: {}", limit, userEmail);
 
-        User user = userRepository.findByEmail(userEmail)
-            .orElseThrow(() -> new IllegalArgumentException("Usuario no encontrado"));
+        User user = userReference(userEmail);
 
         Pageable pageable = PageRequest.of(0, limit, 
             Sort.by(Sort.Direction.DESC, "createdAt"));
 
-        return meetingRepository
-            .findByOrganizerOrParticipants(user, user, pageable)
+        Page<MeetingSummaryView> meetings = fields.loadsLargeText()
+            ? meetingRepository.findSummariesVisibleTo(user, pageable)
+            : meetingRepository.findCompactSummariesVisibleTo(user, pageable);
+
+        return meetings
             .getContent()
             .stream()
-            .map(this::convertToDTO)
+            .map(view -> convertToDTO(view, fields))
             .collect(Collectors.toList());
     }
 
@@ -316,16 +775,13 @@ public class MeetingService {
     public MeetingStatsDTO getUserMeetingStats(String userEmail) {
         log.info("Obteniendo estadísticas para usuario: {}", userEmail);
 
-        User user = userRepository.findByEmail(userEmail)
+        UserSnapshot user = userLookupService.findByEmail(userEmail)
             .orElseThrow(() -> new IllegalArgumentException("Usuario no encontrado"));
 
-        // Calcular estadísticas
-        long totalMeetings = meetingRepository.countByOrganizer(user);
-        long completedMeetings = meetingRepository.countByOrganizerAndStatus(
-            user, MeetingStatus.COMPLETED);
-        
-        // Calcular promedio de precisión de transcripción
-        Double avgAccuracy = meetingRepository.averageTranscriptionAccuracyByOrganizer(user);
+        // Leer estadísticas acumuladas (mantenidas incrementalmente)
+        OrganizerMeetingStats stats = meetingStatsService.getStats(user.id());
+        long totalMeetings = stats.getTotalMeetings();
+        long completedMeetings = stats.getCompletedMeetings();
 
         // Calcular tiempo total ahorrado (estimado: 15 min por reunión en actas manuales)
         int timeSavedHours = (int) (completedMeetings * 15 / 60);
@@ -333,7 +789,7 @@ public class MeetingService {
         return new MeetingStatsDTO(
             totalMeetings,
             completedMeetings,
-            avgAccuracy != null ? avgAccuracy : 0.0,
+            stats.averageAccuracy(),
             timeSavedHours
         );
     }
@@ -349,36 +805,223 @@ public class MeetingService {
     public MeetingDTO addParticipant(Long id, String participantEmail, String userEmail) {
         log.info("Agregando participante {} a reunión ID: {}", participantEmail, id);
 
-        Meeting meeting = meetingRepository.findById(id)
+        BatchParticipantsResponse result = addParticipants(id, List.of(participantEmail), userEmail);
+        if (!result.getNotFound().isEmpty()) {
+            throw new IllegalArgumentException("Usuario participante no encontrado");
+        }
+
+        return result.getMeeting();
+    }
+
+    /**
+     * Agrega varios participantes a la reunión en una sola operación
+     * Resuelve todos los emails con una consulta IN e inserta las filas de
+     * meeting_participants en lotes JDBC, sin cargar la colección de participantes
+     * 
+     * @param id ID de la reunión
+     * @param participantEmails Emails de los participantes
+     * @param userEmail Email del usuario organizador
+     * @return Reunión actualizada y resultado por email
+     * @throws IllegalArgumentException si no es el organizador o se excede el máximo de participantes
+     */
+    public BatchParticipantsResponse addParticipants(Long id, Collection<String> participantEmails,
+                                                     String userEmail) {
+        log.info("Agregando {} participantes a reunión ID: {}", participantEmails.size(), id);
+
+        // Bloquea la reunión hasta el commit: dos altas simultáneas contarían los
+        // mismos participantes actuales y podrían superar el máximo entre ambas
+        Meeting meeting = meetingRepository.findByIdForUpdate(id)
             .orElseThrow(() -> new IllegalArgumentException("Reunión no encontrada"));
 
         if (!meeting.getOrganizer().getEmail().equals(userEmail)) {
             throw new IllegalArgumentException("Solo el organizador puede agregar participantes");
         }
 
-        User participant = userRepository.findByEmail(participantEmail)
+        Set<String> requested = normalizeEmails(participantEmails);
+        Map<String, Long> idsByEmail = userRepository.findIdentitiesByEmailIn(requested).stream()
+            .collect(Collectors.toMap(
+                UserRepository.UserIdentity::getEmail, UserRepository.UserIdentity::getId));
+
+        Set<Long> currentIds = new HashSet<>(meetingParticipantJdbcRepository.findParticipantIds(id));
+        Long organizerId = meeting.getOrganizer().getId();
+
+        List<Long> toAdd = new ArrayList<>();
+        List<String> added = new ArrayList<>();
+        List<String> alreadyParticipants = new ArrayList<>();
+        List<String> notFound = new ArrayList<>();
+
+        for (String email : requested) {
+            Long participantId = idsByEmail.get(email);
+            if (participantId == null) {
+                notFound.add(email);
+            } else if (participantId.equals(organizerId) || currentIds.contains(participantId)) {
+                alreadyParticipants.add(email);
+            } else {
+                toAdd.add(participantId);
+                added.add(email);
+            }
+        }
+
+        if (currentIds.size() + toAdd.size() > maxParticipants) {
+            throw new IllegalArgumentException(
+                "La reunión admite como máximo " + maxParticipants + " participantes");
+        }
+
+        if (!toAdd.isEmpty()) {
+            meetingParticipantJdbcRepository.insertParticipants(id, toAdd);
+            membershipIndex.onParticipantsAdded(id, toAdd);
+            searchIndexer.membersChangedAfterCommit(id);
+        }
+
+        // Notificar a los nuevos participantes
+        for (Long participantId : toAdd) {
+            notificationOutboxService.participantAdded(meeting, participantId);
+        }
+
+        // Todos los campos: proyección completa, con transcripción y resumen
+        MeetingDTO meetingDTO = meetingRepository.findSummaryById(id)
+            .map(view -> convertToDTO(view, MeetingFieldSet.all()))
+            .orElseThrow(() -> new IllegalArgumentException("Reunión no encontrada"));
+
+        return new BatchParticipantsResponse(meetingDTO, added, alreadyParticipants, notFound);
+    }
+
+    /**
+     * Elimina un participante de la reunión
+     * 
+     * @param id ID de la reunión
+     * @param participantEmail Email del participante
+     * @param userEmail Email del usuario organizador
+     * @return DTO de la reunión actualizada
+     * @throws IllegalArgumentException si no es el organizador o el usuario no es participante
+     */
+    public MeetingDTO removeParticipant(Long id, String participantEmail, String userEmail) {
+        log.info("Eliminando participante {} de reunión ID: {}", participantEmail, id);
+
+        UserSnapshot organizer = userLookupService.findByEmail(userEmail)
+            .orElseThrow(() -> new IllegalArgumentException("Usuario no encontrado"));
+
+        if (!meetingRepository.existsById(id)) {
+            throw new IllegalArgumentException("Reunión no encontrada");
+        }
+        if (!membershipIndex.isOrganizer(id, organizer.id())) {
+            throw new IllegalArgumentException("Solo el organizador puede eliminar participantes");
+        }
+
+        UserSnapshot participant = userLookupService.findByEmail(participantEmail.trim())
             .orElseThrow(() -> new IllegalArgumentException("Usuario participante no encontrado"));
 
-        meeting.addParticipant(participant);
-        meeting = meetingRepository.save(meeting);
+        if (!meetingParticipantJdbcRepository.deleteParticipant(id, participant.id())) {
+            throw new IllegalArgumentException("El usuario no es participante de la reunión");
+        }
+        membershipIndex.onParticipantRemoved(id, participant.id());
+        searchIndexer.membersChangedAfterCommit(id);
 
-        // Notificar al nuevo participante
-        notificationService.notifyParticipantAdded(meeting, participant);
+        return meetingRepository.findSummaryById(id)
+            .map(view -> convertToDTO(view, MeetingFieldSet.all()))
+            .orElseThrow(() -> new IllegalArgumentException("Reunión no encontrada"));
+    }
 
-        return convertToDTO(meeting);
+    /**
+     * Mezcla dos listas disjuntas ordenadas por (createdAt, id) descendente
+     * 
+     * @param first Primera lista ordenada
+     * @param second Segunda lista ordenada
+     * @param limit Número máximo de elementos
+     * @return Lista mezclada y ordenada
+     */
+    private List<MeetingSummaryView> mergeByCreatedAtDesc(List<MeetingSummaryView> first,
+                                                          List<MeetingSummaryView> second, int limit) {
+        Comparator<MeetingSummaryView> newestFirst = Comparator
+            .comparing(MeetingSummaryView::getCreatedAt)
+            .thenComparing(MeetingSummaryView::getId)
+            .reversed();
+
+        List<MeetingSummaryView> merged = new ArrayList<>(limit);
+        int i = 0;
+        int j = 0;
+        while (merged.size() < limit && (i < first.size() || j < second.size())) {
+            if (j >= second.size() || (i < first.size() && newestFirst.compare(first.get(i), second.get(j)) <= 0)) {
+                merged.add(first.get(i++));
+            } else {
+                merged.add(second.get(j++));
+            }
+        }
+        return merged;
+    }
+
+    /**
+     * Construye el resultado de búsqueda con el fragmento de la ventana leída
+     * 
+     * @param hit Resultado del índice
+     * @param window Ventana del campo alrededor de la coincidencia
+     * @param terms Términos normalizados de la consulta
+     * @return Resultado de búsqueda
+     */
+    private MeetingSearchResult toSearchResult(MeetingSearchIndex.Hit hit, MeetingSearchIndexer.TextWindow window,
+                                               Set<String> terms) {
+        String snippet = MeetingSearchIndex.snippet(window.text(), window.atStart(), window.atEnd(),
+            terms, SNIPPET_WIDTH);
+        return new MeetingSearchResult(hit.meetingId(), hit.title(), hit.score(),
+            snippet != null ? hit.field() : null, snippet);
+    }
+
+    /**
+     * Normaliza una lista de emails: recorta espacios y elimina duplicados
+     * 
+     * @param emails Emails recibidos
+     * @return Emails únicos en el orden recibido
+     */
+    private Set<String> normalizeEmails(Collection<String> emails) {
+        Set<String> normalized = new LinkedHashSet<>();
+        for (String email : emails) {
+            if (email != null && !email.isBlank()) {
+                normalized.add(email.trim());
+            }
+        }
+        return normalized;
+    }
+
+    /**
+     * Valida que el tipo de contenido corresponda a audio o video
+     * 
+     * @param contentType Tipo MIME del archivo
+     * @throws IllegalArgumentException si el formato no es válido
+     */
+    private void validateRecordingContentType(String contentType) {
+        if (contentType == null || 
+            (!contentType.startsWith("audio/") && !contentType.startsWith("video/"))) {
+            throw new IllegalArgumentException("Formato de archivo no válido");
+        }
     }
 
     /**
      * Verifica si un usuario tiene acceso a una reunión
+     * Consulta el índice de miembros por ID, sin cargar organizador ni participantes
      * 
-     * @param meeting Reunión a verificar
+     * @param meetingId ID de la reunión a verificar
      * @param userEmail Email del usuario
      * @return true si tiene acceso, false en caso contrario
      */
-    private boolean hasAccessToMeeting(Meeting meeting, String userEmail) {
-        return meeting.getOrganizer().getEmail().equals(userEmail) ||
-               meeting.getParticipants().stream()
-                   .anyMatch(p -> p.getEmail().equals(userEmail));
+    private boolean hasAccessToMeeting(Long meetingId, String userEmail) {
+        return userLookupService.findByEmail(userEmail)
+            .map(user -> membershipIndex.hasAccess(meetingId, user.id()))
+            .orElse(false);
+    }
+
+    /**
+     * Referencia JPA al usuario a partir de su copia en cache
+     * No consulta la base de datos: sirve como parámetro de consultas y
+     * como valor de relaciones
+     *
+     * @param userEmail Email del usuario
+     * @return Referencia (proxy) al usuario
+     * @throws IllegalArgumentException si el usuario no existe
+     */
+    private User userReference(String userEmail) {
+        UserSnapshot user = userLookupService.findByEmail(userEmail)
+            .orElseThrow(() -> new IllegalArgumentException("Usuario no encontrado"));
+        return userRepository.getReferenceById(user.id());
     }
 
     /**
@@ -403,9 +1046,51 @@ public class MeetingService {
             meeting.getTranscriptionAccuracy(),
             meeting.getOrganizer().getFullName(),
             meeting.getOrganizer().getEmail(),
-            meeting.getParticipants().size(),
+            participantCount(meeting),
             meeting.getCreatedAt(),
             meeting.getUpdatedAt()
         );
     }
+
+    /**
+     * Número de participantes sin inicializar la colección perezosa de Hibernate
+     * 
+     * @param meeting Entidad Meeting
+     * @return Número de participantes
+     */
+    private int participantCount(Meeting meeting) {
+        if (Hibernate.isInitialized(meeting.getParticipants())) {
+            return meeting.getParticipants().size();
+        }
+        return membershipIndex.participantCount(meeting.getId());
+    }
+
+    /**
+     * Convierte una proyección de listado a DTO incluyendo solo los campos solicitados
+     * 
+     * @param view Proyección de la reunión
+     * @param fields Campos a incluir
+     * @return DTO de la reunión
+     */
+    private MeetingDTO convertToDTO(MeetingSummaryView view, MeetingFieldSet fields) {
+        return new MeetingDTO(
+            view.getId(),
+            fields.includes("title") ? view.getTitle() : null,
+            fields.includes("description") ? view.getDescription() : null,
+            fields.includes("startTime") ? view.getStartTime() : null,
+            fields.includes("endTime") ? view.getEndTime() : null,
+            fields.includes("durationSeconds") ? view.getDurationSeconds() : null,
+            fields.includes("status") ? view.getStatus() : null,
+            fields.includes("processingStatus") ? view.getProcessingStatus() : null,
+            fields.includes("recordingUrl") ? view.getRecordingUrl() : null,
+            fields.includes(MeetingFieldSet.TRANSCRIPT) ? view.getTranscript() : null,
+            fields.includes(MeetingFieldSet.SUMMARY) ? view.getSummary() : null,
+            fields.includes("transcriptionAccuracy") ? view.getTranscriptionAccuracy() : null,
+            fields.includes("organizerName") ? view.getOrganizerName() : null,
+            fields.includes("organizerEmail") ? view.getOrganizerEmail() : null,
+            view.getParticipantCount().intValue(),
+            fields.includes("createdAt") ? view.getCreatedAt() : null,
+            fields.includes("updatedAt") ? view.getUpdatedAt() : null
+        );
+    }
 }
@@ -0,0 +1,171 @@
+package com.deloitte.mindmeet.service;
+
+import com.deloitte.mindmeet.model.OrganizerMeetingStats;
+import com.deloitte.mindmeet.repository.MeetingRepository;
+import com.deloitte.mindmeet.repository.OrganizerMeetingStatsRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Servicio de estadísticas de reuniones mantenidas incrementalmente
+ * Cada operación se ejecuta en la transacción del llamador, de modo que un
+ * rollback de la reunión también revierte el cambio en las estadísticas
+ *
+ * @author MindMeet Team
+ * @version 1.0
+ */
+@Service
+@Slf4j
+@Transactional
+public class MeetingStatsService {
+
+    private final OrganizerMeetingStatsRepository statsRepository;
+    private final MeetingRepository meetingRepository;
+    private final TransactionTemplate reconcileTransaction;
+
+    public MeetingStatsService(OrganizerMeetingStatsRepository statsRepository,
+                               MeetingRepository meetingRepository,
+                               PlatformTransactionManager transactionManager) {
+        this.statsRepository = statsRepository;
+        this.meetingRepository = meetingRepository;
+        this.reconcileTransaction = new TransactionTemplate(transactionManager);
+        this.reconcileTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * Registra una reunión creada
+     *
+     * @param organizerId ID del organizador
+     */
+    public void onMeetingCreated(Long organizerId) {
+        apply(organizerId, 1, 0, 0.0, 0);
+    }
+
+    /**
+     * Registra una reunión que pasa a estado COMPLETED
+     *
+     * @param organizerId ID del organizador
+     */
+    public void onMeetingCompleted(Long organizerId) {
+        apply(organizerId, 0, 1, 0.0, 0);
+    }
+
+    /**
+     * Registra una reunión eliminada
+     *
+     * @param organizerId ID del organizador
+     * @param wasCompleted true si la reunión estaba en estado COMPLETED
+     * @param accuracy Precisión de transcripción de la reunión, puede ser null
+     */
+    public void onMeetingDeleted(Long organizerId, boolean wasCompleted, Double accuracy) {
+        apply(organizerId, -1, wasCompleted ? -1 : 0,
+            accuracy != null ? -accuracy : 0.0, accuracy != null ? -1 : 0);
+    }
+
+    /**
+     * Registra un cambio en la precisión de transcripción de una reunión
+     *
+     * @param organizerId ID del organizador
+     * @param previous Precisión anterior, puede ser null
+     * @param current Precisión nueva, puede ser null
+     */
+    public void onTranscriptionAccuracyChanged(Long organizerId, Double previous, Double current) {
+        double sumDelta = (current != null ? current : 0.0) - (previous != null ? previous : 0.0);
+        long countDelta = (current != null ? 1 : 0) - (previous != null ? 1 : 0);
+        if (sumDelta != 0.0 || countDelta != 0) {
+            apply(organizerId, 0, 0, sumDelta, countDelta);
+        }
+    }
+
+    /**
+     * Obtiene las estadísticas acumuladas de un organizador (lectura por clave primaria)
+     *
+     * @param organizerId ID del organizador
+     * @return Estadísticas, en cero si el organizador no tiene reuniones
+     */
+    @Transactional(readOnly = true)
+    public OrganizerMeetingStats getStats(Long organizerId) {
+        return statsRepository.findById(organizerId)
+            .orElseGet(() -> new OrganizerMeetingStats(organizerId));
+    }
+
+    /**
+     * Reconcilia las estadísticas con la tabla meetings para corregir desviaciones
+     * (por ejemplo, transcripciones completadas por el servicio externo)
+     *
+     * Cada organizador se corrige en su propia transacción: primero se
+     * bloquea su fila y después se agregan sus reuniones. Un delta de otra
+     * transacción que ya actualizó la fila se confirma antes del agregado y
+     * queda incluido en él; uno posterior espera al bloqueo y se suma sobre
+     * el valor corregido. Las filas de organizadores sin reuniones se dejan
+     * en cero en lugar de borrarse, para que un delta en espera no se pierda.
+     */
+    @Scheduled(cron = "${mindmeet.stats.reconcile-cron:0 15 3 * * *}")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void reconcile() {
+        log.info("Reconciliando estadísticas de reuniones por organizador");
+
+        Set<Long> organizerIds = new HashSet<>(meetingRepository.findOrganizerIds());
+        organizerIds.addAll(statsRepository.findAllOrganizerIds());
+
+        int corrected = 0;
+        for (Long organizerId : organizerIds) {
+            Boolean changed = reconcileTransaction.execute(status -> reconcileOrganizer(organizerId));
+            if (Boolean.TRUE.equals(changed)) {
+                corrected++;
+            }
+        }
+
+        log.info("Reconciliación completada: {} organizadores corregidos", corrected);
+    }
+
+    /**
+     * Corrige la fila de un organizador con su fila bloqueada
+     *
+     * @return true si la fila tenía valores distintos
+     */
+    private boolean reconcileOrganizer(Long organizerId) {
+        statsRepository.insertIfAbsent(organizerId);
+        OrganizerMeetingStats current = statsRepository.findByIdForUpdate(organizerId)
+            .orElseThrow(() -> new IllegalStateException("Estadísticas no encontradas: " + organizerId));
+
+        Object[] row = meetingRepository.aggregateStatsForOrganizer(organizerId).get(0);
+        OrganizerMeetingStats expected = new OrganizerMeetingStats(organizerId);
+        expected.setTotalMeetings(((Number) row[0]).longValue());
+        expected.setCompletedMeetings(((Number) row[1]).longValue());
+        expected.setAccuracySum(((Number) row[2]).doubleValue());
+        expected.setAccuracyCount(((Number) row[3]).longValue());
+
+        if (!differs(current, expected)) {
+            return false;
+        }
+        current.setTotalMeetings(expected.getTotalMeetings());
+        current.setCompletedMeetings(expected.getCompletedMeetings());
+        current.setAccuracySum(expected.getAccuracySum());
+        current.setAccuracyCount(expected.getAccuracyCount());
+        return true;
+    }
+
+    private boolean differs(OrganizerMeetingStats current, OrganizerMeetingStats expected) {
+        return !current.getTotalMeetings().equals(expected.getTotalMeetings())
+            || !current.getCompletedMeetings().equals(expected.getCompletedMeetings())
+            || !current.getAccuracyCount().equals(expected.getAccuracyCount())
+            || Math.abs(current.getAccuracySum() - expected.getAccuracySum()) > 0.001;
+    }
+
+    private void apply(Long organizerId, long totalDelta, long completedDelta,
+                       double accuracySumDelta, long accuracyCountDelta) {
+        statsRepository.insertIfAbsent(organizerId);
+        statsRepository.applyDelta(organizerId, totalDelta, completedDelta,
+            accuracySumDelta, accuracyCountDelta);
+    }
+}
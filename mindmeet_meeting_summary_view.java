@@ -0,0 +1,70 @@
+package com.deloitte.mindmeet.dto;
+
+import com.deloitte.mindmeet.model.CompressedText;
+
+import java.time.LocalDateTime;
+
+/**
+ * Proyección de lectura de una reunión para listados
+ * Se construye en una sola consulta con el organizador unido y el conteo
+ * de participantes como subconsulta, sin inicializar colecciones perezosas
+ *
+ * @author MindMeet Team
+ * @version 1.0
+ */
+public interface MeetingSummaryView {
+
+    Long getId();
+
+    String getTitle();
+
+    String getDescription();
+
+    LocalDateTime getStartTime();
+
+    LocalDateTime getEndTime();
+
+    Integer getDurationSeconds();
+
+    String getStatus();
+
+    String getProcessingStatus();
+
+    String getRecordingUrl();
+
+    String getLegacyTranscript();
+
+    CompressedText getTranscriptData();
+
+    String getLegacySummary();
+
+    CompressedText getSummaryData();
+
+    /**
+     * Transcripción, descomprimida solo al invocar este método
+     */
+    default String getTranscript() {
+        CompressedText data = getTranscriptData();
+        return data != null ? data.text() : getLegacyTranscript();
+    }
+
+    /**
+     * Resumen, descomprimido solo al invocar este método
+     */
+    default String getSummary() {
+        CompressedText data = getSummaryData();
+        return data != null ? data.text() : getLegacySummary();
+    }
+
+    Double getTranscriptionAccuracy();
+
+    String getOrganizerName();
+
+    String getOrganizerEmail();
+
+    Long getParticipantCount();
+
+    LocalDateTime getCreatedAt();
+
+    LocalDateTime getUpdatedAt();
+}
@@ -0,0 +1,179 @@
+package com.deloitte.mindmeet.service;
+
+import com.deloitte.mindmeet.model.NotificationOutbox;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Despachador del outbox de notificaciones
+ *
+ * Toma lotes de la tabla notification_outbox y los envía con un pool
+ * acotado de hilos, fuera de cualquier transacción de negocio. Los envíos
+ * fallidos se reprograman con espera creciente hasta agotar
+ * mindmeet.notifications.outbox.retry-attempts.
+ *
+ * @author MindMeet Team
+ * @version 1.0
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class NotificationOutboxDispatcher {
+
+    private final NotificationOutboxService outboxService;
+    private final NotificationService notificationService;
+    private final EmailService emailService;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${mindmeet.notifications.outbox.enabled:true}")
+    private boolean enabled;
+
+    @Value("${mindmeet.notifications.outbox.concurrency:4}")
+    private int concurrency;
+
+    @Value("${mindmeet.notifications.outbox.batch-size:50}")
+    private int batchSize;
+
+    @Value("${mindmeet.notifications.outbox.stale-after-seconds:300}")
+    private long staleAfterSeconds;
+
+    @Value("${mindmeet.notifications.outbox.retention-days:7}")
+    private long retentionDays;
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
+    private ThreadPoolExecutor executor;
+
+    /**
+     * Pendientes y antigüedad del más antiguo, actualizados en cada sondeo
+     * para no consultar la base de datos en cada lectura de Prometheus
+     */
+    private final AtomicLong pending = new AtomicLong();
+    private final AtomicLong lagMillis = new AtomicLong();
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    @PostConstruct
+    void start() {
+        // El envío SMTP es E/S: con hilos virtuales habilitados no ocupa hilos de plataforma
+        executor = new ThreadPoolExecutor(concurrency, concurrency, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(batchSize),
+            WorkerThreads.io("notification-dispatcher", virtualThreads));
+
+        Gauge.builder("mindmeet.notifications.outbox.pending", pending, AtomicLong::get)
+            .description("Notificaciones pendientes de envío")
+            .register(meterRegistry);
+        Gauge.builder("mindmeet.notifications.outbox.lag", lagMillis, value -> value.get() / 1000.0)
+            .description("Antigüedad de la notificación pendiente más antigua")
+            .baseUnit("seconds")
+            .register(meterRegistry);
+    }
+
+    @PreDestroy
+    void stop() {
+        executor.shutdown();
+    }
+
+    /**
+     * Sondea el outbox y despacha un lote según los hilos libres
+     */
+    @Scheduled(fixedDelayString = "${mindmeet.notifications.outbox.poll-interval-ms:1000}")
+    public void poll() {
+        // Recuperar notificaciones abandonadas por una instancia caída
+        int recovered = outboxService.requeueStale(LocalDateTime.now().minusSeconds(staleAfterSeconds));
+        if (recovered > 0) {
+            log.warn("{} notificaciones recuperadas", recovered);
+        }
+
+        pending.set(outboxService.countPending());
+        LocalDateTime oldest = outboxService.oldestPendingCreatedAt();
+        lagMillis.set(oldest != null ? Math.max(0, Duration.between(oldest, LocalDateTime.now()).toMillis()) : 0);
+
+        if (!enabled) {
+            return;
+        }
+
+        int available = batchSize - inFlight.get();
+        if (available <= 0) {
+            return;
+        }
+
+        List<NotificationOutbox> entries = outboxService.claim(available);
+        for (NotificationOutbox entry : entries) {
+            dispatch(entry);
+        }
+    }
+
+    /**
+     * Elimina periódicamente las notificaciones ya procesadas
+     */
+    @Scheduled(cron = "${mindmeet.notifications.outbox.purge-cron:0 30 3 * * *}")
+    public void purge() {
+        int purged = outboxService.purgeProcessed(LocalDateTime.now().minusDays(retentionDays));
+        if (purged > 0) {
+            log.info("{} notificaciones procesadas eliminadas del outbox", purged);
+        }
+    }
+
+    /**
+     * Envía una notificación en el pool
+     */
+    private void dispatch(NotificationOutbox entry) {
+        inFlight.incrementAndGet();
+        executor.execute(() -> {
+            long startNanos = System.nanoTime();
+            String outcome;
+            try {
+                NotificationOutboxService.Delivery delivery = outboxService.loadDelivery(entry);
+                if (delivery == null) {
+                    outboxService.markDiscarded(entry.getId());
+                    outcome = "discarded";
+                } else {
+                    send(entry.getType(), delivery);
+                    outboxService.markSent(entry.getId());
+                    outcome = "sent";
+                }
+            } catch (Exception e) {
+                boolean failed = outboxService.markFailed(entry.getId(), e.getMessage());
+                outcome = failed ? "failed" : "retry";
+            } finally {
+                inFlight.decrementAndGet();
+            }
+
+            Timer.builder("mindmeet.notifications.delivery")
+                .description("Tiempo de envío de una notificación")
+                .tag("type", entry.getType().name())
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+        });
+    }
+
+    private void send(NotificationOutbox.Type type, NotificationOutboxService.Delivery delivery) throws Exception {
+        switch (type) {
+            case MEETING_CREATED -> notificationService.notifyMeetingCreated(delivery.meeting());
+            case MEETING_STARTED -> notificationService.notifyMeetingStarted(delivery.meeting());
+            case PARTICIPANT_ADDED -> notificationService.notifyParticipantAdded(
+                delivery.meeting(), delivery.recipient());
+            case WELCOME_EMAIL -> emailService.sendWelcomeEmail(
+                delivery.recipient().getEmail(), delivery.recipient().getFullName());
+        }
+    }
+}
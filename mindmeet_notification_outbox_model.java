@@ -0,0 +1,129 @@
+package com.deloitte.mindmeet.model;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * Entidad que representa una notificación pendiente de envío (outbox)
+ * Se registra en la misma transacción que el cambio que la origina, de modo
+ * que un rollback no deja correos enviados y el envío SMTP queda fuera de
+ * la transacción de negocio
+ *
+ * @author MindMeet Team
+ * @version 1.0
+ */
+@Entity
+@Table(name = "notification_outbox", indexes = {
+    @Index(name = "idx_notification_outbox_status_next", columnList = "status, nextAttemptAt")
+})
+@Data
+@NoArgsConstructor
+public class NotificationOutbox {
+
+    /**
+     * Identificador único de la notificación (clave primaria)
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /**
+     * Tipo de notificación
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 30)
+    private Type type;
+
+    /**
+     * ID de la reunión asociada, null si la notificación no es de una reunión
+     */
+    private Long meetingId;
+
+    /**
+     * ID del usuario destinatario, si la notificación es individual
+     */
+    private Long userId;
+
+    /**
+     * Estado del envío
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private Status status = Status.PENDING;
+
+    /**
+     * Número de intentos realizados
+     */
+    @Column(nullable = false)
+    private Integer attempts = 0;
+
+    /**
+     * Fecha a partir de la cual puede enviarse
+     */
+    @Column(nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    /**
+     * Fecha en que el despachador tomó la notificación
+     */
+    private LocalDateTime lockedAt;
+
+    /**
+     * Último error registrado
+     */
+    @Column(length = 1000)
+    private String lastError;
+
+    /**
+     * Fecha y hora de creación del registro
+     */
+    @CreationTimestamp
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    /**
+     * Fecha y hora del envío
+     */
+    private LocalDateTime sentAt;
+
+    /**
+     * Constructor para registrar una nueva notificación
+     *
+     * @param type Tipo de notificación
+     * @param meetingId ID de la reunión
+     * @param userId ID del destinatario, o null
+     */
+    public NotificationOutbox(Type type, Long meetingId, Long userId) {
+        this.type = type;
+        this.meetingId = meetingId;
+        this.userId = userId;
+        this.status = Status.PENDING;
+        this.attempts = 0;
+        this.nextAttemptAt = LocalDateTime.now();
+    }
+
+    /**
+     * Tipos de notificación
+     */
+    public enum Type {
+        MEETING_CREATED,    // Invitación a los participantes
+        MEETING_STARTED,    // Aviso de inicio de reunión
+        PARTICIPANT_ADDED,  // Aviso a un participante agregado
+        WELCOME_EMAIL       // Bienvenida a un usuario nuevo (sin reunión)
+    }
+
+    /**
+     * Estados de envío
+     */
+    public enum Status {
+        PENDING,        // En espera del despachador
+        SENDING,        // En envío
+        SENT,           // Enviada
+        DISCARDED,      // Descartada (la reunión o el usuario ya no existen)
+        FAILED          // Fallida tras agotar los reintentos
+    }
+}
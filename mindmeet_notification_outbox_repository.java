@@ -0,0 +1,89 @@
+package com.deloitte.mindmeet.repository;
+
+import com.deloitte.mindmeet.model.NotificationOutbox;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Repositorio de acceso a datos para el outbox de notificaciones
+ *
+ * @author MindMeet Team
+ * @version 1.0
+ */
+@Repository
+public interface NotificationOutboxRepository extends JpaRepository<NotificationOutbox, Long> {
+
+    /**
+     * Obtiene notificaciones listas para enviarse bloqueándolas para este despachador
+     * Las filas ya bloqueadas por otra instancia se omiten (SKIP LOCKED)
+     *
+     * @param now Fecha actual
+     * @param pageable Tamaño del lote
+     * @return Notificaciones bloqueadas
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT o FROM NotificationOutbox o WHERE o.status = 'PENDING' AND o.nextAttemptAt <= :now ORDER BY o.id")
+    List<NotificationOutbox> findDueForUpdate(@Param("now") LocalDateTime now, Pageable pageable);
+
+    /**
+     * Cuenta las notificaciones en un estado determinado
+     */
+    long countByStatus(NotificationOutbox.Status status);
+
+    /**
+     * Fecha de creación de la notificación pendiente más antigua
+     *
+     * @return Fecha, o null si no hay pendientes
+     */
+    @Query("SELECT MIN(o.createdAt) FROM NotificationOutbox o WHERE o.status IN ('PENDING', 'SENDING')")
+    LocalDateTime findOldestPendingCreatedAt();
+
+    /**
+     * Devuelve a la cola las notificaciones abandonadas por un despachador caído
+     *
+     * @param lockedBefore Fecha límite de bloqueo
+     * @return Número de notificaciones recuperadas
+     */
+    @Modifying
+    @Query("UPDATE NotificationOutbox o SET o.status = 'PENDING', o.lockedAt = NULL " +
+           "WHERE o.status = 'SENDING' AND o.lockedAt < :lockedBefore")
+    int requeueStale(@Param("lockedBefore") LocalDateTime lockedBefore);
+
+    /**
+     * Elimina las notificaciones ya procesadas antes de una fecha
+     *
+     * @param before Fecha límite
+     * @return Número de registros eliminados
+     */
+    @Modifying
+    @Query("DELETE FROM NotificationOutbox o WHERE o.status IN ('SENT', 'DISCARDED') AND o.createdAt < :before")
+    int deleteProcessedBefore(@Param("before") LocalDateTime before);
+
+    /**
+     * Registra correos de bienvenida para los usuarios indicados en una sola sentencia
+     *
+     * @param emails Emails de los usuarios
+     * @param now Fecha actual
+     * @return Número de notificaciones registradas
+     */
+    @Modifying
+    @Query(value = "INSERT INTO notification_outbox " +
+                   "(type, user_id, status, attempts, next_attempt_at, created_at) " +
+                   "SELECT 'WELCOME_EMAIL', u.id, 'PENDING', 0, :now, :now FROM users u " +
+                   "WHERE u.email IN (:emails)",
+           nativeQuery = true)
+    int insertWelcomeEmails(@Param("emails") Collection<String> emails, @Param("now") LocalDateTime now);
+}
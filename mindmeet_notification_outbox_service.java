@@ -0,0 +1,254 @@
+package com.deloitte.mindmeet.service;
+
+import com.deloitte.mindmeet.model.Meeting;
+import com.deloitte.mindmeet.model.NotificationOutbox;
+import com.deloitte.mindmeet.model.User;
+import com.deloitte.mindmeet.repository.MeetingRepository;
+import com.deloitte.mindmeet.repository.NotificationOutboxRepository;
+import com.deloitte.mindmeet.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Hibernate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Servicio del outbox de notificaciones
+ * Registra las notificaciones en la transacción del cambio que las origina
+ * y gestiona sus transiciones de estado para el despachador
+ *
+ * @author MindMeet Team
+ * @version 1.0
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional
+public class NotificationOutboxService {
+
+    private final NotificationOutboxRepository outboxRepository;
+    private final MeetingRepository meetingRepository;
+    private final UserRepository userRepository;
+
+    @Value("${mindmeet.notifications.outbox.retry-attempts:5}")
+    private int retryAttempts;
+
+    @Value("${mindmeet.notifications.outbox.retry-backoff-seconds:60}")
+    private long retryBackoffSeconds;
+
+    /**
+     * Registra la notificación de reunión creada
+     *
+     * @param meeting Reunión creada
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void meetingCreated(Meeting meeting) {
+        enqueue(NotificationOutbox.Type.MEETING_CREATED, meeting.getId(), null);
+    }
+
+    /**
+     * Registra la notificación de reunión iniciada
+     *
+     * @param meeting Reunión iniciada
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void meetingStarted(Meeting meeting) {
+        enqueue(NotificationOutbox.Type.MEETING_STARTED, meeting.getId(), null);
+    }
+
+    /**
+     * Registra la notificación de participante agregado
+     *
+     * @param meeting Reunión
+     * @param participantId ID del participante agregado
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void participantAdded(Meeting meeting, Long participantId) {
+        enqueue(NotificationOutbox.Type.PARTICIPANT_ADDED, meeting.getId(), participantId);
+    }
+
+    /**
+     * Registra correos de bienvenida para usuarios recién creados
+     *
+     * @param emails Emails de los usuarios
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void welcomeEmails(Collection<String> emails) {
+        if (!emails.isEmpty()) {
+            outboxRepository.insertWelcomeEmails(emails, LocalDateTime.now());
+        }
+    }
+
+    private void enqueue(NotificationOutbox.Type type, Long meetingId, Long userId) {
+        outboxRepository.save(new NotificationOutbox(type, meetingId, userId));
+    }
+
+    /**
+     * Toma hasta {@code limit} notificaciones listas y las marca como SENDING
+     *
+     * @param limit Tamaño máximo del lote
+     * @return Notificaciones tomadas por este despachador
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public List<NotificationOutbox> claim(int limit) {
+        LocalDateTime now = LocalDateTime.now();
+        List<NotificationOutbox> entries = outboxRepository.findDueForUpdate(now, PageRequest.of(0, limit));
+
+        for (NotificationOutbox entry : entries) {
+            entry.setStatus(NotificationOutbox.Status.SENDING);
+            entry.setAttempts(entry.getAttempts() + 1);
+            entry.setLockedAt(now);
+        }
+
+        return entries;
+    }
+
+    /**
+     * Carga los datos necesarios para enviar una notificación
+     * Las asociaciones que usa NotificationService se inicializan aquí para
+     * que el envío se realice fuera de cualquier transacción
+     *
+     * @param entry Notificación
+     * @return Datos del envío, o null si la reunión o el destinatario ya no existen
+     */
+    @Transactional(readOnly = true)
+    public Delivery loadDelivery(NotificationOutbox entry) {
+        Meeting meeting = null;
+        if (entry.getMeetingId() != null) {
+            meeting = meetingRepository.findById(entry.getMeetingId()).orElse(null);
+            if (meeting == null) {
+                return null;
+            }
+            Hibernate.initialize(meeting.getOrganizer());
+            Hibernate.initialize(meeting.getParticipants());
+        }
+
+        User recipient = null;
+        if (entry.getUserId() != null) {
+            recipient = userRepository.findById(entry.getUserId()).orElse(null);
+            if (recipient == null) {
+                return null;
+            }
+        }
+        return new Delivery(meeting, recipient);
+    }
+
+    /**
+     * Marca una notificación como enviada
+     *
+     * @param entryId ID de la notificación
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void markSent(Long entryId) {
+        outboxRepository.findById(entryId).ifPresent(entry -> {
+            entry.setStatus(NotificationOutbox.Status.SENT);
+            entry.setLockedAt(null);
+            entry.setLastError(null);
+            entry.setSentAt(LocalDateTime.now());
+        });
+    }
+
+    /**
+     * Descarta una notificación cuyo destino ya no existe
+     *
+     * @param entryId ID de la notificación
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void markDiscarded(Long entryId) {
+        outboxRepository.findById(entryId).ifPresent(entry -> {
+            entry.setStatus(NotificationOutbox.Status.DISCARDED);
+            entry.setLockedAt(null);
+        });
+    }
+
+    /**
+     * Registra un fallo: reprograma la notificación o la marca como fallida
+     * si se agotaron los reintentos
+     *
+     * @param entryId ID de la notificación
+     * @param error Descripción del error
+     * @return true si la notificación quedó definitivamente fallida
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public boolean markFailed(Long entryId, String error) {
+        NotificationOutbox entry = outboxRepository.findById(entryId).orElse(null);
+        if (entry == null) {
+            return true;
+        }
+
+        entry.setLockedAt(null);
+        entry.setLastError(error != null && error.length() > 1000 ? error.substring(0, 1000) : error);
+
+        if (entry.getAttempts() >= retryAttempts) {
+            entry.setStatus(NotificationOutbox.Status.FAILED);
+            log.error("Notificación {} ({}) fallida tras {} intentos: {}",
+                entry.getId(), entry.getType(), entry.getAttempts(), error);
+            return true;
+        }
+
+        // Reintento con espera creciente
+        entry.setStatus(NotificationOutbox.Status.PENDING);
+        entry.setNextAttemptAt(LocalDateTime.now().plusSeconds(retryBackoffSeconds * entry.getAttempts()));
+        log.warn("Notificación {} ({}) reprogramada (intento {}): {}",
+            entry.getId(), entry.getType(), entry.getAttempts(), error);
+        return false;
+    }
+
+    /**
+     * Devuelve a la cola las notificaciones bloqueadas por un despachador que dejó de responder
+     *
+     * @param lockedBefore Fecha límite de bloqueo
+     * @return Número de notificaciones recuperadas
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public int requeueStale(LocalDateTime lockedBefore) {
+        return outboxRepository.requeueStale(lockedBefore);
+    }
+
+    /**
+     * Elimina las notificaciones procesadas anteriores a una fecha
+     *
+     * @param before Fecha límite
+     * @return Número de registros eliminados
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public int purgeProcessed(LocalDateTime before) {
+        return outboxRepository.deleteProcessedBefore(before);
+    }
+
+    /**
+     * Cuenta las notificaciones pendientes de envío
+     *
+     * @return Número de notificaciones en estado PENDING
+     */
+    @Transactional(readOnly = true)
+    public long countPending() {
+        return outboxRepository.countByStatus(NotificationOutbox.Status.PENDING);
+    }
+
+    /**
+     * Fecha de creación de la notificación pendiente más antigua
+     *
+     * @return Fecha, o null si no hay pendientes
+     */
+    @Transactional(readOnly = true)
+    public LocalDateTime oldestPendingCreatedAt() {
+        return outboxRepository.findOldestPendingCreatedAt();
+    }
+
+    /**
+     * Datos necesarios para enviar una notificación
+     *
+     * @param meeting Reunión con organizador y participantes inicializados, o null
+     * @param recipient Destinatario individual, o null
+     */
+    public record Delivery(Meeting meeting, User recipient) {
+    }
+}
@@ -0,0 +1,80 @@
+package com.deloitte.mindmeet.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * Estadísticas acumuladas de reuniones por organizador
+ * Se mantienen incrementalmente en cada cambio de reunión para que el
+ * dashboard las lea en O(1), y se reconcilian periódicamente con la tabla meetings
+ *
+ * @author MindMeet Team
+ * @version 1.0
+ */
+@Entity
+@Table(name = "organizer_meeting_stats")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrganizerMeetingStats {
+
+    /**
+     * ID del organizador (clave primaria)
+     */
+    @Id
+    @Column(name = "organizer_id")
+    private Long organizerId;
+
+    /**
+     * Total de reuniones organizadas
+     */
+    @Column(nullable = false)
+    private Long totalMeetings = 0L;
+
+    /**
+     * Reuniones en estado COMPLETED
+     */
+    @Column(nullable = false)
+    private Long completedMeetings = 0L;
+
+    /**
+     * Suma de las precisiones de transcripción registradas
+     */
+    @Column(nullable = false)
+    private Double accuracySum = 0.0;
+
+    /**
+     * Número de reuniones con precisión de transcripción registrada
+     */
+    @Column(nullable = false)
+    private Long accuracyCount = 0L;
+
+    /**
+     * Fecha y hora de última actualización del registro
+     */
+    @UpdateTimestamp
+    private LocalDateTime updatedAt;
+
+    /**
+     * Constructor para un organizador sin reuniones
+     *
+     * @param organizerId ID del organizador
+     */
+    public OrganizerMeetingStats(Long organizerId) {
+        this.organizerId = organizerId;
+    }
+
+    /**
+     * Calcula el promedio de precisión de transcripción
+     *
+     * @return Promedio, o 0.0 si no hay transcripciones
+     */
+    public double averageAccuracy() {
+        return accuracyCount > 0 ? accuracySum / accuracyCount : 0.0;
+    }
+}
@@ -0,0 +1,70 @@
+package com.deloitte.mindmeet.repository;
+
+import com.deloitte.mindmeet.model.OrganizerMeetingStats;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Repositorio de estadísticas acumuladas por organizador
+ * Las actualizaciones son atómicas en base de datos (col = col + delta)
+ * para no perder incrementos concurrentes
+ *
+ * @author MindMeet Team
+ * @version 1.0
+ */
+@Repository
+public interface OrganizerMeetingStatsRepository extends JpaRepository<OrganizerMeetingStats, Long> {
+
+    /**
+     * Crea la fila del organizador si todavía no existe
+     * ON CONFLICT hace que dos transacciones concurrentes no fallen por la
+     * clave primaria: la segunda espera a la primera y no inserta nada
+     */
+    @Modifying
+    @Query(value = "INSERT INTO organizer_meeting_stats " +
+                   "(organizer_id, total_meetings, completed_meetings, accuracy_sum, accuracy_count) " +
+                   "VALUES (:organizerId, 0, 0, 0, 0) ON CONFLICT DO NOTHING",
+           nativeQuery = true)
+    int insertIfAbsent(@Param("organizerId") Long organizerId);
+
+    /**
+     * Obtiene la fila del organizador bloqueándola hasta el fin de la
+     * transacción; los deltas concurrentes esperan a que se libere
+     *
+     * @param organizerId ID del organizador
+     * @return Estadísticas si existe la fila
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM OrganizerMeetingStats s WHERE s.organizerId = :organizerId")
+    Optional<OrganizerMeetingStats> findByIdForUpdate(@Param("organizerId") Long organizerId);
+
+    /**
+     * IDs de todos los organizadores con fila de estadísticas
+     */
+    @Query("SELECT s.organizerId FROM OrganizerMeetingStats s")
+    List<Long> findAllOrganizerIds();
+
+    /**
+     * Suma deltas a los contadores del organizador
+     */
+    @Modifying
+    @Query("UPDATE OrganizerMeetingStats s SET " +
+           "s.totalMeetings = s.totalMeetings + :totalDelta, " +
+           "s.completedMeetings = s.completedMeetings + :completedDelta, " +
+           "s.accuracySum = s.accuracySum + :accuracySumDelta, " +
+           "s.accuracyCount = s.accuracyCount + :accuracyCountDelta " +
+           "WHERE s.organizerId = :organizerId")
+    int applyDelta(@Param("organizerId") Long organizerId,
+                   @Param("totalDelta") long totalDelta,
+                   @Param("completedDelta") long completedDelta,
+                   @Param("accuracySumDelta") double accuracySumDelta,
+                   @Param("accuracyCountDelta") long accuracyCountDelta);
+}
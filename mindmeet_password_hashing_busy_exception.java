@@ -0,0 +1,25 @@
+package com.deloitte.mindmeet.security;
+
+/**
+ * Excepción lanzada cuando el pool de hashing de contraseñas está saturado
+ * Se traduce en una respuesta 503 con cabecera Retry-After
+ *
+ * @author MindMeet Team
+ * @version 1.0
+ */
+public class PasswordHashingBusyException extends RuntimeException {
+
+    /**
+     * Segundos sugeridos antes de reintentar
+     */
+    private final long retryAfterSeconds;
+
+    public PasswordHashingBusyException(long retryAfterSeconds) {
+        super("Servicio de autenticación saturado, intente nuevamente");
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
@@ -0,0 +1,147 @@
+package com.deloitte.mindmeet.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.util.StringUtils;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Enrutamiento de las transacciones de solo lectura a réplicas
+ *
+ * Se activa con mindmeet.datasource.routing.enabled=true. El primario se
+ * configura con spring.datasource (incluido spring.datasource.hikari) y cada
+ * URL de mindmeet.datasource.routing.replica-urls tiene su propio pool
+ * Hikari de solo lectura. El DataSource de la aplicación es un
+ * LazyConnectionDataSourceProxy sobre {@link ReadWriteRoutingDataSource}.
+ *
+ * @author MindMeet Team
+ * @version 1.0
+ */
+@Configuration
+@ConditionalOnProperty(name = "mindmeet.datasource.routing.enabled", havingValue = "true")
+public class ReadWriteRoutingConfig {
+
+    /**
+     * Pool del primario, con la configuración estándar de spring.datasource
+     *
+     * @param properties Propiedades spring.datasource
+     * @return Pool Hikari del primario
+     */
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder()
+            .type(HikariDataSource.class)
+            .build();
+        dataSource.setPoolName("mindmeet-primary");
+        return dataSource;
+    }
+
+    /**
+     * Monitor del retraso de las réplicas
+     *
+     * @param primaryDataSource Pool del primario
+     * @param properties Propiedades spring.datasource (driver y credenciales por defecto)
+     * @param replicaUrls URLs JDBC de las réplicas
+     * @param replicaUsername Usuario de las réplicas (por defecto el del primario)
+     * @param replicaPassword Contraseña de las réplicas (por defecto la del primario)
+     * @param replicaPoolSize Conexiones máximas por réplica
+     * @param maxLagMillis Retraso máximo para que una réplica atienda lecturas
+     * @param meterRegistry Registro de métricas
+     * @return Monitor con un pool por réplica
+     */
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(
+            @Qualifier("primaryDataSource") DataSource primaryDataSource,
+            DataSourceProperties properties,
+            @Value("${mindmeet.datasource.routing.replica-urls:}") List<String> replicaUrls,
+            @Value("${mindmeet.datasource.routing.replica-username:${spring.datasource.username:}}") String replicaUsername,
+            @Value("${mindmeet.datasource.routing.replica-password:${spring.datasource.password:}}") String replicaPassword,
+            @Value("${mindmeet.datasource.routing.replica-pool-size:10}") int replicaPoolSize,
+            @Value("${mindmeet.datasource.routing.max-lag-ms:5000}") long maxLagMillis,
+            MeterRegistry meterRegistry) {
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        for (String url : replicaUrls) {
+            if (!StringUtils.hasText(url)) {
+                continue;
+            }
+            String name = "replica-" + (replicas.size() + 1);
+            HikariDataSource replica = new HikariDataSource();
+            replica.setPoolName("mindmeet-" + name);
+            replica.setJdbcUrl(url.trim());
+            replica.setDriverClassName(properties.determineDriverClassName());
+            replica.setUsername(replicaUsername);
+            replica.setPassword(replicaPassword);
+            replica.setMaximumPoolSize(replicaPoolSize);
+            replica.setReadOnly(true);
+            replica.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+            replicas.put(name, replica);
+        }
+        return new ReplicaLagMonitor(primaryDataSource, replicas, maxLagMillis, meterRegistry);
+    }
+
+    /**
+     * Registro de las escrituras recientes por usuario
+     * Se recuerdan durante el retraso máximo: pasado ese tiempo, cualquier
+     * réplica en rotación ya tiene aplicada la escritura
+     *
+     * @param maxLagMillis Retraso máximo para que una réplica atienda lecturas
+     * @return Registro de escrituras
+     */
+    @Bean
+    public ReadYourWritesTracker readYourWritesTracker(
+            @Value("${mindmeet.datasource.routing.max-lag-ms:5000}") long maxLagMillis) {
+        return new ReadYourWritesTracker(Duration.ofMillis(maxLagMillis).plusSeconds(1));
+    }
+
+    /**
+     * DataSource enrutado entre el primario y las réplicas
+     *
+     * @return DataSource de enrutamiento
+     */
+    @Bean(destroyMethod = "close")
+    public ReadWriteRoutingDataSource readWriteRoutingDataSource(
+            @Qualifier("primaryDataSource") DataSource primaryDataSource,
+            ReplicaLagMonitor replicaLagMonitor,
+            ReadYourWritesTracker readYourWritesTracker,
+            MeterRegistry meterRegistry) {
+        Map<Object, Object> targets = new HashMap<>(replicaLagMonitor.dataSources());
+        targets.put(ReadWriteRoutingDataSource.PRIMARY, primaryDataSource);
+
+        ReadWriteRoutingDataSource routing =
+            new ReadWriteRoutingDataSource(replicaLagMonitor, readYourWritesTracker, meterRegistry);
+        routing.setTargetDataSources(targets);
+        routing.setDefaultTargetDataSource(primaryDataSource);
+        return routing;
+    }
+
+    /**
+     * DataSource de la aplicación (JPA, JdbcTemplate)
+     * Pide la conexión física en la primera sentencia, cuando la transacción
+     * ya está marcada como readOnly
+     *
+     * @param routingDataSource DataSource de enrutamiento
+     * @return Proxy perezoso sobre el enrutamiento
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(ReadWriteRoutingDataSource routingDataSource) {
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+}
@@ -0,0 +1,156 @@
+package com.deloitte.mindmeet.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.function.Supplier;
+
+/**
+ * DataSource que envía las transacciones de solo lectura a una réplica
+ *
+ * Las transacciones de escritura y el acceso fuera de transacción van al
+ * primario. Debe usarse detrás de un LazyConnectionDataSourceProxy: así la
+ * conexión se pide al ejecutar la primera sentencia, cuando Spring ya marcó
+ * la transacción como readOnly, y no al comenzarla.
+ *
+ * Métrica: mindmeet.datasource.routing con target (primary, replica) y reason.
+ *
+ * @author MindMeet Team
+ * @version 1.0
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    /**
+     * Clave del primario en el mapa de DataSources destino
+     */
+    public static final String PRIMARY = "primary";
+
+    /**
+     * Recurso ligado a la transacción mientras lee de una réplica
+     */
+    private static final Object REPLICA_READ = new Object();
+
+    /**
+     * Marca las lecturas que deben ir al primario aunque sean de solo lectura
+     */
+    private static final ThreadLocal<Boolean> PRIMARY_READ = new ThreadLocal<>();
+
+    private final ReplicaLagMonitor lagMonitor;
+    private final ReadYourWritesTracker writesTracker;
+    private final MeterRegistry meterRegistry;
+
+    public ReadWriteRoutingDataSource(ReplicaLagMonitor lagMonitor, ReadYourWritesTracker writesTracker,
+                                      MeterRegistry meterRegistry) {
+        this.lagMonitor = lagMonitor;
+        this.writesTracker = writesTracker;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            return PRIMARY;
+        }
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            writesTracker.recordWriteAfterCommit();
+            count(PRIMARY, "write");
+            return PRIMARY;
+        }
+        if (PRIMARY_READ.get() != null) {
+            count(PRIMARY, "primary-read");
+            return PRIMARY;
+        }
+
+        ReplicaLagMonitor.Choice choice = lagMonitor.choose(writesTracker.lastWriteForCurrentUser());
+        if (choice.replica() == null) {
+            count(PRIMARY, choice.reason());
+            return PRIMARY;
+        }
+        count("replica", choice.reason());
+        markReplicaRead(choice.replica());
+        return choice.replica();
+    }
+
+    /**
+     * Indica si la transacción actual lee de una réplica
+     * Los datos leídos así pueden estar atrasados y no deben guardarse en
+     * caches compartidos por todos los usuarios
+     *
+     * @return true si la transacción actual usa una réplica
+     */
+    public static boolean isReplicaRead() {
+        return TransactionSynchronizationManager.hasResource(REPLICA_READ);
+    }
+
+    /**
+     * Ejecuta una lectura en el primario sin registrarla como escritura
+     * Solo afecta a las conexiones pedidas dentro de la acción: una
+     * transacción que ya obtuvo su conexión de una réplica la conserva, por lo
+     * que la acción debe abrir su propia transacción (REQUIRES_NEW)
+     *
+     * @param action Lectura a ejecutar
+     * @return Resultado de la acción
+     */
+    public static <T> T readFromPrimary(Supplier<T> action) {
+        if (PRIMARY_READ.get() != null) {
+            return action.get();
+        }
+        PRIMARY_READ.set(Boolean.TRUE);
+        try {
+            return action.get();
+        } finally {
+            PRIMARY_READ.remove();
+        }
+    }
+
+    private static void markReplicaRead(String replica) {
+        if (TransactionSynchronizationManager.hasResource(REPLICA_READ)
+                || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.bindResource(REPLICA_READ, replica);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void suspend() {
+                TransactionSynchronizationManager.unbindResourceIfPossible(REPLICA_READ);
+            }
+
+            @Override
+            public void resume() {
+                TransactionSynchronizationManager.bindResource(REPLICA_READ, replica);
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(REPLICA_READ);
+            }
+        });
+    }
+
+    /**
+     * Cierra los pools de las réplicas; el primario se cierra como su propio bean
+     */
+    public void close() {
+        getResolvedDataSources().forEach((key, dataSource) -> {
+            if (!PRIMARY.equals(key) && dataSource instanceof AutoCloseable closeable) {
+                try {
+                    closeable.close();
+                } catch (Exception e) {
+                    logger.warn("No se pudo cerrar el pool de la réplica " + key, e);
+                }
+            }
+        });
+    }
+
+    private void count(String target, String reason) {
+        Counter.builder("mindmeet.datasource.routing")
+            .description("Conexiones asignadas por el enrutamiento lectura/escritura")
+            .tag("target", target)
+            .tag("reason", reason)
+            .register(meterRegistry)
+            .increment();
+    }
+}
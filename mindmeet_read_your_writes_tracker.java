@@ -0,0 +1,89 @@
+package com.deloitte.mindmeet.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Registra el momento de la última escritura confirmada de cada usuario
+ *
+ * Una réplica solo atiende una lectura si ya aplicó los cambios hasta
+ * después de la última escritura del usuario; así, quien acaba de crear o
+ * modificar una reunión la ve en la siguiente petición. Las transacciones
+ * sin usuario autenticado (tareas programadas, workers) usan la última
+ * escritura de cualquier usuario en esta instancia.
+ *
+ * Se guarda en memoria de la instancia: con varias instancias detrás de un
+ * balanceador sin afinidad, una lectura puede llegar a otra instancia que no
+ * conoce la escritura y queda protegida solo por el retraso máximo permitido.
+ *
+ * @author MindMeet Team
+ * @version 1.0
+ */
+public class ReadYourWritesTracker {
+
+    private final Cache<String, Long> lastWriteByUser;
+    private final AtomicLong lastWrite = new AtomicLong();
+
+    /**
+     * @param retention Tiempo que se recuerda la escritura de un usuario; debe
+     *                  superar el retraso máximo permitido de las réplicas
+     */
+    public ReadYourWritesTracker(Duration retention) {
+        this.lastWriteByUser = Caffeine.newBuilder()
+            .expireAfterWrite(retention)
+            .build();
+    }
+
+    /**
+     * Registra la escritura del usuario actual tras el commit de la transacción
+     * No hace nada fuera de una transacción
+     */
+    public void recordWriteAfterCommit() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        String user = currentUser();
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                // Se toma después del commit para que sea posterior a la escritura
+                long now = System.currentTimeMillis();
+                lastWrite.accumulateAndGet(now, Math::max);
+                if (user != null) {
+                    lastWriteByUser.asMap().merge(user, now, Math::max);
+                }
+            }
+        });
+    }
+
+    /**
+     * Última escritura confirmada que debe ver la lectura actual
+     *
+     * @return Milisegundos desde epoch, o 0 si no hay escrituras recientes
+     */
+    public long lastWriteForCurrentUser() {
+        String user = currentUser();
+        if (user == null) {
+            return lastWrite.get();
+        }
+        Long millis = lastWriteByUser.getIfPresent(user);
+        return millis != null ? millis : 0;
+    }
+
+    private static String currentUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()
+                || authentication instanceof AnonymousAuthenticationToken) {
+            return null;
+        }
+        return authentication.getName();
+    }
+}
@@ -0,0 +1,72 @@
+package com.deloitte.mindmeet.model;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * Entidad que representa una grabación almacenada por contenido
+ * El archivo se guarda una sola vez por SHA-256 y cada reunión que lo usa
+ * suma una referencia; al quedar sin referencias se elimina del disco
+ *
+ * @author MindMeet Team
+ * @version 1.0
+ */
+@Entity
+@Table(name = "recording_blobs", indexes = {
+    @Index(name = "idx_recording_blobs_ref_count", columnList = "refCount, lastReferencedAt")
+})
+@Data
+@NoArgsConstructor
+public class RecordingBlob {
+
+    /**
+     * SHA-256 del contenido en hexadecimal (clave primaria)
+     */
+    @Id
+    @Column(length = 64)
+    private String hash;
+
+    /**
+     * Ruta relativa al directorio de almacenamiento
+     */
+    @Column(nullable = false, length = 500)
+    private String path;
+
+    /**
+     * Tamaño del archivo en bytes
+     */
+    @Column(nullable = false)
+    private Long sizeBytes;
+
+    /**
+     * Reuniones que referencian la grabación
+     */
+    @Column(nullable = false)
+    private Integer refCount = 0;
+
+    /**
+     * Fecha de creación del registro
+     */
+    @CreationTimestamp
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    /**
+     * Última vez que una subida referenció la grabación
+     * Protege de la limpieza a las subidas cuya transacción aún no terminó
+     */
+    @Column(nullable = false)
+    private LocalDateTime lastReferencedAt;
+
+    public RecordingBlob(String hash, String path, Long sizeBytes) {
+        this.hash = hash;
+        this.path = path;
+        this.sizeBytes = sizeBytes;
+        this.refCount = 1;
+        this.lastReferencedAt = LocalDateTime.now();
+    }
+}
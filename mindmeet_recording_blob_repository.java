@@ -0,0 +1,81 @@
+package com.deloitte.mindmeet.repository;
+
+import com.deloitte.mindmeet.model.RecordingBlob;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Repositorio de acceso a datos para las grabaciones almacenadas por contenido
+ *
+ * @author MindMeet Team
+ * @version 1.0
+ */
+@Repository
+public interface RecordingBlobRepository extends JpaRepository<RecordingBlob, String> {
+
+    /**
+     * Obtiene una grabación bloqueando la fila hasta el fin de la transacción
+     * Serializa las subidas simultáneas del mismo contenido
+     *
+     * @param hash SHA-256 del contenido
+     * @return Grabación bloqueada, vacía si no existe
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT b FROM RecordingBlob b WHERE b.hash = :hash")
+    Optional<RecordingBlob> findByHashForUpdate(@Param("hash") String hash);
+
+    /**
+     * Resta una referencia a la grabación
+     *
+     * @param hash SHA-256 del contenido
+     * @return Número de filas actualizadas
+     */
+    @Modifying
+    @Query("UPDATE RecordingBlob b SET b.refCount = b.refCount - 1 WHERE b.hash = :hash AND b.refCount > 0")
+    int releaseReference(@Param("hash") String hash);
+
+    /**
+     * Recalcula las referencias a partir de las reuniones
+     * Corrige referencias sumadas por subidas cuya transacción se revirtió
+     *
+     * @return Número de filas actualizadas
+     */
+    @Modifying
+    @Query(value = "UPDATE recording_blobs SET ref_count = " +
+                   "(SELECT COUNT(*) FROM meetings m WHERE m.recording_hash = recording_blobs.hash)",
+           nativeQuery = true)
+    int reconcileReferences();
+
+    /**
+     * Obtiene grabaciones sin referencias desde antes de la fecha indicada
+     *
+     * @param before Fecha límite de la última referencia
+     * @param pageable Número máximo de resultados
+     * @return Grabaciones candidatas a eliminarse
+     */
+    @Query("SELECT b FROM RecordingBlob b WHERE b.refCount = 0 AND b.lastReferencedAt < :before ORDER BY b.lastReferencedAt")
+    List<RecordingBlob> findUnreferenced(@Param("before") LocalDateTime before, Pageable pageable);
+
+    /**
+     * Elimina el registro de una grabación si sigue sin referencias
+     * y ninguna reunión la apunta
+     *
+     * @param hash SHA-256 del contenido
+     * @param before Fecha límite de la última referencia
+     * @return 1 si se eliminó, 0 si volvió a usarse
+     */
+    @Modifying
+    @Query("DELETE FROM RecordingBlob b WHERE b.hash = :hash AND b.refCount = 0 AND b.lastReferencedAt < :before " +
+           "AND NOT EXISTS (SELECT m.id FROM Meeting m WHERE m.recordingHash = b.hash)")
+    int deleteIfUnreferenced(@Param("hash") String hash, @Param("before") LocalDateTime before);
+}
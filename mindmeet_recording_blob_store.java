@@ -0,0 +1,281 @@
+package com.deloitte.mindmeet.service;
+
+import com.deloitte.mindmeet.model.RecordingBlob;
+import com.deloitte.mindmeet.repository.RecordingBlobRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.io.FilenameUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Almacenamiento de grabaciones direccionado por contenido
+ *
+ * Cada grabación se guarda una sola vez en recordings/blobs/ab/&lt;sha256&gt;.ext.
+ * La subida directa se calcula mientras se escribe en disco (un solo paso);
+ * la subida por fragmentos llega desordenada, por lo que se calcula al
+ * completarla. Si el contenido ya existe, el archivo nuevo se descarta y la
+ * grabación existente suma una referencia.
+ *
+ * Las referencias se restan al reemplazar la grabación de una reunión o
+ * eliminarla. La limpieza periódica recalcula las referencias a partir de
+ * las reuniones y borra los archivos que llevan un tiempo sin ninguna.
+ *
+ * @author MindMeet Team
+ * @version 1.0
+ */
+@Service
+@Slf4j
+public class RecordingBlobStore {
+
+    private static final String BLOB_DIRECTORY = "recordings/blobs";
+
+    private final RecordingBlobRepository blobRepository;
+    private final TransactionTemplate registerTransaction;
+    private final Path storageRoot;
+    private final Duration gracePeriod;
+    private final int cleanupBatchSize;
+
+    private final Counter storedUploads;
+    private final Counter deduplicatedUploads;
+    private final Counter deduplicatedBytes;
+    private final Counter deletedBlobs;
+
+    public RecordingBlobStore(
+            RecordingBlobRepository blobRepository,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${storage.location:./uploads}") String storageLocation,
+            @Value("${mindmeet.recordings.cleanup.grace-period-minutes:60}") long gracePeriodMinutes,
+            @Value("${mindmeet.recordings.cleanup.batch-size:100}") int cleanupBatchSize) {
+        this.blobRepository = blobRepository;
+        this.storageRoot = Paths.get(storageLocation);
+        this.gracePeriod = Duration.ofMinutes(gracePeriodMinutes);
+        this.cleanupBatchSize = cleanupBatchSize;
+
+        this.registerTransaction = new TransactionTemplate(transactionManager);
+        this.registerTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        this.storedUploads = Counter.builder("mindmeet.recordings.uploads")
+            .description("Grabaciones subidas por resultado del almacenamiento")
+            .tag("result", "stored")
+            .register(meterRegistry);
+        this.deduplicatedUploads = Counter.builder("mindmeet.recordings.uploads")
+            .description("Grabaciones subidas por resultado del almacenamiento")
+            .tag("result", "deduplicated")
+            .register(meterRegistry);
+        this.deduplicatedBytes = Counter.builder("mindmeet.recordings.deduplicated.bytes")
+            .description("Bytes no almacenados por tener ya el mismo contenido")
+            .baseUnit("bytes")
+            .register(meterRegistry);
+        this.deletedBlobs = Counter.builder("mindmeet.recordings.deleted")
+            .description("Grabaciones eliminadas al quedar sin referencias")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Guarda una grabación subida en una sola petición
+     * El hash se calcula mientras el archivo se copia a disco
+     *
+     * @param file Archivo subido
+     * @return Grabación almacenada con una referencia nueva
+     * @throws IllegalStateException si no se puede escribir el archivo
+     */
+    public StoredRecording store(MultipartFile file) {
+        String extension = extension(file.getOriginalFilename());
+        Path temp = null;
+        try {
+            Path directory = storageRoot.resolve(BLOB_DIRECTORY);
+            Files.createDirectories(directory);
+            temp = Files.createTempFile(directory, "upload-", ".tmp");
+
+            MessageDigest digest = sha256();
+            long size;
+            try (InputStream input = new DigestInputStream(file.getInputStream(), digest)) {
+                size = Files.copy(input, temp, StandardCopyOption.REPLACE_EXISTING);
+            }
+            return register(HexFormat.of().formatHex(digest.digest()), temp, extension, size);
+        } catch (IOException e) {
+            throw new IllegalStateException("No se pudo guardar la grabación", e);
+        } finally {
+            deleteQuietly(temp);
+        }
+    }
+
+    /**
+     * Incorpora una grabación ya escrita en el almacenamiento (subida por fragmentos)
+     * El archivo original se mueve a su ubicación por contenido o se elimina
+     * si el contenido ya existe
+     *
+     * @param recordingUrl Ruta relativa del archivo completo
+     * @return Grabación almacenada con una referencia nueva
+     * @throws IllegalStateException si no se puede leer el archivo
+     */
+    public StoredRecording adopt(String recordingUrl) {
+        Path file = storageRoot.resolve(recordingUrl);
+        try {
+            MessageDigest digest = sha256();
+            long size;
+            try (InputStream input = new DigestInputStream(Files.newInputStream(file), digest)) {
+                size = input.transferTo(OutputStream.nullOutputStream());
+            }
+            return register(HexFormat.of().formatHex(digest.digest()), file,
+                extension(file.getFileName().toString()), size);
+        } catch (IOException e) {
+            throw new IllegalStateException("No se pudo guardar la grabación", e);
+        } finally {
+            deleteQuietly(file);
+        }
+    }
+
+    /**
+     * Resta una referencia a una grabación dentro de la transacción actual
+     * El archivo se elimina en la limpieza periódica si queda sin referencias
+     *
+     * @param hash SHA-256 del contenido
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void release(String hash) {
+        blobRepository.releaseReference(hash);
+    }
+
+    /**
+     * Recalcula las referencias y elimina las grabaciones sin uso
+     * Solo se eliminan las que superan el periodo de gracia, para no borrar
+     * una grabación cuya subida aún no ha confirmado su transacción
+     */
+    @Scheduled(fixedDelayString = "${mindmeet.recordings.cleanup.interval-ms:3600000}",
+               initialDelayString = "${mindmeet.recordings.cleanup.initial-delay-ms:300000}")
+    public void cleanupUnreferenced() {
+        registerTransaction.executeWithoutResult(status -> blobRepository.reconcileReferences());
+
+        LocalDateTime before = LocalDateTime.now().minus(gracePeriod);
+        List<RecordingBlob> candidates = blobRepository.findUnreferenced(before, PageRequest.of(0, cleanupBatchSize));
+
+        int deleted = 0;
+        for (RecordingBlob blob : candidates) {
+            Integer rows = registerTransaction.execute(status ->
+                blobRepository.deleteIfUnreferenced(blob.getHash(), before));
+            if (rows != null && rows > 0) {
+                deleteQuietly(storageRoot.resolve(blob.getPath()));
+                deletedBlobs.increment();
+                deleted++;
+            }
+        }
+
+        if (deleted > 0) {
+            log.info("{} grabaciones sin referencias eliminadas", deleted);
+        }
+    }
+
+    /**
+     * Registra el contenido en su propia transacción; si otra subida del mismo
+     * contenido lo registró a la vez, se reintenta una vez como duplicado
+     */
+    private StoredRecording register(String hash, Path source, String extension, long size) {
+        try {
+            return registerTransaction.execute(status -> registerInTransaction(hash, source, extension, size));
+        } catch (DataIntegrityViolationException e) {
+            return registerTransaction.execute(status -> registerInTransaction(hash, source, extension, size));
+        }
+    }
+
+    private StoredRecording registerInTransaction(String hash, Path source, String extension, long size) {
+        Optional<RecordingBlob> existing = blobRepository.findByHashForUpdate(hash);
+
+        if (existing.isPresent() && Files.exists(storageRoot.resolve(existing.get().getPath()))) {
+            RecordingBlob blob = existing.get();
+            blob.setRefCount(blob.getRefCount() + 1);
+            blob.setLastReferencedAt(LocalDateTime.now());
+            deduplicatedUploads.increment();
+            deduplicatedBytes.increment(size);
+            log.info("Grabación {} ya almacenada, se reutiliza ({} referencias)", hash, blob.getRefCount());
+            return new StoredRecording(hash, blob.getPath(), true);
+        }
+
+        String path = BLOB_DIRECTORY + "/" + hash.substring(0, 2) + "/" + hash
+            + (extension.isEmpty() ? "" : "." + extension);
+        try {
+            Path target = storageRoot.resolve(path);
+            Files.createDirectories(target.getParent());
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("No se pudo mover la grabación", e);
+        }
+
+        if (existing.isPresent()) {
+            // Registro sin archivo (borrado manual o restauración parcial): se repone
+            RecordingBlob blob = existing.get();
+            blob.setPath(path);
+            blob.setSizeBytes(size);
+            blob.setRefCount(blob.getRefCount() + 1);
+            blob.setLastReferencedAt(LocalDateTime.now());
+        } else {
+            blobRepository.saveAndFlush(new RecordingBlob(hash, path, size));
+        }
+        storedUploads.increment();
+        return new StoredRecording(hash, path, false);
+    }
+
+    private static String extension(String fileName) {
+        return fileName != null
+            ? FilenameUtils.getExtension(fileName).replaceAll("[^A-Za-z0-9]", "").toLowerCase()
+            : "";
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 no disponible", e);
+        }
+    }
+
+    private static void deleteQuietly(Path file) {
+        if (file == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("No se pudo eliminar {}: {}", file, e.getMessage());
+        }
+    }
+
+    /**
+     * Grabación almacenada
+     *
+     * @param hash SHA-256 del contenido
+     * @param path Ruta relativa al directorio de almacenamiento
+     * @param deduplicated true si el contenido ya existía
+     */
+    public record StoredRecording(String hash, String path, boolean deduplicated) {
+    }
+}
@@ -0,0 +1,39 @@
+package com.deloitte.mindmeet.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Solicitud para iniciar una subida de grabación por fragmentos
+ *
+ * @author MindMeet Team
+ * @version 1.0
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RecordingUploadRequest {
+
+    /**
+     * Nombre original del archivo
+     */
+    @NotBlank(message = "El nombre del archivo es obligatorio")
+    private String fileName;
+
+    /**
+     * Tipo MIME de la grabación (audio/* o video/*)
+     */
+    @NotBlank(message = "El tipo de contenido es obligatorio")
+    private String contentType;
+
+    /**
+     * Tamaño total del archivo en bytes
+     */
+    @NotNull(message = "El tamaño del archivo es obligatorio")
+    @Positive(message = "El tamaño del archivo debe ser positivo")
+    private Long totalSize;
+}
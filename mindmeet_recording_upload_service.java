@@ -0,0 +1,454 @@
+package com.deloitte.mindmeet.service;
+
+import com.deloitte.mindmeet.dto.RecordingUploadStatus;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.io.FilenameUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+
+/**
+ * Servicio de subida de grabaciones por fragmentos (reanudable)
+ *
+ * Flujo: iniciar subida, enviar cada fragmento con PUT y completar.
+ * Cada fragmento se escribe directamente en su posición del archivo final
+ * mediante canales NIO, sin archivo temporal intermedio ni copia posterior.
+ * El estado de la subida se guarda junto al archivo parcial, por lo que una
+ * conexión caída (o un reinicio) solo obliga a reenviar los fragmentos faltantes.
+ *
+ * @author MindMeet Team
+ * @version 1.0
+ */
+@Service
+@Slf4j
+public class RecordingUploadService {
+
+    private static final String PART_SUFFIX = ".part";
+    private static final String STATE_SUFFIX = ".upload";
+
+    @Value("${storage.recordings-path:./uploads/recordings}")
+    private String recordingsPath;
+
+    @Value("${mindmeet.upload.chunk-size-bytes:8388608}")
+    private long chunkSize;
+
+    @Value("${mindmeet.upload.max-recording-size-bytes:2147483648}")
+    private long maxRecordingSize;
+
+    @Value("${mindmeet.upload.session-ttl-hours:24}")
+    private long sessionTtlHours;
+
+    /**
+     * Sesiones de subida activas por ID de subida
+     */
+    private final Map<String, UploadSession> sessions = new ConcurrentHashMap<>();
+
+    /**
+     * Inicia una subida por fragmentos y reserva el archivo de destino
+     *
+     * @param meetingId ID de la reunión
+     * @param ownerEmail Email del organizador que realiza la subida
+     * @param fileName Nombre original del archivo
+     * @param contentType Tipo MIME de la grabación
+     * @param totalSize Tamaño total en bytes
+     * @return Estado inicial de la subida
+     * @throws IllegalArgumentException si el tamaño excede el máximo permitido
+     */
+    public RecordingUploadStatus initUpload(Long meetingId, String ownerEmail, String fileName,
+                                            String contentType, long totalSize) {
+        if (totalSize <= 0 || totalSize > maxRecordingSize) {
+            throw new IllegalArgumentException("Tamaño de grabación no válido");
+        }
+
+        String uploadId = UUID.randomUUID().toString();
+        String extension = FilenameUtils.getExtension(fileName).replaceAll("[^A-Za-z0-9]", "");
+
+        UploadSession session = new UploadSession(uploadId, meetingId, ownerEmail,
+            extension, contentType, totalSize, chunkSize, Instant.now());
+
+        try {
+            Files.createDirectories(directory());
+            // Reservar el archivo parcial con su tamaño final (sparse si el FS lo permite)
+            try (FileChannel channel = FileChannel.open(partFile(uploadId),
+                    StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE, StandardOpenOption.SPARSE)) {
+                channel.write(ByteBuffer.allocate(1), totalSize - 1);
+            }
+            saveState(session);
+        } catch (IOException e) {
+            throw new IllegalStateException("No se pudo iniciar la subida", e);
+        }
+
+        sessions.put(uploadId, session);
+
+        log.info("Subida {} iniciada para reunión {} ({} bytes, {} fragmentos)",
+            uploadId, meetingId, totalSize, session.totalChunks());
+
+        return toStatus(session);
+    }
+
+    /**
+     * Escribe un fragmento directamente en su posición del archivo final
+     *
+     * @param meetingId ID de la reunión
+     * @param uploadId ID de la subida
+     * @param index Índice del fragmento (base 0)
+     * @param content Contenido del fragmento
+     * @param ownerEmail Email del usuario que envía el fragmento
+     * @return Estado actualizado de la subida
+     * @throws IllegalArgumentException si la subida no existe o el fragmento es inválido
+     */
+    public RecordingUploadStatus writeChunk(Long meetingId, String uploadId, int index,
+                                            InputStream content, String ownerEmail) {
+        UploadSession session = getSession(meetingId, uploadId, ownerEmail);
+
+        if (session.completing) {
+            // El parcial ya está enlazado con la grabación definitiva
+            throw new IllegalArgumentException("La subida ya se completó");
+        }
+        if (index < 0 || index >= session.totalChunks()) {
+            throw new IllegalArgumentException("Índice de fragmento fuera de rango");
+        }
+
+        long position = index * session.chunkSize;
+        long expected = Math.min(session.chunkSize, session.totalSize - position);
+
+        try (FileChannel channel = FileChannel.open(partFile(uploadId), StandardOpenOption.WRITE);
+             ReadableByteChannel source = Channels.newChannel(content)) {
+            long written = 0;
+            while (written < expected) {
+                long transferred = channel.transferFrom(source, position + written, expected - written);
+                if (transferred <= 0) {
+                    break;
+                }
+                written += transferred;
+            }
+            if (written != expected || content.read() != -1) {
+                throw new IllegalArgumentException("Tamaño de fragmento inválido");
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("Error al escribir el fragmento", e);
+        }
+
+        // Los PUT paralelos escriben en posiciones distintas, pero el estado se
+        // guarda completo: sin el lock una instantánea antigua pisaría a otra
+        session.stateLock.lock();
+        try {
+            session.receivedChunks.add(index);
+            saveStateQuietly(session);
+        } finally {
+            session.stateLock.unlock();
+        }
+
+        return toStatus(session);
+    }
+
+    /**
+     * Obtiene el estado de una subida para reanudarla
+     *
+     * @param meetingId ID de la reunión
+     * @param uploadId ID de la subida
+     * @param ownerEmail Email del usuario
+     * @return Estado de la subida
+     */
+    public RecordingUploadStatus getStatus(Long meetingId, String uploadId, String ownerEmail) {
+        return toStatus(getSession(meetingId, uploadId, ownerEmail));
+    }
+
+    /**
+     * Completa la subida: verifica que estén todos los fragmentos y enlaza
+     * el archivo parcial con su nombre definitivo (sin copiar datos)
+     *
+     * El archivo parcial y su estado se conservan hasta el commit de la
+     * transacción actual: si la reunión no llega a guardarse, la subida sigue
+     * completa en disco y puede volver a completarse sin reenviar fragmentos.
+     *
+     * @param meetingId ID de la reunión
+     * @param uploadId ID de la subida
+     * @param ownerEmail Email del usuario
+     * @return Ruta relativa de la grabación almacenada
+     * @throws IllegalArgumentException si faltan fragmentos
+     */
+    public String completeUpload(Long meetingId, String uploadId, String ownerEmail) {
+        UploadSession session = getSession(meetingId, uploadId, ownerEmail);
+
+        session.stateLock.lock();
+        try {
+            if (session.receivedChunks.size() != session.totalChunks()) {
+                throw new IllegalArgumentException("Faltan fragmentos por subir");
+            }
+            if (session.completing) {
+                throw new IllegalArgumentException("La subida ya se está completando");
+            }
+            session.completing = true;
+        } finally {
+            session.stateLock.unlock();
+        }
+
+        String fileName = session.extension.isEmpty()
+            ? uploadId
+            : uploadId + "." + session.extension;
+        Path completed = directory().resolve(fileName);
+
+        try {
+            Files.deleteIfExists(completed);
+            try {
+                Files.createLink(completed, partFile(uploadId));
+            } catch (UnsupportedOperationException e) {
+                // Sin enlaces duros en el FS: se copia para no perder el parcial
+                Files.copy(partFile(uploadId), completed);
+            }
+        } catch (IOException e) {
+            session.completing = false;
+            throw new IllegalStateException("No se pudo completar la subida", e);
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status == STATUS_COMMITTED) {
+                        finishUpload(session);
+                    } else {
+                        deleteQuietly(completed);
+                        session.completing = false;
+                        log.info("Subida {} conservada tras el rollback de la reunión {}", uploadId, meetingId);
+                    }
+                }
+            });
+        } else {
+            finishUpload(session);
+        }
+
+        log.info("Subida {} completada para reunión {}", uploadId, meetingId);
+
+        return "recordings/" + fileName;
+    }
+
+    /**
+     * Elimina el archivo parcial y el estado de una subida ya incorporada
+     */
+    private void finishUpload(UploadSession session) {
+        sessions.remove(session.uploadId);
+        deleteQuietly(partFile(session.uploadId));
+        deleteQuietly(stateFile(session.uploadId));
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("No se pudo eliminar {}: {}", file, e.getMessage());
+        }
+    }
+
+    /**
+     * Elimina las subidas abandonadas que superaron el tiempo de vida
+     */
+    @Scheduled(fixedDelayString = "${mindmeet.upload.cleanup-interval-ms:3600000}")
+    public void cleanupExpiredUploads() {
+        Instant cutoff = Instant.now().minus(Duration.ofHours(sessionTtlHours));
+
+        try (var files = Files.list(directory())) {
+            List<Path> stateFiles = files
+                .filter(path -> path.toString().endsWith(STATE_SUFFIX))
+                .collect(Collectors.toList());
+
+            for (Path stateFile : stateFiles) {
+                String uploadId = stateFile.getFileName().toString().replace(STATE_SUFFIX, "");
+                UploadSession session = loadState(uploadId);
+                if (session != null && session.createdAt.isBefore(cutoff)) {
+                    sessions.remove(uploadId);
+                    Files.deleteIfExists(partFile(uploadId));
+                    Files.deleteIfExists(stateFile);
+                    log.info("Subida abandonada eliminada: {}", uploadId);
+                }
+            }
+        } catch (IOException e) {
+            log.warn("Error al limpiar subidas abandonadas: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Obtiene la sesión (de memoria o del archivo de estado) y verifica su propietario
+     */
+    private UploadSession getSession(Long meetingId, String uploadId, String ownerEmail) {
+        try {
+            // El ID forma parte de la ruta en disco: solo se aceptan UUID
+            UUID.fromString(uploadId);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Subida no encontrada");
+        }
+
+        UploadSession session = sessions.computeIfAbsent(uploadId, this::loadState);
+
+        if (session == null || !session.meetingId.equals(meetingId)
+                || !session.ownerEmail.equals(ownerEmail)) {
+            throw new IllegalArgumentException("Subida no encontrada");
+        }
+        return session;
+    }
+
+    private Path directory() {
+        return Paths.get(recordingsPath);
+    }
+
+    private Path partFile(String uploadId) {
+        return directory().resolve(uploadId + PART_SUFFIX);
+    }
+
+    private Path stateFile(String uploadId) {
+        return directory().resolve(uploadId + STATE_SUFFIX);
+    }
+
+    /**
+     * Guarda el estado de la subida de forma atómica junto al archivo parcial
+     */
+    private void saveState(UploadSession session) throws IOException {
+        Properties state = new Properties();
+        state.setProperty("meetingId", session.meetingId.toString());
+        state.setProperty("ownerEmail", session.ownerEmail);
+        state.setProperty("extension", session.extension);
+        state.setProperty("contentType", session.contentType);
+        state.setProperty("totalSize", String.valueOf(session.totalSize));
+        state.setProperty("chunkSize", String.valueOf(session.chunkSize));
+        state.setProperty("createdAt", session.createdAt.toString());
+        state.setProperty("receivedChunks", session.receivedChunks.stream()
+            .sorted()
+            .map(String::valueOf)
+            .collect(Collectors.joining(",")));
+
+        Path temp = directory().resolve(session.uploadId + STATE_SUFFIX + "." + UUID.randomUUID());
+        try (Writer writer = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+            state.store(writer, null);
+        }
+        Files.move(temp, stateFile(session.uploadId),
+            StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private void saveStateQuietly(UploadSession session) {
+        try {
+            saveState(session);
+        } catch (IOException e) {
+            // El fragmento ya está escrito; en el peor caso el cliente lo reenvía
+            log.warn("No se pudo guardar el estado de la subida {}: {}", session.uploadId, e.getMessage());
+        }
+    }
+
+    /**
+     * Carga el estado de una subida desde disco, o null si no existe
+     */
+    private UploadSession loadState(String uploadId) {
+        Path stateFile = stateFile(uploadId);
+        if (!Files.exists(stateFile) || !Files.exists(partFile(uploadId))) {
+            return null;
+        }
+
+        Properties state = new Properties();
+        try (Reader reader = Files.newBufferedReader(stateFile, StandardCharsets.UTF_8)) {
+            state.load(reader);
+        } catch (IOException e) {
+            log.warn("Estado de subida ilegible {}: {}", uploadId, e.getMessage());
+            return null;
+        }
+
+        UploadSession session = new UploadSession(
+            uploadId,
+            Long.valueOf(state.getProperty("meetingId")),
+            state.getProperty("ownerEmail"),
+            state.getProperty("extension", ""),
+            state.getProperty("contentType"),
+            Long.parseLong(state.getProperty("totalSize")),
+            Long.parseLong(state.getProperty("chunkSize")),
+            Instant.parse(state.getProperty("createdAt"))
+        );
+
+        String received = state.getProperty("receivedChunks", "");
+        if (!received.isEmpty()) {
+            Arrays.stream(received.split(","))
+                .map(Integer::valueOf)
+                .forEach(session.receivedChunks::add);
+        }
+        return session;
+    }
+
+    private RecordingUploadStatus toStatus(UploadSession session) {
+        List<Integer> received = new ArrayList<>(session.receivedChunks);
+        received.sort(null);
+
+        return new RecordingUploadStatus(
+            session.uploadId,
+            session.chunkSize,
+            session.totalSize,
+            session.totalChunks(),
+            received,
+            received.size() == session.totalChunks()
+        );
+    }
+
+    /**
+     * Estado en memoria de una subida por fragmentos
+     *
+     * stateLock serializa los cambios de receivedChunks con su guardado en
+     * disco. Es un ReentrantLock y no synchronized porque se mantiene durante
+     * la escritura del archivo de estado y los PUT pueden llegar en hilos virtuales.
+     */
+    private static final class UploadSession {
+
+        private final String uploadId;
+        private final Long meetingId;
+        private final String ownerEmail;
+        private final String extension;
+        private final String contentType;
+        private final long totalSize;
+        private final long chunkSize;
+        private final Instant createdAt;
+        private final Set<Integer> receivedChunks = ConcurrentHashMap.newKeySet();
+        private final ReentrantLock stateLock = new ReentrantLock();
+        private volatile boolean completing;
+
+        private UploadSession(String uploadId, Long meetingId, String ownerEmail, String extension,
+                              String contentType, long totalSize, long chunkSize, Instant createdAt) {
+            this.uploadId = uploadId;
+            this.meetingId = meetingId;
+            this.ownerEmail = ownerEmail;
+            this.extension = extension;
+            this.contentType = contentType;
+            this.totalSize = totalSize;
+            this.chunkSize = chunkSize;
+            this.createdAt = createdAt;
+        }
+
+        private int totalChunks() {
+            return (int) ((totalSize + chunkSize - 1) / chunkSize);
+        }
+    }
+}
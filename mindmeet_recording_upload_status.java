@@ -0,0 +1,50 @@
+package com.deloitte.mindmeet.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Estado de una subida de grabación por fragmentos
+ * Permite al cliente reanudar la subida enviando solo los fragmentos faltantes
+ *
+ * @author MindMeet Team
+ * @version 1.0
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RecordingUploadStatus {
+
+    /**
+     * Identificador de la subida
+     */
+    private String uploadId;
+
+    /**
+     * Tamaño de cada fragmento en bytes (el último puede ser menor)
+     */
+    private long chunkSize;
+
+    /**
+     * Tamaño total del archivo en bytes
+     */
+    private long totalSize;
+
+    /**
+     * Número total de fragmentos esperados
+     */
+    private int totalChunks;
+
+    /**
+     * Índices de los fragmentos ya recibidos
+     */
+    private List<Integer> receivedChunks;
+
+    /**
+     * true si ya se recibieron todos los fragmentos
+     */
+    private boolean readyToComplete;
+}
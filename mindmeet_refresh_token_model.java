@@ -0,0 +1,92 @@
+package com.deloitte.mindmeet.model;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * Entidad que representa un refresh token emitido a un usuario
+ * Solo se guarda el SHA-256 del token. Cada uso rota el token dentro de la
+ * misma familia; reutilizar un token ya rotado revoca la familia completa
+ *
+ * @author MindMeet Team
+ * @version 1.0
+ */
+@Entity
+@Table(name = "refresh_tokens", indexes = {
+    @Index(name = "idx_refresh_tokens_hash", columnList = "tokenHash", unique = true),
+    @Index(name = "idx_refresh_tokens_family", columnList = "familyId"),
+    @Index(name = "idx_refresh_tokens_user", columnList = "userId")
+})
+@Data
+@NoArgsConstructor
+public class RefreshToken {
+
+    /**
+     * Identificador único del token (clave primaria)
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /**
+     * SHA-256 del token en Base64 URL
+     */
+    @Column(nullable = false, unique = true, length = 64)
+    private String tokenHash;
+
+    /**
+     * Familia de rotación: todos los tokens derivados del mismo login
+     */
+    @Column(nullable = false, length = 36)
+    private String familyId;
+
+    /**
+     * ID del usuario propietario
+     */
+    @Column(nullable = false)
+    private Long userId;
+
+    /**
+     * Fecha de expiración
+     */
+    @Column(nullable = false)
+    private LocalDateTime expiresAt;
+
+    /**
+     * Fecha en que el token se usó (y rotó); null si no se ha usado
+     */
+    private LocalDateTime usedAt;
+
+    /**
+     * Indica si el token fue revocado
+     */
+    @Column(nullable = false)
+    private Boolean revoked = false;
+
+    /**
+     * Fecha y hora de creación del registro
+     */
+    @CreationTimestamp
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    /**
+     * Constructor para emitir un nuevo token
+     *
+     * @param tokenHash SHA-256 del token
+     * @param familyId Familia de rotación
+     * @param userId ID del usuario
+     * @param expiresAt Fecha de expiración
+     */
+    public RefreshToken(String tokenHash, String familyId, Long userId, LocalDateTime expiresAt) {
+        this.tokenHash = tokenHash;
+        this.familyId = familyId;
+        this.userId = userId;
+        this.expiresAt = expiresAt;
+        this.revoked = false;
+    }
+}
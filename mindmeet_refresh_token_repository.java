@@ -0,0 +1,61 @@
+package com.deloitte.mindmeet.repository;
+
+import com.deloitte.mindmeet.model.RefreshToken;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * Repositorio de acceso a datos para refresh tokens
+ *
+ * @author MindMeet Team
+ * @version 1.0
+ */
+@Repository
+public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
+
+    /**
+     * Busca un token por su hash bloqueando la fila, para que dos usos
+     * simultáneos del mismo token no roten ambos
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT t FROM RefreshToken t WHERE t.tokenHash = :tokenHash")
+    Optional<RefreshToken> findByTokenHashForUpdate(@Param("tokenHash") String tokenHash);
+
+    /**
+     * Revoca todos los tokens de una familia
+     *
+     * @param familyId Familia de rotación
+     * @return Número de tokens revocados
+     */
+    @Modifying
+    @Query("UPDATE RefreshToken t SET t.revoked = true WHERE t.familyId = :familyId AND t.revoked = false")
+    int revokeFamily(@Param("familyId") String familyId);
+
+    /**
+     * Revoca todos los tokens de un usuario
+     *
+     * @param userId ID del usuario
+     * @return Número de tokens revocados
+     */
+    @Modifying
+    @Query("UPDATE RefreshToken t SET t.revoked = true WHERE t.userId = :userId AND t.revoked = false")
+    int revokeAllByUserId(@Param("userId") Long userId);
+
+    /**
+     * Elimina los tokens expirados antes de una fecha
+     *
+     * @param before Fecha límite
+     * @return Número de tokens eliminados
+     */
+    @Modifying
+    @Query("DELETE FROM RefreshToken t WHERE t.expiresAt < :before")
+    int deleteExpiredBefore(@Param("before") LocalDateTime before);
+}
@@ -0,0 +1,24 @@
+package com.deloitte.mindmeet.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Solicitud de renovación del token de acceso
+ *
+ * @author MindMeet Team
+ * @version 1.0
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RefreshTokenRequest {
+
+    /**
+     * Refresh token recibido en el último login o renovación
+     */
+    @NotBlank(message = "El refresh token es obligatorio")
+    private String refreshToken;
+}
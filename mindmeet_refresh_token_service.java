@@ -0,0 +1,137 @@
+package com.deloitte.mindmeet.service;
+
+import com.deloitte.mindmeet.model.RefreshToken;
+import com.deloitte.mindmeet.repository.RefreshTokenRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Servicio de emisión y rotación de refresh tokens
+ *
+ * Los tokens son valores aleatorios opacos (no JWT); en base de datos solo
+ * se guarda su SHA-256. Cada uso marca el token como usado y emite uno
+ * nuevo en la misma familia. Si se presenta un token ya usado o revocado,
+ * se asume que fue robado y se revoca la familia completa.
+ *
+ * @author MindMeet Team
+ * @version 1.0
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional
+public class RefreshTokenService {
+
+    private static final int TOKEN_BYTES = 32;
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final SecureRandom secureRandom = new SecureRandom();
+
+    @Value("${security.jwt.refresh-expiration:604800000}")
+    private long refreshExpirationMs;
+
+    /**
+     * Emite un refresh token para un nuevo inicio de sesión
+     *
+     * @param userId ID del usuario
+     * @return Token en claro (solo se devuelve una vez)
+     */
+    public String issue(Long userId) {
+        return issue(userId, UUID.randomUUID().toString());
+    }
+
+    /**
+     * Consume un refresh token y emite su sucesor en la misma familia
+     * La revocación por reutilización se confirma aunque se lance la excepción
+     *
+     * @param rawToken Token en claro presentado por el cliente
+     * @return ID del usuario y nuevo token
+     * @throws IllegalArgumentException si el token no existe, expiró, fue revocado o ya se usó
+     */
+    @Transactional(noRollbackFor = IllegalArgumentException.class)
+    public Rotation rotate(String rawToken) {
+        RefreshToken current = refreshTokenRepository.findByTokenHashForUpdate(hash(rawToken))
+            .orElseThrow(() -> new IllegalArgumentException("Refresh token inválido"));
+
+        if (current.getRevoked() || current.getUsedAt() != null) {
+            int revoked = refreshTokenRepository.revokeFamily(current.getFamilyId());
+            log.warn("Reutilización de refresh token detectada para usuario {}: {} tokens revocados",
+                current.getUserId(), revoked);
+            throw new IllegalArgumentException("Refresh token inválido");
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        if (current.getExpiresAt().isBefore(now)) {
+            throw new IllegalArgumentException("Refresh token expirado");
+        }
+
+        current.setUsedAt(now);
+        String next = issue(current.getUserId(), current.getFamilyId());
+        return new Rotation(current.getUserId(), next);
+    }
+
+    /**
+     * Revoca todos los refresh tokens de un usuario
+     *
+     * @param userId ID del usuario
+     */
+    public void revokeAll(Long userId) {
+        int revoked = refreshTokenRepository.revokeAllByUserId(userId);
+        if (revoked > 0) {
+            log.info("{} refresh tokens revocados para usuario ID: {}", revoked, userId);
+        }
+    }
+
+    /**
+     * Elimina diariamente los tokens expirados
+     */
+    @Scheduled(cron = "${security.jwt.refresh-purge-cron:0 45 3 * * *}")
+    public void purgeExpired() {
+        int purged = refreshTokenRepository.deleteExpiredBefore(LocalDateTime.now());
+        if (purged > 0) {
+            log.info("{} refresh tokens expirados eliminados", purged);
+        }
+    }
+
+    private String issue(Long userId, String familyId) {
+        byte[] bytes = new byte[TOKEN_BYTES];
+        secureRandom.nextBytes(bytes);
+        String rawToken = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+
+        refreshTokenRepository.save(new RefreshToken(hash(rawToken), familyId, userId,
+            LocalDateTime.now().plus(Duration.ofMillis(refreshExpirationMs))));
+        return rawToken;
+    }
+
+    private static String hash(String rawToken) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                .digest(rawToken.getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 no disponible", e);
+        }
+    }
+
+    /**
+     * Resultado de una rotación
+     *
+     * @param userId ID del usuario propietario
+     * @param refreshToken Nuevo token en claro
+     */
+    public record Rotation(Long userId, String refreshToken) {
+    }
+}
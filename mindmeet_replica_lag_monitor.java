@@ -0,0 +1,191 @@
+package com.deloitte.mindmeet.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Mide el retraso de las réplicas con un latido escrito en el primario
+ *
+ * Cada intervalo escribe la hora actual en la fila de esta instancia de
+ * replication_heartbeats y la lee en cada réplica. El último latido visible
+ * en una réplica indica hasta qué momento tiene aplicados los cambios del
+ * primario: toda escritura confirmada antes de ese latido ya está en ella.
+ * Funciona igual con PostgreSQL (replicación en streaming) que con H2.
+ *
+ * Una réplica atiende lecturas solo si respondió al último sondeo, su
+ * retraso no supera el máximo permitido y ya aplicó la última escritura
+ * que debe ver la lectura; si ninguna cumple, la lectura va al primario.
+ *
+ * @author MindMeet Team
+ * @version 1.0
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+
+    private static final String UPDATE_BEAT =
+        "UPDATE replication_heartbeats SET beat_millis = ? WHERE instance_id = ?";
+    private static final String INSERT_BEAT =
+        "INSERT INTO replication_heartbeats (instance_id, beat_millis) VALUES (?, ?)";
+    private static final String SELECT_BEAT =
+        "SELECT beat_millis FROM replication_heartbeats WHERE instance_id = ?";
+
+    private final String instanceId = UUID.randomUUID().toString();
+    private final JdbcTemplate primary;
+    private final List<Replica> replicas;
+    private final long maxLagMillis;
+    private final AtomicInteger next = new AtomicInteger();
+
+    /**
+     * @param primary Pool del primario (sin enrutamiento)
+     * @param replicas Pools de las réplicas por nombre
+     * @param maxLagMillis Retraso máximo para que una réplica atienda lecturas
+     * @param meterRegistry Registro de métricas
+     */
+    public ReplicaLagMonitor(DataSource primary, Map<String, DataSource> replicas,
+                             long maxLagMillis, MeterRegistry meterRegistry) {
+        this.primary = new JdbcTemplate(primary);
+        this.maxLagMillis = maxLagMillis;
+
+        List<Replica> list = new ArrayList<>();
+        replicas.forEach((name, dataSource) -> {
+            Replica replica = new Replica(name, new JdbcTemplate(dataSource));
+            list.add(replica);
+            Gauge.builder("mindmeet.datasource.replica.lag", replica, Replica::lagSeconds)
+                .description("Retraso de la réplica respecto al primario (NaN si no responde)")
+                .baseUnit("seconds")
+                .tag("replica", name)
+                .register(meterRegistry);
+        });
+        this.replicas = Collections.unmodifiableList(list);
+    }
+
+    /**
+     * Escribe el latido en el primario y lo lee en cada réplica
+     */
+    @Scheduled(fixedDelayString = "${mindmeet.datasource.routing.heartbeat-interval-ms:1000}")
+    public void sample() {
+        long beat = System.currentTimeMillis();
+        try {
+            if (primary.update(UPDATE_BEAT, beat, instanceId) == 0) {
+                primary.update(INSERT_BEAT, instanceId, beat);
+            }
+        } catch (RuntimeException e) {
+            // Sin latido no se puede medir el retraso: las réplicas quedan fuera
+            log.warn("No se pudo escribir el latido de replicación: {}", e.getMessage());
+            replicas.forEach(replica -> replica.healthy = false);
+            return;
+        }
+
+        for (Replica replica : replicas) {
+            try {
+                List<Long> seen = replica.jdbcTemplate.queryForList(SELECT_BEAT, Long.class, instanceId);
+                long now = System.currentTimeMillis();
+                if (!seen.isEmpty()) {
+                    replica.appliedUpTo = Math.max(replica.appliedUpTo, seen.get(0));
+                }
+                replica.lagMillis = replica.appliedUpTo > 0 ? now - replica.appliedUpTo : Long.MAX_VALUE;
+                if (!replica.healthy) {
+                    log.info("Réplica {} disponible", replica.name);
+                }
+                replica.healthy = true;
+            } catch (RuntimeException e) {
+                if (replica.healthy) {
+                    log.warn("Réplica {} no disponible: {}", replica.name, e.getMessage());
+                }
+                replica.healthy = false;
+            }
+        }
+    }
+
+    /**
+     * Elige una réplica para una lectura, rotando entre las que cumplen
+     *
+     * @param lastWriteMillis Última escritura que la lectura debe ver (0 si ninguna)
+     * @return Elección con la réplica, o sin réplica y el motivo
+     */
+    public Choice choose(long lastWriteMillis) {
+        // Se compara con la hora actual y no con el último retraso medido:
+        // si el sondeo se atrasa, la réplica sale de rotación en lugar de
+        // seguir considerándose al día
+        long oldestAllowed = System.currentTimeMillis() - maxLagMillis;
+        int start = Math.floorMod(next.getAndIncrement(), Math.max(1, replicas.size()));
+        boolean withinLag = false;
+        for (int i = 0; i < replicas.size(); i++) {
+            Replica replica = replicas.get((start + i) % replicas.size());
+            if (!replica.healthy || replica.appliedUpTo < oldestAllowed) {
+                continue;
+            }
+            withinLag = true;
+            if (replica.appliedUpTo > lastWriteMillis) {
+                return new Choice(replica.name, "replica");
+            }
+        }
+        return new Choice(null, withinLag ? "read-your-writes" : "replica-lag");
+    }
+
+    /**
+     * Pools de las réplicas por nombre, en el orden configurado
+     *
+     * @return DataSources de las réplicas
+     */
+    public Map<String, DataSource> dataSources() {
+        Map<String, DataSource> dataSources = new LinkedHashMap<>();
+        replicas.forEach(replica -> dataSources.put(replica.name, replica.jdbcTemplate.getDataSource()));
+        return dataSources;
+    }
+
+    /**
+     * Elimina la fila de latido de esta instancia al detener la aplicación
+     */
+    @PreDestroy
+    void removeHeartbeat() {
+        try {
+            primary.update("DELETE FROM replication_heartbeats WHERE instance_id = ?", instanceId);
+        } catch (RuntimeException e) {
+            log.debug("No se pudo eliminar el latido de replicación: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Réplica elegida para una lectura
+     *
+     * @param replica Nombre de la réplica, o null si la lectura va al primario
+     * @param reason Motivo de la elección (replica, read-your-writes, replica-lag)
+     */
+    public record Choice(String replica, String reason) {
+    }
+
+    /**
+     * Estado de una réplica, actualizado solo por el sondeo
+     */
+    private static final class Replica {
+
+        private final String name;
+        private final JdbcTemplate jdbcTemplate;
+        private volatile boolean healthy;
+        private volatile long appliedUpTo;
+        private volatile long lagMillis = Long.MAX_VALUE;
+
+        private Replica(String name, JdbcTemplate jdbcTemplate) {
+            this.name = name;
+            this.jdbcTemplate = jdbcTemplate;
+        }
+
+        private double lagSeconds() {
+            return healthy && lagMillis != Long.MAX_VALUE ? lagMillis / 1000.0 : Double.NaN;
+        }
+    }
+}
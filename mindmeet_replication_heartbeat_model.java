@@ -0,0 +1,33 @@
+package com.deloitte.mindmeet.model;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Latido de replicación escrito periódicamente en la base de datos principal
+ * Cada instancia de la aplicación tiene su fila; al leerla en una réplica se
+ * sabe hasta qué momento la réplica tiene aplicados los cambios del primario
+ *
+ * @author MindMeet Team
+ * @version 1.0
+ */
+@Entity
+@Table(name = "replication_heartbeats")
+@Data
+@NoArgsConstructor
+public class ReplicationHeartbeat {
+
+    /**
+     * ID de la instancia que escribe el latido (clave primaria)
+     */
+    @Id
+    @Column(length = 36)
+    private String instanceId;
+
+    /**
+     * Momento del latido en milisegundos desde epoch, según el reloj de la instancia
+     */
+    @Column(nullable = false)
+    private Long beatMillis;
+}
@@ -0,0 +1,55 @@
+package com.deloitte.mindmeet.service;
+
+import com.deloitte.mindmeet.model.Role;
+import com.deloitte.mindmeet.repository.RoleRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Servicio de búsqueda de roles por nombre con cache en memoria (Caffeine)
+ * Los roles casi nunca cambian; evita consultar ROLE_USER en cada registro
+ *
+ * @author MindMeet Team
+ * @version 1.0
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class RoleLookupService {
+
+    /**
+     * Nombre del cache de roles por nombre
+     */
+    public static final String ROLES_BY_NAME_CACHE = "rolesByName";
+
+    /**
+     * Rol asignado por defecto a los usuarios nuevos
+     */
+    public static final String DEFAULT_ROLE = "ROLE_USER";
+
+    private final RoleRepository roleRepository;
+
+    /**
+     * Obtiene un rol por nombre, creándolo si no existe
+     * La creación se confirma en su propia transacción para que el rol
+     * cacheado exista aunque la operación que lo pidió se revierta
+     *
+     * @param name Nombre del rol
+     * @return Rol (desasociado de la sesión; válido como referencia en relaciones)
+     */
+    @Cacheable(cacheNames = ROLES_BY_NAME_CACHE, key = "#name")
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public Role getOrCreate(String name) {
+        return roleRepository.findByName(name)
+            .orElseGet(() -> {
+                log.info("Creando rol: {}", name);
+                Role newRole = new Role();
+                newRole.setName(name);
+                return roleRepository.save(newRole);
+            });
+    }
+}
@@ -0,0 +1,260 @@
+package com.deloitte.mindmeet.service;
+
+import com.deloitte.mindmeet.service.Transcriber.AudioSegment;
+import com.deloitte.mindmeet.service.Transcriber.SegmentTranscript;
+import lombok.extern.slf4j.Slf4j;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntConsumer;
+
+/**
+ * Motor de transcripción segmentada y paralela para grabaciones largas
+ *
+ * Divide la grabación en segmentos de tiempo que se solapan, los transcribe
+ * concurrentemente con un paralelismo acotado y une los resultados
+ * eliminando las palabras duplicadas en los solapamientos. La precisión
+ * combinada es el promedio de las precisiones ponderado por duración.
+ *
+ * No depende de Spring ni de la base de datos para poder ejecutarse y
+ * medirse sin conexión con un {@link Transcriber} local.
+ *
+ * @author MindMeet Team
+ * @version 1.0
+ */
+@Slf4j
+public class SegmentedTranscriptionEngine implements AutoCloseable {
+
+    /**
+     * Máximo de palabras a comparar al buscar el solapamiento entre segmentos
+     */
+    private static final int MAX_OVERLAP_WORDS = 200;
+
+    private final Transcriber transcriber;
+    private final Duration segmentLength;
+    private final Duration overlap;
+    private final ExecutorService executor;
+
+    /**
+     * Crea el motor con su propio pool de hilos daemon de plataforma
+     *
+     * @param transcriber Transcriptor a utilizar por segmento
+     * @param parallelism Número máximo de segmentos transcritos a la vez
+     * @param segmentLength Duración de cada segmento
+     * @param overlap Solapamiento entre segmentos consecutivos
+     */
+    public SegmentedTranscriptionEngine(Transcriber transcriber, int parallelism,
+                                        Duration segmentLength, Duration overlap) {
+        this(transcriber, parallelism, segmentLength, overlap, WorkerThreads.platform("transcription-segment"));
+    }
+
+    /**
+     * Crea el motor con su propio pool de hilos
+     *
+     * @param transcriber Transcriptor a utilizar por segmento
+     * @param parallelism Número máximo de segmentos transcritos a la vez
+     * @param segmentLength Duración de cada segmento
+     * @param overlap Solapamiento entre segmentos consecutivos
+     * @param threadFactory Fábrica de los hilos del pool (de plataforma o virtuales)
+     */
+    public SegmentedTranscriptionEngine(Transcriber transcriber, int parallelism,
+                                        Duration segmentLength, Duration overlap,
+                                        ThreadFactory threadFactory) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("El paralelismo debe ser al menos 1");
+        }
+        if (overlap.isNegative() || overlap.compareTo(segmentLength) >= 0) {
+            throw new IllegalArgumentException("El solapamiento debe ser menor que el segmento");
+        }
+
+        this.transcriber = transcriber;
+        this.segmentLength = segmentLength;
+        this.overlap = overlap;
+        this.executor = Executors.newFixedThreadPool(parallelism, threadFactory);
+    }
+
+    /**
+     * Transcribe una grabación completa
+     * Si se excede el tiempo límite o se interrumpe el hilo que espera, los
+     * segmentos pendientes se cancelan e interrumpen
+     *
+     * @param recording Archivo de la grabación
+     * @param duration Duración total de la grabación
+     * @param progress Recibe el porcentaje completado (0-100) tras cada segmento, puede ser null
+     * @param timeout Tiempo máximo para transcribir todos los segmentos
+     * @return Transcripción unida y precisión combinada
+     * @throws InterruptedException si se interrumpe el hilo mientras espera
+     * @throws TimeoutException si se excede el tiempo límite
+     */
+    public Result transcribe(Path recording, Duration duration, IntConsumer progress, Duration timeout)
+            throws InterruptedException, TimeoutException {
+        List<AudioSegment> segments = split(duration);
+        AtomicInteger completed = new AtomicInteger();
+        long deadline = System.nanoTime() + timeout.toNanos();
+
+        log.info("Transcribiendo {} en {} segmentos", recording.getFileName(), segments.size());
+
+        // FutureTask y no CompletableFuture: cancel(true) debe interrumpir al
+        // transcriptor en curso, no solo marcar el resultado como cancelado
+        List<Future<SegmentTranscript>> futures = new ArrayList<>(segments.size());
+        for (AudioSegment segment : segments) {
+            futures.add(executor.submit(() -> {
+                SegmentTranscript transcript = transcriber.transcribe(recording, segment);
+                if (progress != null) {
+                    progress.accept(completed.incrementAndGet() * 100 / segments.size());
+                }
+                return transcript;
+            }));
+        }
+
+        List<SegmentTranscript> transcripts = new ArrayList<>(segments.size());
+        boolean finished = false;
+        try {
+            for (Future<SegmentTranscript> future : futures) {
+                transcripts.add(future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS));
+            }
+            finished = true;
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            throw new IllegalStateException("Error al transcribir segmento: " + cause.getMessage(), cause);
+        } finally {
+            if (!finished) {
+                futures.forEach(future -> future.cancel(true));
+            }
+        }
+
+        return new Result(stitch(transcripts), combinedAccuracy(segments, transcripts), segments.size());
+    }
+
+    /**
+     * Divide la duración total en segmentos que se solapan
+     *
+     * @param duration Duración total
+     * @return Segmentos en orden
+     */
+    List<AudioSegment> split(Duration duration) {
+        List<AudioSegment> segments = new ArrayList<>();
+        Duration step = segmentLength.minus(overlap);
+        Duration start = Duration.ZERO;
+        int index = 0;
+
+        do {
+            Duration end = start.plus(segmentLength);
+            if (end.compareTo(duration) > 0) {
+                end = duration;
+            }
+            segments.add(new AudioSegment(index++, start, end));
+            start = start.plus(step);
+        } while (start.plus(overlap).compareTo(duration) < 0);
+
+        return segments;
+    }
+
+    /**
+     * Une los textos de los segmentos eliminando la parte repetida al inicio
+     * de cada segmento que ya aparece al final del anterior
+     *
+     * @param transcripts Transcripciones en orden
+     * @return Texto completo
+     */
+    static String stitch(List<SegmentTranscript> transcripts) {
+        StringBuilder result = new StringBuilder();
+        String[] previous = new String[0];
+
+        for (SegmentTranscript transcript : transcripts) {
+            String[] words = transcript.text().trim().isEmpty()
+                ? new String[0]
+                : transcript.text().trim().split("\\s+");
+
+            int skip = overlapLength(previous, words);
+            for (int i = skip; i < words.length; i++) {
+                if (result.length() > 0) {
+                    result.append(' ');
+                }
+                result.append(words[i]);
+            }
+
+            if (words.length > 0) {
+                previous = words;
+            }
+        }
+
+        return result.toString();
+    }
+
+    /**
+     * Longitud del solapamiento más largo entre el final de {@code previous}
+     * y el inicio de {@code next}, comparando palabras normalizadas
+     */
+    private static int overlapLength(String[] previous, String[] next) {
+        int max = Math.min(MAX_OVERLAP_WORDS, Math.min(previous.length, next.length));
+
+        String[] tail = Arrays.stream(previous, previous.length - max, previous.length)
+            .map(SegmentedTranscriptionEngine::normalize)
+            .toArray(String[]::new);
+        String[] head = Arrays.stream(next, 0, max)
+            .map(SegmentedTranscriptionEngine::normalize)
+            .toArray(String[]::new);
+
+        for (int length = max; length > 0; length--) {
+            boolean matches = true;
+            for (int i = 0; i < length && matches; i++) {
+                matches = tail[max - length + i].equals(head[i]);
+            }
+            if (matches) {
+                return length;
+            }
+        }
+        return 0;
+    }
+
+    private static String normalize(String word) {
+        return word.toLowerCase(Locale.ROOT).replaceAll("[\\p{Punct}¿¡]", "");
+    }
+
+    /**
+     * Precisión combinada ponderada por la duración útil de cada segmento
+     */
+    private double combinedAccuracy(List<AudioSegment> segments, List<SegmentTranscript> transcripts) {
+        double weighted = 0;
+        double totalWeight = 0;
+
+        for (int i = 0; i < segments.size(); i++) {
+            AudioSegment segment = segments.get(i);
+            // El solapamiento solo cuenta una vez: se descuenta del segmento siguiente
+            Duration useful = i == 0 ? segment.length() : segment.length().minus(overlap);
+            double weight = Math.max(useful.toMillis(), 1);
+            weighted += transcripts.get(i).accuracy() * weight;
+            totalWeight += weight;
+        }
+
+        return totalWeight == 0 ? 0.0 : Math.round(weighted / totalWeight * 100.0) / 100.0;
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Resultado de la transcripción segmentada
+     *
+     * @param transcript Texto completo
+     * @param accuracy Precisión combinada (0-100)
+     * @param segmentCount Número de segmentos procesados
+     */
+    public record Result(String transcript, double accuracy, int segmentCount) {
+    }
+}
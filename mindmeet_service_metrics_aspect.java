@@ -0,0 +1,66 @@
+package com.deloitte.mindmeet.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Aspecto que mide los métodos públicos de MeetingService y AuthService
+ *
+ * Publica el timer mindmeet.service.calls con histograma de percentiles y las
+ * etiquetas service, method, outcome y exception. El resultado es "success",
+ * "rejected" para IllegalArgumentException (validaciones de negocio que los
+ * controladores devuelven como 400/404) o "error" para cualquier otra
+ * excepción. Se ejecuta por fuera de la transacción, así que el tiempo
+ * incluye el commit y un fallo al confirmar cuenta como error.
+ *
+ * @author MindMeet Team
+ * @version 1.0
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class ServiceMetricsAspect {
+
+    private static final String NO_EXCEPTION = "none";
+
+    private final MeterRegistry meterRegistry;
+
+    @Around("execution(public * com.deloitte.mindmeet.service.MeetingService.*(..)) || " +
+            "execution(public * com.deloitte.mindmeet.service.AuthService.*(..))")
+    public Object time(ProceedingJoinPoint joinPoint) throws Throwable {
+        long start = System.nanoTime();
+        String outcome = "success";
+        String exception = NO_EXCEPTION;
+        try {
+            return joinPoint.proceed();
+        } catch (IllegalArgumentException e) {
+            outcome = "rejected";
+            exception = e.getClass().getSimpleName();
+            throw e;
+        } catch (Throwable e) {
+            outcome = "error";
+            exception = e.getClass().getSimpleName();
+            throw e;
+        } finally {
+            Timer.builder("mindmeet.service.calls")
+                .description("Duración de las operaciones de servicio")
+                .tag("service", joinPoint.getSignature().getDeclaringType().getSimpleName())
+                .tag("method", joinPoint.getSignature().getName())
+                .tag("outcome", outcome)
+                .tag("exception", exception)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+}
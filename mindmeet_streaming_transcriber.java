@@ -0,0 +1,65 @@
+package com.deloitte.mindmeet.service;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+/**
+ * Contrato de un motor de transcripción de audio en streaming
+ * Recibe el audio de una reunión en curso en fragmentos y devuelve el texto
+ * a medida que lo reconoce, sin esperar a la grabación completa
+ *
+ * @author MindMeet Team
+ * @version 1.0
+ */
+public interface StreamingTranscriber {
+
+    /**
+     * Abre un flujo de transcripción para una reunión
+     *
+     * @param meetingId ID de la reunión
+     * @return Flujo que recibe los fragmentos de audio
+     */
+    Stream open(Long meetingId);
+
+    /**
+     * Flujo de transcripción de una reunión
+     * Los fragmentos de audio se reciben en orden y desde un solo hilo a la vez
+     */
+    interface Stream extends AutoCloseable {
+
+        /**
+         * Procesa un fragmento de audio
+         *
+         * @param audio Audio PCM recibido
+         * @return Texto reconocido hasta el momento
+         * @throws IOException si el motor no puede procesar el audio
+         */
+        StreamingResult accept(ByteBuffer audio) throws IOException;
+
+        /**
+         * Finaliza el flujo y confirma el texto pendiente
+         *
+         * @return Texto final restante (sin texto parcial)
+         * @throws IOException si el motor no puede finalizar
+         */
+        StreamingResult finish() throws IOException;
+
+        @Override
+        void close();
+    }
+
+    /**
+     * Resultado incremental de la transcripción
+     *
+     * @param finalText Texto confirmado desde el resultado anterior; se agrega a la transcripción
+     * @param partialText Hipótesis del texto en curso; puede cambiar y solo se muestra
+     */
+    record StreamingResult(String finalText, String partialText) {
+
+        public static final StreamingResult EMPTY = new StreamingResult("", "");
+
+        public boolean hasText() {
+            return !finalText.isEmpty() || !partialText.isEmpty();
+        }
+    }
+}
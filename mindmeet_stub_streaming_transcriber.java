@@ -0,0 +1,88 @@
+package com.deloitte.mindmeet.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.util.StringJoiner;
+
+/**
+ * Transcriptor en streaming local de prueba
+ * Confirma una palabra determinista por cada segundo completo de audio
+ * recibido (misma secuencia que {@link StubTranscriber}) y devuelve como
+ * texto parcial la palabra del segundo en curso. El tamaño de un segundo
+ * de audio es configurable (por defecto PCM de 16 kHz, 16 bits, mono).
+ *
+ * @author MindMeet Team
+ * @version 1.0
+ */
+@Component
+@ConditionalOnProperty(name = "mindmeet.live-transcription.transcriber", havingValue = "stub")
+public class StubStreamingTranscriber implements StreamingTranscriber {
+
+    private static final String[] WORDS = {
+        "reunión", "proyecto", "cliente", "entrega", "riesgo", "acción",
+        "presupuesto", "equipo", "revisión", "acuerdo", "seguimiento", "fecha"
+    };
+
+    private final int bytesPerSecond;
+
+    public StubStreamingTranscriber(
+            @Value("${mindmeet.live-transcription.stub.bytes-per-second:32000}") int bytesPerSecond) {
+        if (bytesPerSecond < 1) {
+            throw new IllegalArgumentException("bytes-per-second debe ser al menos 1");
+        }
+        this.bytesPerSecond = bytesPerSecond;
+    }
+
+    @Override
+    public Stream open(Long meetingId) {
+        return new StubStream();
+    }
+
+    private static String word(long second) {
+        return WORDS[(int) (second % WORDS.length)] + second;
+    }
+
+    /**
+     * Flujo del stub; solo cuenta bytes, no conserva el audio
+     */
+    private final class StubStream implements Stream {
+
+        private long receivedBytes;
+        private long confirmedSeconds;
+
+        @Override
+        public StreamingResult accept(ByteBuffer audio) {
+            receivedBytes += audio.remaining();
+            audio.position(audio.limit());
+
+            long completeSeconds = receivedBytes / bytesPerSecond;
+            StringJoiner confirmed = new StringJoiner(" ");
+            for (long second = confirmedSeconds; second < completeSeconds; second++) {
+                confirmed.add(word(second));
+            }
+            confirmedSeconds = completeSeconds;
+
+            String partial = receivedBytes % bytesPerSecond > 0 ? word(completeSeconds) : "";
+            return new StreamingResult(confirmed.toString(), partial);
+        }
+
+        @Override
+        public StreamingResult finish() {
+            if (receivedBytes % bytesPerSecond == 0) {
+                return StreamingResult.EMPTY;
+            }
+            String last = word(confirmedSeconds);
+            confirmedSeconds++;
+            receivedBytes = confirmedSeconds * bytesPerSecond;
+            return new StreamingResult(last, "");
+        }
+
+        @Override
+        public void close() {
+            // Sin recursos que liberar
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.deloitte.mindmeet.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Path;
+import java.util.StringJoiner;
+
+/**
+ * Transcriptor local de prueba
+ * Genera un texto determinista por cada segundo de audio (el mismo segundo
+ * produce siempre la misma palabra), de modo que los solapamientos entre
+ * segmentos son idénticos y el pipeline puede medirse sin conexión.
+ * La latencia simulada por segundo de audio es configurable.
+ *
+ * @author MindMeet Team
+ * @version 1.0
+ */
+@Component
+@ConditionalOnProperty(name = "mindmeet.transcription.transcriber", havingValue = "stub")
+public class StubTranscriber implements Transcriber {
+
+    private static final String[] WORDS = {
+        "reunión", "proyecto", "cliente", "entrega", "riesgo", "acción",
+        "presupuesto", "equipo", "revisión", "acuerdo", "seguimiento", "fecha"
+    };
+
+    private final long latencyMicrosPerAudioSecond;
+
+    public StubTranscriber(
+            @Value("${mindmeet.transcription.stub.latency-micros-per-second:1000}") long latencyMicrosPerAudioSecond) {
+        this.latencyMicrosPerAudioSecond = latencyMicrosPerAudioSecond;
+    }
+
+    @Override
+    public SegmentTranscript transcribe(Path recording, AudioSegment segment) {
+        long fromSecond = segment.start().getSeconds();
+        long toSecond = segment.end().getSeconds();
+
+        StringJoiner text = new StringJoiner(" ");
+        for (long second = fromSecond; second < toSecond; second++) {
+            text.add(WORDS[(int) (second % WORDS.length)] + second);
+        }
+
+        simulateLatency((toSecond - fromSecond) * latencyMicrosPerAudioSecond);
+
+        return new SegmentTranscript(text.toString(), 95.0);
+    }
+
+    private void simulateLatency(long micros) {
+        if (micros <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(micros / 1000, (int) (micros % 1000) * 1000);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,322 @@
+package com.deloitte.mindmeet.service;
+
+import com.deloitte.mindmeet.model.CompressedText;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.CRC32;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Codec de compresión de transcripciones y resúmenes
+ *
+ * Usa Deflate (java.util.zip) con un diccionario predefinido opcional
+ * entrenado sobre una muestra de los propios textos: las frases y palabras
+ * más frecuentes del corpus en español quedan en el diccionario, lo que
+ * mejora notablemente la compresión de textos cortos como los resúmenes.
+ *
+ * Formato: 1 byte de versión, 4 bytes con el ID (CRC32) del diccionario
+ * (0 sin diccionario), 4 bytes con la longitud en UTF-8 y el flujo Deflate
+ * sin cabecera. Los diccionarios se guardan en compression_dictionaries y
+ * nunca se borran, para poder leer textos comprimidos con uno anterior.
+ *
+ * Accede a la base de datos con JDBC para no depender del
+ * EntityManagerFactory, que a su vez usa este codec en el conversor.
+ *
+ * @author MindMeet Team
+ * @version 1.0
+ */
+@Component
+@Slf4j
+public class TextCompressionCodec implements CompressedText.Codec {
+
+    private static final byte FORMAT_DEFLATE = 1;
+    private static final int HEADER_BYTES = 9;
+    private static final int NO_DICTIONARY = 0;
+
+    /**
+     * Tamaño máximo útil de un diccionario: la ventana de Deflate
+     */
+    private static final int MAX_DICTIONARY_BYTES = 32 * 1024;
+
+    /**
+     * Máximo de palabras por frase candidata al entrenar el diccionario
+     */
+    private static final int MAX_PHRASE_WORDS = 3;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int level;
+    private final boolean dictionaryEnabled;
+
+    private final Map<Integer, byte[]> dictionaries = new ConcurrentHashMap<>();
+    private volatile Integer activeDictionaryId;
+
+    private final Timer compressTimer;
+    private final Timer decompressTimer;
+    private final Counter rawBytes;
+    private final Counter compressedBytes;
+
+    public TextCompressionCodec(
+            JdbcTemplate jdbcTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${mindmeet.compression.level:6}") int level,
+            @Value("${mindmeet.compression.dictionary.enabled:true}") boolean dictionaryEnabled) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.level = level;
+        this.dictionaryEnabled = dictionaryEnabled;
+
+        this.compressTimer = Timer.builder("mindmeet.text.compress")
+            .description("Tiempo de compresión de transcripciones y resúmenes")
+            .register(meterRegistry);
+        this.decompressTimer = Timer.builder("mindmeet.text.decompress")
+            .description("Tiempo de descompresión al leer transcripciones y resúmenes")
+            .register(meterRegistry);
+        this.rawBytes = Counter.builder("mindmeet.text.compressed.input.bytes")
+            .description("Bytes UTF-8 de los textos comprimidos")
+            .register(meterRegistry);
+        this.compressedBytes = Counter.builder("mindmeet.text.compressed.output.bytes")
+            .description("Bytes resultantes tras la compresión")
+            .register(meterRegistry);
+    }
+
+    @Override
+    public byte[] encode(String text) {
+        long start = System.nanoTime();
+        byte[] input = text.getBytes(StandardCharsets.UTF_8);
+        int dictionaryId = dictionaryEnabled ? activeDictionaryId() : NO_DICTIONARY;
+
+        Deflater deflater = new Deflater(level, true);
+        try {
+            if (dictionaryId != NO_DICTIONARY) {
+                deflater.setDictionary(dictionary(dictionaryId));
+            }
+            deflater.setInput(input);
+            deflater.finish();
+
+            ByteArrayOutputStream output = new ByteArrayOutputStream(HEADER_BYTES + input.length / 3 + 64);
+            output.write(ByteBuffer.allocate(HEADER_BYTES)
+                .put(FORMAT_DEFLATE)
+                .putInt(dictionaryId)
+                .putInt(input.length)
+                .array(), 0, HEADER_BYTES);
+
+            byte[] buffer = new byte[8192];
+            while (!deflater.finished()) {
+                int written = deflater.deflate(buffer);
+                output.write(buffer, 0, written);
+            }
+
+            byte[] result = output.toByteArray();
+            rawBytes.increment(input.length);
+            compressedBytes.increment(result.length);
+            return result;
+        } finally {
+            deflater.end();
+            compressTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    @Override
+    public String decode(byte[] compressed) {
+        long start = System.nanoTime();
+        ByteBuffer header = header(compressed);
+        int dictionaryId = header.getInt();
+        int length = header.getInt();
+
+        Inflater inflater = inflater(dictionaryId);
+        try {
+            inflater.setInput(compressed, HEADER_BYTES, compressed.length - HEADER_BYTES);
+            byte[] output = new byte[length];
+            int read = 0;
+            while (read < length && !inflater.finished()) {
+                int inflated = inflater.inflate(output, read, length - read);
+                if (inflated == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new IllegalStateException("Texto comprimido truncado o corrupto");
+                }
+                read += inflated;
+            }
+            return new String(output, 0, read, StandardCharsets.UTF_8);
+        } catch (DataFormatException e) {
+            throw new IllegalStateException("Texto comprimido corrupto", e);
+        } finally {
+            inflater.end();
+            decompressTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    @Override
+    public Reader reader(byte[] compressed) {
+        ByteBuffer header = header(compressed);
+        Inflater inflater = inflater(header.getInt());
+        ByteArrayInputStream input = new ByteArrayInputStream(compressed, HEADER_BYTES, compressed.length - HEADER_BYTES);
+
+        // InflaterInputStream no libera un Inflater recibido por parámetro
+        return new InputStreamReader(new InflaterInputStream(input, inflater, 8192) {
+            @Override
+            public void close() throws IOException {
+                try {
+                    super.close();
+                } finally {
+                    inflater.end();
+                }
+            }
+        }, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Indica si existe un diccionario activo
+     *
+     * @return true si hay un diccionario entrenado
+     */
+    public boolean hasDictionary() {
+        return activeDictionaryId() != NO_DICTIONARY;
+    }
+
+    /**
+     * Entrena un diccionario con una muestra de textos y lo activa
+     * Los textos comprimidos a partir de ahora lo usan; los anteriores
+     * conservan el suyo
+     *
+     * @param samples Textos de muestra
+     * @return ID del nuevo diccionario, o 0 si la muestra no produjo frases repetidas
+     */
+    public int train(Collection<String> samples) {
+        byte[] dictionary = buildDictionary(samples);
+        if (dictionary.length == 0) {
+            return NO_DICTIONARY;
+        }
+
+        CRC32 crc = new CRC32();
+        crc.update(dictionary);
+        int id = (int) crc.getValue();
+        if (id == NO_DICTIONARY) {
+            id = 1;
+        }
+
+        if (!dictionaries.containsKey(id)) {
+            jdbcTemplate.update(
+                "INSERT INTO compression_dictionaries (id, data, sample_count, created_at) " +
+                "VALUES (?, ?, ?, CURRENT_TIMESTAMP)",
+                id, dictionary, samples.size());
+            dictionaries.put(id, dictionary);
+        }
+        activeDictionaryId = id;
+
+        log.info("Diccionario de compresión {} entrenado con {} textos ({} bytes)",
+            id, samples.size(), dictionary.length);
+        return id;
+    }
+
+    /**
+     * Construye el diccionario con las frases de 1 a 3 palabras que más bytes ahorran
+     * (frecuencia por longitud); las más útiles quedan al final, más cerca del texto
+     */
+    static byte[] buildDictionary(Collection<String> samples) {
+        Map<String, Integer> frequencies = new HashMap<>();
+        for (String sample : samples) {
+            String[] words = sample.split("\\s+");
+            for (int i = 0; i < words.length; i++) {
+                StringBuilder phrase = new StringBuilder();
+                for (int n = 0; n < MAX_PHRASE_WORDS && i + n < words.length; n++) {
+                    if (n > 0) {
+                        phrase.append(' ');
+                    }
+                    phrase.append(words[i + n]);
+                    frequencies.merge(phrase.toString(), 1, Integer::sum);
+                }
+            }
+        }
+
+        List<Map.Entry<String, Integer>> candidates = new ArrayList<>();
+        for (Map.Entry<String, Integer> entry : frequencies.entrySet()) {
+            if (entry.getValue() > 1 && entry.getKey().length() > 3) {
+                candidates.add(entry);
+            }
+        }
+        candidates.sort((a, b) -> Long.compare(
+            (long) b.getValue() * b.getKey().length(),
+            (long) a.getValue() * a.getKey().length()));
+
+        List<byte[]> selected = new ArrayList<>();
+        int size = 0;
+        for (Map.Entry<String, Integer> candidate : candidates) {
+            byte[] bytes = (candidate.getKey() + ' ').getBytes(StandardCharsets.UTF_8);
+            if (size + bytes.length > MAX_DICTIONARY_BYTES) {
+                continue;
+            }
+            selected.add(bytes);
+            size += bytes.length;
+        }
+
+        ByteBuffer dictionary = ByteBuffer.allocate(size);
+        for (int i = selected.size() - 1; i >= 0; i--) {
+            dictionary.put(selected.get(i));
+        }
+        return dictionary.array();
+    }
+
+    private static ByteBuffer header(byte[] compressed) {
+        if (compressed.length < HEADER_BYTES || compressed[0] != FORMAT_DEFLATE) {
+            throw new IllegalStateException("Formato de texto comprimido desconocido");
+        }
+        ByteBuffer header = ByteBuffer.wrap(compressed, 0, HEADER_BYTES);
+        header.get();
+        return header;
+    }
+
+    private Inflater inflater(int dictionaryId) {
+        Inflater inflater = new Inflater(true);
+        if (dictionaryId != NO_DICTIONARY) {
+            inflater.setDictionary(dictionary(dictionaryId));
+        }
+        return inflater;
+    }
+
+    /**
+     * Diccionario por ID, cargado de la base de datos la primera vez
+     * (puede haberlo entrenado otra instancia)
+     */
+    private byte[] dictionary(int id) {
+        return dictionaries.computeIfAbsent(id, key -> {
+            List<byte[]> rows = jdbcTemplate.queryForList(
+                "SELECT data FROM compression_dictionaries WHERE id = ?", byte[].class, key);
+            if (rows.isEmpty()) {
+                throw new IllegalStateException("Diccionario de compresión no encontrado: " + key);
+            }
+            return rows.get(0);
+        });
+    }
+
+    private int activeDictionaryId() {
+        Integer id = activeDictionaryId;
+        if (id == null) {
+            List<Integer> ids = jdbcTemplate.queryForList(
+                "SELECT id FROM compression_dictionaries ORDER BY created_at DESC LIMIT 1", Integer.class);
+            id = ids.isEmpty() ? NO_DICTIONARY : ids.get(0);
+            activeDictionaryId = id;
+        }
+        return id;
+    }
+}
@@ -0,0 +1,197 @@
+package com.deloitte.mindmeet.service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Migración en segundo plano de transcripciones y resúmenes a almacenamiento comprimido
+ *
+ * En cada ejecución toma un bloque de reuniones con texto en las columnas
+ * TEXT heredadas, lo comprime y lo mueve a transcript_z / summary_z. Cada
+ * columna se actualiza solo si la aplicación no escribió ya una versión
+ * comprimida, por lo que la migración puede convivir con el tráfico normal.
+ * Antes del primer bloque entrena el diccionario de compresión con una
+ * muestra de los textos existentes si aún no hay uno.
+ *
+ * Publica el tamaño almacenado por columna y formato
+ * (mindmeet.text.storage.bytes) para comparar antes y después.
+ *
+ * @author MindMeet Team
+ * @version 1.0
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TextCompressionMigration {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TextCompressionCodec textCodec;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${mindmeet.compression.migration.enabled:true}")
+    private boolean enabled;
+
+    @Value("${mindmeet.compression.migration.batch-size:100}")
+    private int batchSize;
+
+    @Value("${mindmeet.compression.dictionary.enabled:true}")
+    private boolean dictionaryEnabled;
+
+    @Value("${mindmeet.compression.dictionary.sample-size:200}")
+    private int dictionarySampleSize;
+
+    @Value("${mindmeet.compression.dictionary.min-samples:20}")
+    private int dictionaryMinSamples;
+
+    /**
+     * Caracteres leídos de cada texto de muestra al entrenar el diccionario
+     */
+    @Value("${mindmeet.compression.dictionary.sample-chars:20000}")
+    private int dictionarySampleChars;
+
+    private final AtomicLong legacyRows = new AtomicLong(-1);
+    private final Map<String, AtomicLong> storageBytes = new ConcurrentHashMap<>();
+    private volatile boolean finished;
+    private volatile boolean dictionaryChecked;
+
+    @PostConstruct
+    void registerMetrics() {
+        Gauge.builder("mindmeet.text.legacy.rows", legacyRows, AtomicLong::get)
+            .description("Reuniones con texto aún sin comprimir")
+            .register(meterRegistry);
+        for (String column : List.of("transcript", "summary")) {
+            for (String form : List.of("legacy", "compressed")) {
+                AtomicLong bytes = storageBytes.computeIfAbsent(column + "." + form, key -> new AtomicLong());
+                Gauge.builder("mindmeet.text.storage.bytes", bytes, AtomicLong::get)
+                    .description("Bytes almacenados de transcripciones y resúmenes")
+                    .tag("column", column)
+                    .tag("form", form)
+                    .baseUnit("bytes")
+                    .register(meterRegistry);
+            }
+        }
+    }
+
+    /**
+     * Migra un bloque de reuniones
+     */
+    @Scheduled(fixedDelayString = "${mindmeet.compression.migration.interval-ms:10000}",
+               initialDelayString = "${mindmeet.compression.migration.initial-delay-ms:60000}")
+    public void migrateBatch() {
+        if (!enabled || finished) {
+            return;
+        }
+
+        if (dictionaryEnabled && !dictionaryChecked) {
+            // Un solo intento por arranque: sin muestra suficiente se comprime sin diccionario
+            dictionaryChecked = true;
+            if (!textCodec.hasDictionary()) {
+                trainDictionary();
+            }
+        }
+
+        List<LegacyRow> rows = jdbcTemplate.query(
+            "SELECT id, transcript, summary FROM meetings " +
+            "WHERE (transcript IS NOT NULL AND transcript_z IS NULL) " +
+            "OR (summary IS NOT NULL AND summary_z IS NULL) " +
+            "ORDER BY id LIMIT ?",
+            (rs, rowNum) -> new LegacyRow(rs.getLong("id"), rs.getString("transcript"), rs.getString("summary")),
+            batchSize);
+
+        if (rows.isEmpty()) {
+            finished = true;
+            refreshStorageStats();
+            log.info("Migración a texto comprimido finalizada");
+            return;
+        }
+
+        List<Object[]> transcripts = new ArrayList<>();
+        List<Object[]> summaries = new ArrayList<>();
+        for (LegacyRow row : rows) {
+            if (row.transcript() != null) {
+                transcripts.add(new Object[] {
+                    textCodec.encode(row.transcript()), row.transcript().length(), row.id() });
+            }
+            if (row.summary() != null) {
+                summaries.add(new Object[] { textCodec.encode(row.summary()), row.id() });
+            }
+        }
+
+        // Solo si la aplicación no guardó ya una versión comprimida más reciente
+        jdbcTemplate.batchUpdate(
+            "UPDATE meetings SET transcript_z = ?, transcript_chars = ?, transcript = NULL " +
+            "WHERE id = ? AND transcript_z IS NULL", transcripts);
+        jdbcTemplate.batchUpdate(
+            "UPDATE meetings SET summary_z = ?, summary = NULL WHERE id = ? AND summary_z IS NULL", summaries);
+
+        log.info("Migradas a texto comprimido {} reuniones (hasta ID {})",
+            rows.size(), rows.get(rows.size() - 1).id());
+    }
+
+    /**
+     * Actualiza las métricas de tamaño almacenado y de filas pendientes
+     */
+    @Scheduled(fixedDelayString = "${mindmeet.compression.stats-interval-ms:3600000}",
+               initialDelayString = "${mindmeet.compression.migration.initial-delay-ms:60000}")
+    public void refreshStorageStats() {
+        jdbcTemplate.query(
+            "SELECT COALESCE(SUM(OCTET_LENGTH(transcript)), 0) AS transcript_legacy, " +
+            "COALESCE(SUM(OCTET_LENGTH(transcript_z)), 0) AS transcript_compressed, " +
+            "COALESCE(SUM(OCTET_LENGTH(summary)), 0) AS summary_legacy, " +
+            "COALESCE(SUM(OCTET_LENGTH(summary_z)), 0) AS summary_compressed, " +
+            "COUNT(CASE WHEN transcript IS NOT NULL OR summary IS NOT NULL THEN 1 END) AS legacy_rows " +
+            "FROM meetings",
+            rs -> {
+                storageBytes.get("transcript.legacy").set(rs.getLong("transcript_legacy"));
+                storageBytes.get("transcript.compressed").set(rs.getLong("transcript_compressed"));
+                storageBytes.get("summary.legacy").set(rs.getLong("summary_legacy"));
+                storageBytes.get("summary.compressed").set(rs.getLong("summary_compressed"));
+                legacyRows.set(rs.getLong("legacy_rows"));
+            });
+    }
+
+    /**
+     * Entrena el diccionario con los textos heredados más recientes
+     */
+    private void trainDictionary() {
+        List<String> samples = jdbcTemplate.query(
+            "SELECT transcript, summary FROM meetings " +
+            "WHERE transcript IS NOT NULL OR summary IS NOT NULL ORDER BY id DESC LIMIT ?",
+            (rs, rowNum) -> {
+                String transcript = rs.getString("transcript");
+                String summary = rs.getString("summary");
+                return ((summary != null ? summary + "\n" : "")
+                    + (transcript != null ? truncate(transcript) : ""));
+            },
+            dictionarySampleSize);
+
+        if (samples.size() < dictionaryMinSamples) {
+            log.info("Muestra insuficiente para entrenar el diccionario de compresión ({} textos)", samples.size());
+            return;
+        }
+        textCodec.train(samples);
+    }
+
+    private String truncate(String text) {
+        return text.length() > dictionarySampleChars ? text.substring(0, dictionarySampleChars) : text;
+    }
+
+    /**
+     * Textos heredados de una reunión
+     */
+    private record LegacyRow(long id, String transcript, String summary) {
+    }
+}
@@ -0,0 +1,49 @@
+package com.deloitte.mindmeet.service;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Contrato de un motor de transcripción de audio
+ * Permite conectar el proveedor real (Whisper) o un stub local para
+ * ejecutar y medir el pipeline segmentado sin conexión
+ *
+ * @author MindMeet Team
+ * @version 1.0
+ */
+public interface Transcriber {
+
+    /**
+     * Transcribe un segmento de tiempo de una grabación
+     *
+     * @param recording Archivo de la grabación
+     * @param segment Segmento de tiempo a transcribir
+     * @return Texto transcrito y su precisión estimada
+     * @throws IOException si no se puede leer la grabación
+     */
+    SegmentTranscript transcribe(Path recording, AudioSegment segment) throws IOException;
+
+    /**
+     * Segmento de tiempo de una grabación
+     *
+     * @param index Posición del segmento (base 0)
+     * @param start Inicio del segmento
+     * @param end Fin del segmento
+     */
+    record AudioSegment(int index, Duration start, Duration end) {
+
+        public Duration length() {
+            return end.minus(start);
+        }
+    }
+
+    /**
+     * Resultado de transcribir un segmento
+     *
+     * @param text Texto transcrito
+     * @param accuracy Precisión estimada (0-100)
+     */
+    record SegmentTranscript(String text, double accuracy) {
+    }
+}
@@ -0,0 +1,30 @@
+package com.deloitte.mindmeet.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Rango de caracteres de una transcripción a transmitir
+ *
+ * @author MindMeet Team
+ * @version 1.0
+ */
+@Getter
+@AllArgsConstructor
+public class TranscriptRange {
+
+    /**
+     * Posición inicial (base 0) dentro de la transcripción
+     */
+    private final int offset;
+
+    /**
+     * Número de caracteres a transmitir
+     */
+    private final int length;
+
+    /**
+     * Longitud total de la transcripción
+     */
+    private final int totalLength;
+}
@@ -0,0 +1,25 @@
+package com.deloitte.mindmeet.service;
+
+/**
+ * Excepción lanzada cuando el rango pedido de una transcripción no es válido
+ * Se traduce en una respuesta 416; la reunión existe y el usuario tiene acceso
+ *
+ * @author MindMeet Team
+ * @version 1.0
+ */
+public class TranscriptRangeException extends IllegalArgumentException {
+
+    /**
+     * Longitud total de la transcripción
+     */
+    private final int totalLength;
+
+    public TranscriptRangeException(int totalLength) {
+        super("Rango de transcripción inválido");
+        this.totalLength = totalLength;
+    }
+
+    public int getTotalLength() {
+        return totalLength;
+    }
+}
@@ -0,0 +1,58 @@
+package com.deloitte.mindmeet.config;
+
+import com.deloitte.mindmeet.service.SegmentedTranscriptionEngine;
+import com.deloitte.mindmeet.service.Transcriber;
+import com.deloitte.mindmeet.service.WorkerThreads;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Configuración del motor de transcripción segmentada
+ * Se activa con mindmeet.transcription.segmented.enabled=true y requiere
+ * un bean {@link Transcriber}. Hoy la única implementación es el stub local
+ * (mindmeet.transcription.transcriber=stub); con otro valor el arranque
+ * falla con un error de configuración explícito
+ *
+ * @author MindMeet Team
+ * @version 1.0
+ */
+@Configuration
+public class TranscriptionEngineConfig {
+
+    /**
+     * Bean del motor de transcripción segmentada
+     *
+     * @param transcriber Transcriptor por segmento
+     * @param transcriberName Valor de mindmeet.transcription.transcriber
+     * @param parallelism Segmentos transcritos a la vez
+     * @param segmentSeconds Duración de cada segmento en segundos
+     * @param overlapSeconds Solapamiento entre segmentos en segundos
+     * @param virtualThreads true para transcribir los segmentos en hilos virtuales (Java 21)
+     * @return Motor configurado
+     */
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(name = "mindmeet.transcription.segmented.enabled", havingValue = "true")
+    public SegmentedTranscriptionEngine segmentedTranscriptionEngine(
+            ObjectProvider<Transcriber> transcriber,
+            @Value("${mindmeet.transcription.transcriber:}") String transcriberName,
+            @Value("${mindmeet.transcription.segmented.parallelism:4}") int parallelism,
+            @Value("${mindmeet.transcription.segmented.segment-seconds:300}") long segmentSeconds,
+            @Value("${mindmeet.transcription.segmented.overlap-seconds:5}") long overlapSeconds,
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        Transcriber segmentTranscriber = transcriber.getIfAvailable();
+        if (segmentTranscriber == null) {
+            throw new IllegalStateException(
+                "mindmeet.transcription.segmented.enabled=true requiere un Transcriber por segmento y no hay " +
+                "ninguno para mindmeet.transcription.transcriber='" + transcriberName + "'. " +
+                "Use transcriber=stub o deshabilite el motor segmentado");
+        }
+        return new SegmentedTranscriptionEngine(segmentTranscriber, parallelism,
+            Duration.ofSeconds(segmentSeconds), Duration.ofSeconds(overlapSeconds),
+            WorkerThreads.io("transcription-segment", virtualThreads));
+    }
+}
@@ -0,0 +1,116 @@
+package com.deloitte.mindmeet.model;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * Entidad que representa un trabajo de transcripción en cola
+ * La cola es persistente: los trabajos sobreviven a reinicios y se
+ * reintentan hasta agotar mindmeet.transcription.retry-attempts
+ *
+ * @author MindMeet Team
+ * @version 1.0
+ */
+@Entity
+@Table(name = "transcription_jobs", indexes = {
+    @Index(name = "idx_transcription_jobs_status_next", columnList = "status, nextAttemptAt"),
+    @Index(name = "idx_transcription_jobs_meeting", columnList = "meetingId")
+})
+@Data
+@NoArgsConstructor
+public class TranscriptionJob {
+
+    /**
+     * Identificador único del trabajo (clave primaria)
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /**
+     * ID de la reunión a transcribir
+     */
+    @Column(nullable = false)
+    private Long meetingId;
+
+    /**
+     * Estado del trabajo en la cola
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private Status status = Status.QUEUED;
+
+    /**
+     * Número de intentos realizados
+     * Identifica además la ejecución en curso: un worker solo puede completar
+     * el trabajo si el número no cambió desde que lo tomó
+     */
+    @Column(nullable = false)
+    private Integer attempts = 0;
+
+    /**
+     * La grabación se volvió a subir mientras el trabajo se ejecutaba:
+     * al terminar se encola una nueva transcripción
+     */
+    @Column(nullable = false)
+    private Boolean rerunRequested = false;
+
+    /**
+     * Fecha a partir de la cual el trabajo puede ejecutarse
+     */
+    @Column(nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    /**
+     * Fecha en que un worker tomó el trabajo
+     */
+    private LocalDateTime lockedAt;
+
+    /**
+     * Último error registrado
+     */
+    @Column(length = 1000)
+    private String lastError;
+
+    /**
+     * Fecha y hora de creación del registro
+     */
+    @CreationTimestamp
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    /**
+     * Fecha y hora de última actualización del registro
+     */
+    @UpdateTimestamp
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+
+    /**
+     * Constructor para encolar un nuevo trabajo
+     *
+     * @param meetingId ID de la reunión
+     */
+    public TranscriptionJob(Long meetingId) {
+        this.meetingId = meetingId;
+        this.status = Status.QUEUED;
+        this.attempts = 0;
+        this.rerunRequested = false;
+        this.nextAttemptAt = LocalDateTime.now();
+    }
+
+    /**
+     * Estados de un trabajo de transcripción
+     */
+    public enum Status {
+        QUEUED,         // En espera de un worker
+        RUNNING,        // En ejecución
+        SUCCEEDED,      // Completado
+        FAILED          // Fallido tras agotar los reintentos
+    }
+}
@@ -0,0 +1,85 @@
+package com.deloitte.mindmeet.repository;
+
+import com.deloitte.mindmeet.model.TranscriptionJob;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Repositorio de acceso a datos para la cola de trabajos de transcripción
+ *
+ * @author MindMeet Team
+ * @version 1.0
+ */
+@Repository
+public interface TranscriptionJobRepository extends JpaRepository<TranscriptionJob, Long> {
+
+    /**
+     * Obtiene trabajos listos para ejecutarse bloqueándolos para este worker
+     * Las filas ya bloqueadas por otra instancia se omiten (SKIP LOCKED)
+     *
+     * @param now Fecha actual
+     * @param pageable Número máximo de trabajos a tomar
+     * @return Trabajos bloqueados
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT j FROM TranscriptionJob j WHERE j.status = 'QUEUED' AND j.nextAttemptAt <= :now ORDER BY j.id")
+    List<TranscriptionJob> findDueForUpdate(@Param("now") LocalDateTime now, Pageable pageable);
+
+    /**
+     * Trabajos pendientes o en ejecución de una reunión, bloqueados hasta el
+     * fin de la transacción para que no cambien de estado mientras se encola
+     *
+     * @param meetingId ID de la reunión
+     * @return Trabajos en estado QUEUED o RUNNING
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT j FROM TranscriptionJob j WHERE j.meetingId = :meetingId AND j.status IN ('QUEUED', 'RUNNING')")
+    List<TranscriptionJob> findActiveByMeetingIdForUpdate(@Param("meetingId") Long meetingId);
+
+    /**
+     * Obtiene un trabajo bloqueándolo hasta el fin de la transacción
+     *
+     * @param id ID del trabajo
+     * @return Trabajo si existe
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT j FROM TranscriptionJob j WHERE j.id = :id")
+    Optional<TranscriptionJob> findByIdForUpdate(@Param("id") Long id);
+
+    /**
+     * Cuenta los trabajos en un estado determinado
+     */
+    long countByStatus(TranscriptionJob.Status status);
+
+    /**
+     * Fecha de creación del trabajo en espera más antiguo
+     *
+     * @return Fecha, o null si la cola está vacía
+     */
+    @Query("SELECT MIN(j.createdAt) FROM TranscriptionJob j WHERE j.status = 'QUEUED'")
+    LocalDateTime findOldestQueuedCreatedAt();
+
+    /**
+     * Devuelve a la cola los trabajos abandonados por un worker caído
+     *
+     * @param lockedBefore Fecha límite de bloqueo
+     * @return Número de trabajos recuperados
+     */
+    @Modifying
+    @Query("UPDATE TranscriptionJob j SET j.status = 'QUEUED', j.lockedAt = NULL " +
+           "WHERE j.status = 'RUNNING' AND j.lockedAt < :lockedBefore")
+    int requeueStale(@Param("lockedBefore") LocalDateTime lockedBefore);
+}
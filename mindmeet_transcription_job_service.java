@@ -0,0 +1,311 @@
+package com.deloitte.mindmeet.service;
+
+import com.deloitte.mindmeet.model.Meeting;
+import com.deloitte.mindmeet.model.TranscriptionJob;
+import com.deloitte.mindmeet.repository.MeetingRepository;
+import com.deloitte.mindmeet.repository.TranscriptionJobRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Servicio de la cola persistente de trabajos de transcripción
+ * Encapsula las transiciones de estado del trabajo y del
+ * Meeting.processingStatus (PENDING, PROCESSING, COMPLETED, FAILED)
+ *
+ * @author MindMeet Team
+ * @version 1.0
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional
+public class TranscriptionJobService {
+
+    private final TranscriptionJobRepository jobRepository;
+    private final MeetingRepository meetingRepository;
+    private final MeetingStatsService meetingStatsService;
+    private final MeetingSearchIndexer searchIndexer;
+    private final MeetingEventPublisher eventPublisher;
+
+    @Value("${mindmeet.transcription.retry-attempts:3}")
+    private int retryAttempts;
+
+    @Value("${mindmeet.transcription.retry-backoff-seconds:30}")
+    private long retryBackoffSeconds;
+
+    /**
+     * Encola la transcripción de una reunión dentro de la transacción actual
+     * Si la transacción se revierte, el trabajo tampoco queda registrado
+     *
+     * Si ya hay un trabajo en espera, ese trabajo leerá la grabación nueva.
+     * Si hay uno en ejecución, está transcribiendo la grabación anterior: se
+     * marca para volver a ejecutarse cuando termine.
+     *
+     * @param meetingId ID de la reunión
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void enqueue(Long meetingId) {
+        List<TranscriptionJob> active = jobRepository.findActiveByMeetingIdForUpdate(meetingId);
+        if (active.stream().anyMatch(job -> job.getStatus() == TranscriptionJob.Status.QUEUED)) {
+            log.info("La reunión {} ya tiene una transcripción en cola", meetingId);
+            return;
+        }
+        if (!active.isEmpty()) {
+            active.forEach(job -> job.setRerunRequested(true));
+            log.info("La reunión {} se volverá a transcribir al terminar el trabajo en curso", meetingId);
+            return;
+        }
+
+        jobRepository.save(new TranscriptionJob(meetingId));
+        meetingRepository.updateProcessingStatus(meetingId, ProcessingStatus.PENDING);
+        eventPublisher.publishStatus(meetingId, ProcessingStatus.PENDING);
+
+        log.info("Transcripción encolada para reunión ID: {}", meetingId);
+    }
+
+    /**
+     * Toma hasta {@code limit} trabajos listos y los marca como RUNNING
+     *
+     * @param limit Número máximo de trabajos a tomar
+     * @return Trabajos tomados por este worker
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public List<TranscriptionJob> claim(int limit) {
+        LocalDateTime now = LocalDateTime.now();
+        List<TranscriptionJob> jobs = jobRepository.findDueForUpdate(now, PageRequest.of(0, limit));
+
+        for (TranscriptionJob job : jobs) {
+            job.setStatus(TranscriptionJob.Status.RUNNING);
+            job.setAttempts(job.getAttempts() + 1);
+            job.setLockedAt(now);
+            meetingRepository.updateProcessingStatus(job.getMeetingId(), ProcessingStatus.PROCESSING);
+            eventPublisher.publishStatus(job.getMeetingId(), ProcessingStatus.PROCESSING);
+        }
+
+        return jobs;
+    }
+
+    /**
+     * Marca un trabajo como completado
+     * No hace nada si la ejecución ya no es la vigente (se excedió el tiempo
+     * y el trabajo se reprogramó o lo tomó otro worker)
+     *
+     * @param jobId ID del trabajo
+     * @param attempt Intento que el worker tomó en {@link #claim}
+     * @return true si el trabajo quedó completado por esta ejecución
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public boolean markSucceeded(Long jobId, int attempt) {
+        TranscriptionJob job = findRunningAttempt(jobId, attempt);
+        if (job == null) {
+            return false;
+        }
+
+        job.setStatus(TranscriptionJob.Status.SUCCEEDED);
+        job.setLockedAt(null);
+        job.setLastError(null);
+        searchIndexer.reindexAfterCommit(job.getMeetingId());
+        if (Boolean.TRUE.equals(job.getRerunRequested())) {
+            enqueueRerun(job);
+            return true;
+        }
+        meetingRepository.updateProcessingStatus(job.getMeetingId(), ProcessingStatus.COMPLETED);
+        eventPublisher.publishStatus(job.getMeetingId(), ProcessingStatus.COMPLETED);
+        return true;
+    }
+
+    /**
+     * Registra un fallo: reprograma el trabajo o lo marca como fallido
+     * si se agotaron los reintentos
+     * No hace nada si la ejecución ya no es la vigente
+     *
+     * @param jobId ID del trabajo
+     * @param attempt Intento que el worker tomó en {@link #claim}
+     * @param error Descripción del error
+     * @return true si el trabajo quedó definitivamente fallido
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public boolean markFailed(Long jobId, int attempt, String error) {
+        TranscriptionJob job = findRunningAttempt(jobId, attempt);
+        if (job == null) {
+            return false;
+        }
+
+        job.setLockedAt(null);
+        job.setLastError(error != null && error.length() > 1000 ? error.substring(0, 1000) : error);
+
+        // El intento fallido transcribía la grabación anterior: la nueva se
+        // transcribe en un trabajo propio, con sus reintentos completos
+        if (Boolean.TRUE.equals(job.getRerunRequested())) {
+            job.setStatus(TranscriptionJob.Status.FAILED);
+            enqueueRerun(job);
+            return false;
+        }
+
+        if (job.getAttempts() >= retryAttempts) {
+            job.setStatus(TranscriptionJob.Status.FAILED);
+            meetingRepository.updateProcessingStatus(job.getMeetingId(), ProcessingStatus.FAILED);
+            eventPublisher.publishStatus(job.getMeetingId(), ProcessingStatus.FAILED);
+            log.error("Transcripción de reunión {} fallida tras {} intentos: {}",
+                job.getMeetingId(), job.getAttempts(), error);
+            return true;
+        }
+
+        // Reintento con espera creciente
+        job.setStatus(TranscriptionJob.Status.QUEUED);
+        job.setNextAttemptAt(LocalDateTime.now().plusSeconds(retryBackoffSeconds * job.getAttempts()));
+        meetingRepository.updateProcessingStatus(job.getMeetingId(), ProcessingStatus.PENDING);
+        eventPublisher.publishStatus(job.getMeetingId(), ProcessingStatus.PENDING);
+        log.warn("Transcripción de reunión {} reprogramada (intento {}): {}",
+            job.getMeetingId(), job.getAttempts(), error);
+        return false;
+    }
+
+    /**
+     * Devuelve a la cola los trabajos bloqueados por un worker que dejó de responder
+     *
+     * @param lockedBefore Fecha límite de bloqueo
+     * @return Número de trabajos recuperados
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public int requeueStale(LocalDateTime lockedBefore) {
+        return jobRepository.requeueStale(lockedBefore);
+    }
+
+    /**
+     * Obtiene los datos de la grabación de una reunión
+     *
+     * @param meetingId ID de la reunión
+     * @return Datos de la grabación
+     * @throws IllegalStateException si la reunión no existe o no tiene grabación
+     */
+    @Transactional(readOnly = true)
+    public RecordingInfo getRecording(Long meetingId) {
+        Meeting meeting = meetingRepository.findById(meetingId)
+            .orElseThrow(() -> new IllegalStateException("Reunión no encontrada: " + meetingId));
+
+        if (meeting.getRecordingUrl() == null) {
+            throw new IllegalStateException("La reunión no tiene grabación: " + meetingId);
+        }
+        return new RecordingInfo(meeting.getRecordingUrl(), meeting.getDurationSeconds());
+    }
+
+    /**
+     * Guarda la transcripción generada por el motor segmentado
+     * Se descarta si la ejecución ya no es la vigente: el trabajo bloqueado
+     * impide que otra ejecución lo tome mientras se guarda
+     *
+     * @param jobId ID del trabajo
+     * @param attempt Intento que el worker tomó en {@link #claim}
+     * @param transcript Texto completo
+     * @param accuracy Precisión combinada (0-100)
+     * @return true si la transcripción se guardó
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public boolean saveTranscript(Long jobId, int attempt, String transcript, double accuracy) {
+        TranscriptionJob job = findRunningAttempt(jobId, attempt);
+        if (job == null) {
+            return false;
+        }
+        meetingRepository.findById(job.getMeetingId()).ifPresent(meeting -> {
+            Double previousAccuracy = meeting.getTranscriptionAccuracy();
+            meeting.setTranscript(transcript);
+            meeting.setTranscriptionAccuracy(accuracy);
+            meetingRepository.save(meeting);
+            meetingStatsService.onTranscriptionAccuracyChanged(
+                meeting.getOrganizer().getId(), previousAccuracy, accuracy);
+        });
+        return true;
+    }
+
+    /**
+     * Precisión de transcripción actual de una reunión
+     *
+     * @param meetingId ID de la reunión
+     * @return Precisión, o null si no tiene
+     */
+    @Transactional(readOnly = true)
+    public Double getTranscriptionAccuracy(Long meetingId) {
+        return meetingRepository.findById(meetingId)
+            .map(Meeting::getTranscriptionAccuracy)
+            .orElse(null);
+    }
+
+    /**
+     * Registra en las estadísticas la precisión que guardó
+     * TranscriptionService.processRecording, que escribe la reunión sin
+     * pasar por {@link #saveTranscript}
+     *
+     * @param meetingId ID de la reunión
+     * @param previousAccuracy Precisión antes de transcribir, puede ser null
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void recordAccuracyChange(Long meetingId, Double previousAccuracy) {
+        meetingRepository.findById(meetingId).ifPresent(meeting ->
+            meetingStatsService.onTranscriptionAccuracyChanged(
+                meeting.getOrganizer().getId(), previousAccuracy, meeting.getTranscriptionAccuracy()));
+    }
+
+    /**
+     * Cuenta los trabajos pendientes en la cola
+     *
+     * @return Número de trabajos en estado QUEUED
+     */
+    @Transactional(readOnly = true)
+    public long countQueued() {
+        return jobRepository.countByStatus(TranscriptionJob.Status.QUEUED);
+    }
+
+    /**
+     * Fecha de creación del trabajo en espera más antiguo
+     *
+     * @return Fecha, o null si la cola está vacía
+     */
+    @Transactional(readOnly = true)
+    public LocalDateTime oldestQueuedCreatedAt() {
+        return jobRepository.findOldestQueuedCreatedAt();
+    }
+
+    /**
+     * Bloquea el trabajo si sigue en ejecución con el intento indicado
+     *
+     * @return Trabajo bloqueado, o null si la ejecución ya no es la vigente
+     */
+    private TranscriptionJob findRunningAttempt(Long jobId, int attempt) {
+        TranscriptionJob job = jobRepository.findByIdForUpdate(jobId).orElse(null);
+        if (job == null || job.getStatus() != TranscriptionJob.Status.RUNNING || job.getAttempts() != attempt) {
+            log.warn("Resultado descartado del trabajo {} (intento {}): la ejecución ya no es la vigente",
+                jobId, attempt);
+            return null;
+        }
+        return job;
+    }
+
+    /**
+     * Encola una nueva transcripción para la grabación subida durante el trabajo
+     */
+    private void enqueueRerun(TranscriptionJob job) {
+        job.setRerunRequested(false);
+        jobRepository.save(new TranscriptionJob(job.getMeetingId()));
+        meetingRepository.updateProcessingStatus(job.getMeetingId(), ProcessingStatus.PENDING);
+        eventPublisher.publishStatus(job.getMeetingId(), ProcessingStatus.PENDING);
+        log.info("Transcripción de reunión {} encolada de nuevo por una grabación posterior", job.getMeetingId());
+    }
+
+    /**
+     * Datos de la grabación necesarios para transcribirla
+     *
+     * @param recordingUrl Ruta relativa de la grabación
+     * @param durationSeconds Duración registrada de la reunión, puede ser null
+     */
+    public record RecordingInfo(String recordingUrl, Integer durationSeconds) {
+    }
+}
@@ -0,0 +1,298 @@
+package com.deloitte.mindmeet.service;
+
+import com.deloitte.mindmeet.model.TranscriptionJob;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.sound.sampled.AudioFileFormat;
+import javax.sound.sampled.AudioSystem;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Worker de la cola de transcripción con un pool acotado de hilos
+ *
+ * Toma trabajos de la tabla transcription_jobs solo cuando hay hilos libres,
+ * por lo que una ráfaga de reuniones finalizadas espera en la cola en lugar
+ * de ocupar conexiones del pool de base de datos. Cada trabajo tiene un
+ * límite de tiempo (mindmeet.transcription.timeout-seconds). Un trabajo que
+ * excede el límite se reprograma con un nuevo intento; si la ejecución
+ * anterior termina después, su estado final se descarta porque el número de
+ * intento ya no coincide.
+ *
+ * Si el motor segmentado está habilitado, la grabación se transcribe en
+ * paralelo por segmentos y el texto se guarda con
+ * TranscriptionJobService.saveTranscript, que también comprueba el intento.
+ * En caso contrario se invoca de forma síncrona
+ * TranscriptionService.processRecording, que escribe la transcripción en la
+ * reunión por su cuenta: ese guardado no está protegido por el intento, y una
+ * ejecución que excedió el límite puede sobrescribir la de su reintento si
+ * termina después. El avance por segmentos se publica en MeetingEventPublisher.
+ * Cada transcripción completada se guarda en TranscriptionResultCache para
+ * reutilizarla si se vuelve a subir el mismo audio.
+ *
+ * @author MindMeet Team
+ * @version 1.0
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TranscriptionJobWorker {
+
+    private final TranscriptionJobService jobService;
+    private final TranscriptionService transcriptionService;
+    private final ObjectProvider<SegmentedTranscriptionEngine> segmentedEngine;
+    private final MeetingEventPublisher eventPublisher;
+    private final TranscriptionResultCache resultCache;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${storage.location:./uploads}")
+    private String storageLocation;
+
+    @Value("${mindmeet.transcription.enabled:true}")
+    private boolean enabled;
+
+    @Value("${mindmeet.transcription.workers:4}")
+    private int workers;
+
+    @Value("${mindmeet.transcription.timeout-seconds:300}")
+    private long timeoutSeconds;
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
+    private ThreadPoolExecutor executor;
+    private ScheduledExecutorService watchdog;
+
+    /**
+     * Profundidad de la cola, actualizada en cada sondeo para no consultar
+     * la base de datos en cada lectura de Prometheus
+     */
+    private final AtomicLong queueDepth = new AtomicLong();
+    private final AtomicLong queueLagMillis = new AtomicLong();
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    @PostConstruct
+    void start() {
+        // Los trabajos esperan al proveedor de transcripción y a la base de datos:
+        // con hilos virtuales habilitados no ocupan hilos de plataforma
+        executor = new ThreadPoolExecutor(workers, workers, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(workers),
+            WorkerThreads.io("transcription-worker", virtualThreads));
+        // Los límites de los trabajos terminados se cancelan: sin quitarlos de la
+        // cola, cada uno quedaría retenido hasta timeout-seconds
+        ScheduledThreadPoolExecutor timeouts = new ScheduledThreadPoolExecutor(1,
+            WorkerThreads.platform("transcription-watchdog"));
+        timeouts.setRemoveOnCancelPolicy(true);
+        watchdog = timeouts;
+
+        Gauge.builder("mindmeet.transcription.queue.depth", queueDepth, AtomicLong::get)
+            .description("Trabajos de transcripción en espera")
+            .register(meterRegistry);
+        Gauge.builder("mindmeet.transcription.queue.lag", queueLagMillis, value -> value.get() / 1000.0)
+            .description("Antigüedad del trabajo de transcripción en espera más antiguo")
+            .baseUnit("seconds")
+            .register(meterRegistry);
+        Gauge.builder("mindmeet.transcription.jobs.active", inFlight, AtomicInteger::get)
+            .description("Trabajos de transcripción en ejecución")
+            .register(meterRegistry);
+    }
+
+    @PreDestroy
+    void stop() {
+        executor.shutdown();
+        watchdog.shutdownNow();
+    }
+
+    /**
+     * Sondea la cola y despacha tantos trabajos como hilos libres haya
+     */
+    @Scheduled(fixedDelayString = "${mindmeet.transcription.poll-interval-ms:2000}")
+    public void poll() {
+        if (!enabled) {
+            return;
+        }
+
+        // Recuperar trabajos abandonados por una instancia caída
+        int recovered = jobService.requeueStale(LocalDateTime.now().minusSeconds(timeoutSeconds * 2));
+        if (recovered > 0) {
+            log.warn("{} trabajos de transcripción recuperados", recovered);
+        }
+
+        queueDepth.set(jobService.countQueued());
+        LocalDateTime oldest = queueDepth.get() > 0 ? jobService.oldestQueuedCreatedAt() : null;
+        queueLagMillis.set(oldest != null ? Math.max(0, Duration.between(oldest, LocalDateTime.now()).toMillis()) : 0);
+
+        int available = workers - inFlight.get();
+        if (available <= 0) {
+            return;
+        }
+
+        List<TranscriptionJob> jobs = jobService.claim(available);
+        for (TranscriptionJob job : jobs) {
+            dispatch(job);
+        }
+    }
+
+    /**
+     * Ejecuta un trabajo en el pool con límite de tiempo
+     */
+    private void dispatch(TranscriptionJob job) {
+        Long jobId = job.getId();
+        Long meetingId = job.getMeetingId();
+        int attempt = job.getAttempts();
+        LocalDateTime enqueuedAt = job.getCreatedAt();
+        AtomicBoolean settled = new AtomicBoolean();
+        AtomicReference<ScheduledFuture<?>> timeout = new AtomicReference<>();
+        long startNanos = System.nanoTime();
+
+        inFlight.incrementAndGet();
+
+        Future<?> future = executor.submit(() -> {
+            try {
+                log.info("Procesando transcripción de reunión ID: {} (trabajo {})", meetingId, jobId);
+                process(jobId, attempt, meetingId);
+                if (settled.compareAndSet(false, true) && jobService.markSucceeded(jobId, attempt)) {
+                    record("success", enqueuedAt, startNanos);
+                    rememberResult(meetingId);
+                }
+            } catch (Exception e) {
+                if (settled.compareAndSet(false, true)) {
+                    boolean failed = jobService.markFailed(jobId, attempt, e.getMessage());
+                    record(failed ? "failed" : "retry", enqueuedAt, startNanos);
+                }
+            } finally {
+                inFlight.decrementAndGet();
+                cancelTimeout(timeout.get());
+            }
+        });
+
+        timeout.set(watchdog.schedule(() -> {
+            if (settled.compareAndSet(false, true)) {
+                future.cancel(true);
+                boolean failed = jobService.markFailed(jobId, attempt,
+                    "Tiempo de procesamiento excedido (" + timeoutSeconds + "s)");
+                record(failed ? "failed" : "timeout", enqueuedAt, startNanos);
+            }
+        }, timeoutSeconds, TimeUnit.SECONDS));
+
+        // El trabajo pudo terminar antes de programar su límite
+        if (settled.get()) {
+            cancelTimeout(timeout.get());
+        }
+    }
+
+    private static void cancelTimeout(ScheduledFuture<?> timeout) {
+        if (timeout != null) {
+            timeout.cancel(false);
+        }
+    }
+
+    /**
+     * Guarda la transcripción para reutilizarla con el mismo audio
+     * Un fallo aquí no afecta al trabajo, que ya está completado
+     */
+    private void rememberResult(Long meetingId) {
+        try {
+            resultCache.remember(meetingId);
+        } catch (Exception e) {
+            log.warn("No se pudo guardar la transcripción reutilizable de la reunión {}: {}",
+                meetingId, e.getMessage());
+        }
+    }
+
+    /**
+     * Transcribe la grabación con el motor segmentado si está disponible
+     *
+     * @param jobId ID del trabajo
+     * @param attempt Intento tomado por este worker
+     * @param meetingId ID de la reunión
+     * @throws Exception si falla la transcripción
+     */
+    private void process(Long jobId, int attempt, Long meetingId) throws Exception {
+        SegmentedTranscriptionEngine engine = segmentedEngine.getIfAvailable();
+        if (engine == null) {
+            Double previousAccuracy = jobService.getTranscriptionAccuracy(meetingId);
+            transcriptionService.processRecording(meetingId);
+            jobService.recordAccuracyChange(meetingId, previousAccuracy);
+            return;
+        }
+
+        TranscriptionJobService.RecordingInfo recording = jobService.getRecording(meetingId);
+        Path recordingPath = Paths.get(storageLocation).resolve(recording.recordingUrl());
+        Duration duration = resolveDuration(recordingPath, recording.durationSeconds());
+
+        SegmentedTranscriptionEngine.Result result = engine.transcribe(recordingPath, duration,
+            percent -> eventPublisher.publishProgress(meetingId, percent), Duration.ofSeconds(timeoutSeconds));
+        if (!jobService.saveTranscript(jobId, attempt, result.transcript(), result.accuracy())) {
+            return;
+        }
+
+        log.info("Reunión {} transcrita en {} segmentos (precisión {}%)",
+            meetingId, result.segmentCount(), result.accuracy());
+    }
+
+    /**
+     * Obtiene la duración del audio a partir del archivo, o de la duración
+     * registrada de la reunión si el formato no permite leerla
+     */
+    private Duration resolveDuration(Path recordingPath, Integer durationSeconds) {
+        try {
+            AudioFileFormat format = AudioSystem.getAudioFileFormat(recordingPath.toFile());
+            long frames = format.getFrameLength();
+            float frameRate = format.getFormat().getFrameRate();
+            if (frames > 0 && frameRate > 0) {
+                return Duration.ofMillis((long) (frames / frameRate * 1000));
+            }
+        } catch (Exception e) {
+            log.debug("No se pudo leer la duración de {}: {}", recordingPath, e.getMessage());
+        }
+
+        if (durationSeconds == null) {
+            throw new IllegalStateException("No se pudo determinar la duración de la grabación");
+        }
+        return Duration.ofSeconds(durationSeconds);
+    }
+
+    /**
+     * Registra la duración del trabajo y la latencia total desde que se encoló
+     */
+    private void record(String outcome, LocalDateTime enqueuedAt, long startNanos) {
+        Timer.builder("mindmeet.transcription.job.duration")
+            .description("Tiempo de ejecución de un trabajo de transcripción")
+            .tag("outcome", outcome)
+            .register(meterRegistry)
+            .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+
+        if (enqueuedAt != null) {
+            Timer.builder("mindmeet.transcription.job.latency")
+                .description("Tiempo desde que se encola un trabajo hasta que termina")
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .record(Duration.between(enqueuedAt, LocalDateTime.now()));
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package com.deloitte.mindmeet.service;
+
+import com.deloitte.mindmeet.model.Meeting;
+import com.deloitte.mindmeet.model.TranscriptionResult;
+import com.deloitte.mindmeet.repository.MeetingRepository;
+import com.deloitte.mindmeet.repository.TranscriptionResultRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * Cache persistente de transcripciones por contenido de audio
+ *
+ * Al completar la transcripción de una grabación se guarda el resultado
+ * con el SHA-256 del audio. Una subida posterior del mismo contenido (por
+ * ejemplo, un reintento del cliente tras un timeout) recibe la transcripción
+ * al instante, sin volver a encolarla ni consumir minutos del proveedor.
+ * La transcripción se copia comprimida, sin descomprimirla.
+ *
+ * @author MindMeet Team
+ * @version 1.0
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TranscriptionResultCache {
+
+    private final TranscriptionResultRepository resultRepository;
+    private final MeetingRepository meetingRepository;
+    private final MeetingStatsService meetingStatsService;
+    private final MeetingSearchIndexer searchIndexer;
+    private final MeetingEventPublisher eventPublisher;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${mindmeet.transcription.result-cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${mindmeet.transcription.result-cache.ttl-days:90}")
+    private long ttlDays;
+
+    private Counter hits;
+    private Counter misses;
+
+    @PostConstruct
+    void registerMetrics() {
+        hits = Counter.builder("mindmeet.transcription.result-cache")
+            .description("Subidas de grabación por resultado de la cache de transcripciones")
+            .tag("result", "hit")
+            .register(meterRegistry);
+        misses = Counter.builder("mindmeet.transcription.result-cache")
+            .description("Subidas de grabación por resultado de la cache de transcripciones")
+            .tag("result", "miss")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Aplica a la reunión la transcripción guardada para su grabación, si existe
+     * La reunión queda con el procesamiento COMPLETED; el llamador la guarda
+     *
+     * @param meeting Reunión con la grabación ya asignada
+     * @return true si se reutilizó una transcripción y no hace falta encolarla
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public boolean applyTo(Meeting meeting) {
+        if (!enabled || meeting.getRecordingHash() == null) {
+            return false;
+        }
+
+        Optional<TranscriptionResult> cached = resultRepository.findById(meeting.getRecordingHash());
+        if (cached.isEmpty()) {
+            misses.increment();
+            return false;
+        }
+
+        TranscriptionResult result = cached.get();
+        Double previousAccuracy = meeting.getTranscriptionAccuracy();
+        meeting.setCompressedTranscript(result.getTranscript(), result.getTranscriptLength());
+        meeting.setTranscriptionAccuracy(result.getAccuracy());
+        meeting.setProcessingStatus(ProcessingStatus.COMPLETED);
+
+        result.setHits(result.getHits() + 1);
+        result.setLastUsedAt(LocalDateTime.now());
+
+        meetingStatsService.onTranscriptionAccuracyChanged(
+            meeting.getOrganizer().getId(), previousAccuracy, result.getAccuracy());
+        searchIndexer.reindexAfterCommit(meeting.getId());
+        eventPublisher.publishStatus(meeting.getId(), ProcessingStatus.COMPLETED);
+        hits.increment();
+
+        log.info("Transcripción reutilizada para reunión {} (audio {})", meeting.getId(), meeting.getRecordingHash());
+        return true;
+    }
+
+    /**
+     * Guarda la transcripción de una reunión recién procesada para su audio
+     * Si otra reunión con el mismo audio la guarda a la vez, la transacción
+     * falla por clave duplicada y se conserva la existente
+     *
+     * @param meetingId ID de la reunión
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void remember(Long meetingId) {
+        if (!enabled) {
+            return;
+        }
+
+        Meeting meeting = meetingRepository.findById(meetingId).orElse(null);
+        if (meeting == null || meeting.getRecordingHash() == null
+                || resultRepository.existsById(meeting.getRecordingHash())) {
+            return;
+        }
+
+        Integer length = meeting.getTranscriptLength();
+        if (length == null) {
+            String transcript = meeting.getTranscript();
+            if (transcript == null || transcript.isEmpty()) {
+                return;
+            }
+            length = transcript.length();
+        }
+
+        resultRepository.save(new TranscriptionResult(meeting.getRecordingHash(),
+            meeting.getCompressedTranscript(), length, meeting.getTranscriptionAccuracy()));
+    }
+
+    /**
+     * Elimina las transcripciones que no se reutilizaron dentro del tiempo de vida
+     */
+    @Scheduled(cron = "${mindmeet.transcription.result-cache.cleanup-cron:0 30 3 * * *}")
+    @Transactional
+    public void purgeExpired() {
+        int deleted = resultRepository.deleteUnusedBefore(LocalDateTime.now().minusDays(ttlDays));
+        if (deleted > 0) {
+            log.info("{} transcripciones reutilizables expiradas eliminadas", deleted);
+        }
+    }
+}
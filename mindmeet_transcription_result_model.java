@@ -0,0 +1,84 @@
+package com.deloitte.mindmeet.model;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * Entidad que representa una transcripción reutilizable por contenido de audio
+ * Se registra al completar la transcripción de una grabación y se aplica
+ * directamente a cualquier reunión que suba el mismo audio
+ *
+ * @author MindMeet Team
+ * @version 1.0
+ */
+@Entity
+@Table(name = "transcription_results", indexes = {
+    @Index(name = "idx_transcription_results_last_used", columnList = "lastUsedAt")
+})
+@Data
+@NoArgsConstructor
+public class TranscriptionResult {
+
+    /**
+     * SHA-256 del audio transcrito (clave primaria)
+     */
+    @Id
+    @Column(length = 64)
+    private String audioHash;
+
+    /**
+     * Transcripción comprimida
+     */
+    @Convert(converter = CompressedTextConverter.class)
+    @Column(name = "transcript_z", nullable = false, columnDefinition = "BYTEA")
+    @Setter(AccessLevel.NONE)
+    @ToString.Exclude
+    private CompressedText transcript;
+
+    /**
+     * Longitud en caracteres de la transcripción
+     */
+    @Column(name = "transcript_chars", nullable = false)
+    @Setter(AccessLevel.NONE)
+    private Integer transcriptLength;
+
+    /**
+     * Porcentaje de precisión de la transcripción (0-100)
+     */
+    @Column(precision = 5, scale = 2)
+    private Double accuracy;
+
+    /**
+     * Veces que se reutilizó
+     */
+    @Column(nullable = false)
+    private Integer hits = 0;
+
+    /**
+     * Fecha de creación del registro
+     */
+    @CreationTimestamp
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    /**
+     * Último uso; las entradas sin uso reciente se eliminan
+     */
+    @Column(nullable = false)
+    private LocalDateTime lastUsedAt;
+
+    public TranscriptionResult(String audioHash, CompressedText transcript, Integer transcriptLength, Double accuracy) {
+        this.audioHash = audioHash;
+        this.transcript = transcript;
+        this.transcriptLength = transcriptLength;
+        this.accuracy = accuracy;
+        this.lastUsedAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,30 @@
+package com.deloitte.mindmeet.repository;
+
+import com.deloitte.mindmeet.model.TranscriptionResult;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * Repositorio de acceso a datos para las transcripciones reutilizables por audio
+ *
+ * @author MindMeet Team
+ * @version 1.0
+ */
+@Repository
+public interface TranscriptionResultRepository extends JpaRepository<TranscriptionResult, String> {
+
+    /**
+     * Elimina las transcripciones no reutilizadas desde la fecha indicada
+     *
+     * @param before Fecha límite del último uso
+     * @return Número de entradas eliminadas
+     */
+    @Modifying
+    @Query("DELETE FROM TranscriptionResult r WHERE r.lastUsedAt < :before")
+    int deleteUnusedBefore(@Param("before") LocalDateTime before);
+}
@@ -0,0 +1,39 @@
+package com.deloitte.mindmeet.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Resultado de la importación masiva de usuarios
+ *
+ * @author MindMeet Team
+ * @version 1.0
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserImportResult {
+
+    /**
+     * Filas procesadas
+     */
+    private long total;
+
+    /**
+     * Usuarios creados
+     */
+    private long created;
+
+    /**
+     * Filas omitidas (duplicadas, existentes o inválidas) o fallidas
+     */
+    private long rejected;
+
+    /**
+     * Resultado por fila
+     */
+    private List<UserImportRowResult> rows;
+}
@@ -0,0 +1,48 @@
+package com.deloitte.mindmeet.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Resultado de una fila de la importación masiva de usuarios
+ *
+ * @author MindMeet Team
+ * @version 1.0
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserImportRowResult {
+
+    /**
+     * Número de línea en el archivo (la cabecera CSV es la línea 1)
+     */
+    private long line;
+
+    /**
+     * Email de la fila, si se pudo leer
+     */
+    private String email;
+
+    /**
+     * Resultado de la fila
+     */
+    private Status status;
+
+    /**
+     * Detalle del resultado cuando la fila no se creó
+     */
+    private String message;
+
+    /**
+     * Resultados posibles de una fila
+     */
+    public enum Status {
+        CREATED,        // Usuario creado
+        DUPLICATE,      // Email repetido dentro del mismo archivo
+        EXISTS,         // Email ya registrado
+        INVALID,        // Datos inválidos
+        FAILED          // Error al guardar
+    }
+}
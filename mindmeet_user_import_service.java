@@ -0,0 +1,369 @@
+package com.deloitte.mindmeet.service;
+
+import com.deloitte.mindmeet.dto.UserImportResult;
+import com.deloitte.mindmeet.dto.UserImportRowResult;
+import com.deloitte.mindmeet.model.AuthProvider;
+import com.deloitte.mindmeet.model.Role;
+import com.deloitte.mindmeet.repository.UserRepository;
+import com.deloitte.mindmeet.security.BoundedPasswordEncoder;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Servicio de importación masiva de usuarios (CSV o NDJSON)
+ *
+ * El archivo se lee en streaming y se procesa por bloques de
+ * {@code mindmeet.admin.import.chunk-size} filas. Por bloque: una consulta IN
+ * para detectar emails ya registrados, hashing BCrypt en paralelo, inserción
+ * de users y user_roles en lotes JDBC y registro de los correos de bienvenida
+ * en el outbox, todo en una transacción por bloque.
+ *
+ * Un email registrado por otra vía entre la consulta IN y la inserción no
+ * hace fallar el bloque: la inserción lo omite (ON CONFLICT DO NOTHING) y la
+ * fila se informa como EXISTS según el recuento de filas insertadas de cada
+ * sentencia del lote. Por eso el driver no debe reescribir los lotes
+ * (reWriteBatchedInserts en PostgreSQL), que devuelve recuentos desconocidos.
+ *
+ * @author MindMeet Team
+ * @version 1.0
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class UserImportService {
+
+    private static final Pattern EMAIL_PATTERN = Pattern.compile("^[^@\\s]+@[^@\\s]+\\.[^@\\s]+$");
+
+    private static final String INSERT_USER =
+        "INSERT INTO users (full_name, email, password, active, provider, created_at, updated_at) " +
+        "VALUES (:fullName, :email, :password, TRUE, :provider, :now, :now) " +
+        "ON CONFLICT DO NOTHING";
+
+    private static final String INSERT_USER_ROLES =
+        "INSERT INTO user_roles (user_id, role_id) " +
+        "SELECT u.id, :roleId FROM users u WHERE u.email IN (:emails)";
+
+    private final UserRepository userRepository;
+    private final RoleLookupService roleLookupService;
+    private final PasswordEncoder passwordEncoder;
+    private final NotificationOutboxService notificationOutboxService;
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+
+    @Value("${mindmeet.admin.import.chunk-size:500}")
+    private int chunkSize;
+
+    @Value("${mindmeet.admin.import.max-rows:50000}")
+    private int maxRows;
+
+    /**
+     * Importa usuarios desde un flujo CSV (cabecera fullName,email,password) o NDJSON
+     *
+     * @param input Contenido del archivo
+     * @param format Formato del archivo
+     * @param sendWelcomeEmail Si se registran correos de bienvenida
+     * @return Resultado por fila
+     * @throws IOException si falla la lectura del flujo
+     * @throws IllegalArgumentException si la cabecera CSV no es válida
+     */
+    public UserImportResult importUsers(InputStream input, Format format, boolean sendWelcomeEmail)
+            throws IOException {
+        Role defaultRole = roleLookupService.getOrCreate(RoleLookupService.DEFAULT_ROLE);
+
+        List<UserImportRowResult> results = new ArrayList<>();
+        Set<String> seenEmails = new HashSet<>();
+        List<ImportRow> chunk = new ArrayList<>(chunkSize);
+        long rows = 0;
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8))) {
+            Map<String, Integer> columns = null;
+            long lineNumber = 0;
+            String line;
+
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                if (format == Format.CSV && columns == null) {
+                    columns = readCsvHeader(line);
+                    continue;
+                }
+                if (++rows > maxRows) {
+                    results.add(new UserImportRowResult(lineNumber, null, UserImportRowResult.Status.INVALID,
+                        "Límite de " + maxRows + " filas excedido; el resto del archivo no se procesó"));
+                    break;
+                }
+
+                ImportRow row = format == Format.CSV
+                    ? parseCsvRow(lineNumber, line, columns)
+                    : parseJsonRow(lineNumber, line);
+                String error = validate(row);
+                if (error != null) {
+                    results.add(new UserImportRowResult(lineNumber, row.email(),
+                        UserImportRowResult.Status.INVALID, error));
+                    continue;
+                }
+
+                chunk.add(row);
+                if (chunk.size() >= chunkSize) {
+                    processChunk(chunk, defaultRole, seenEmails, sendWelcomeEmail, results);
+                    chunk.clear();
+                }
+            }
+        }
+        if (!chunk.isEmpty()) {
+            processChunk(chunk, defaultRole, seenEmails, sendWelcomeEmail, results);
+        }
+
+        long created = results.stream()
+            .filter(result -> result.getStatus() == UserImportRowResult.Status.CREATED)
+            .count();
+        log.info("Importación de usuarios finalizada: {} filas, {} creados", results.size(), created);
+
+        return new UserImportResult(results.size(), created, results.size() - created, results);
+    }
+
+    /**
+     * Procesa un bloque de filas válidas
+     */
+    private void processChunk(List<ImportRow> chunk, Role defaultRole, Set<String> seenEmails,
+                              boolean sendWelcomeEmail, List<UserImportRowResult> results) {
+        // Duplicados dentro del archivo
+        List<ImportRow> candidates = new ArrayList<>(chunk.size());
+        for (ImportRow row : chunk) {
+            if (seenEmails.add(row.email())) {
+                candidates.add(row);
+            } else {
+                results.add(new UserImportRowResult(row.line(), row.email(),
+                    UserImportRowResult.Status.DUPLICATE, "Email repetido en el archivo"));
+            }
+        }
+        if (candidates.isEmpty()) {
+            return;
+        }
+
+        // Emails ya registrados (una sola consulta IN)
+        Set<String> existing = new HashSet<>(userRepository.findExistingEmails(
+            candidates.stream().map(ImportRow::email).collect(Collectors.toList())));
+        List<ImportRow> toCreate = new ArrayList<>(candidates.size());
+        for (ImportRow row : candidates) {
+            if (existing.contains(row.email())) {
+                results.add(new UserImportRowResult(row.line(), row.email(),
+                    UserImportRowResult.Status.EXISTS, "El email ya está registrado"));
+            } else {
+                toCreate.add(row);
+            }
+        }
+        if (toCreate.isEmpty()) {
+            return;
+        }
+
+        List<String> hashes = encodePasswords(toCreate);
+
+        List<ImportRow> created;
+        try {
+            created = transactionTemplate.execute(status -> {
+                Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+                SqlParameterSource[] batch = new SqlParameterSource[toCreate.size()];
+                for (int i = 0; i < toCreate.size(); i++) {
+                    ImportRow row = toCreate.get(i);
+                    batch[i] = new MapSqlParameterSource()
+                        .addValue("fullName", row.fullName())
+                        .addValue("email", row.email())
+                        .addValue("password", hashes.get(i))
+                        .addValue("provider", AuthProvider.LOCAL.name())
+                        .addValue("now", now);
+                }
+                int[] inserted = jdbcTemplate.batchUpdate(INSERT_USER, batch);
+
+                List<ImportRow> rows = new ArrayList<>(toCreate.size());
+                for (int i = 0; i < toCreate.size(); i++) {
+                    if (inserted[i] > 0) {
+                        rows.add(toCreate.get(i));
+                    }
+                }
+                if (rows.isEmpty()) {
+                    return rows;
+                }
+
+                List<String> emails = rows.stream().map(ImportRow::email).collect(Collectors.toList());
+                jdbcTemplate.update(INSERT_USER_ROLES, new MapSqlParameterSource()
+                    .addValue("roleId", defaultRole.getId())
+                    .addValue("emails", emails));
+                if (sendWelcomeEmail) {
+                    notificationOutboxService.welcomeEmails(emails);
+                }
+                return rows;
+            });
+        } catch (DataAccessException e) {
+            log.error("Error al insertar bloque de {} usuarios: {}", toCreate.size(), e.getMessage());
+            for (ImportRow row : toCreate) {
+                results.add(new UserImportRowResult(row.line(), row.email(),
+                    UserImportRowResult.Status.FAILED, "Error al guardar el bloque; reintente la importación"));
+            }
+            return;
+        }
+
+        Set<ImportRow> createdRows = new HashSet<>(created);
+        for (ImportRow row : toCreate) {
+            if (createdRows.contains(row)) {
+                results.add(new UserImportRowResult(row.line(), row.email(),
+                    UserImportRowResult.Status.CREATED, null));
+            } else {
+                results.add(new UserImportRowResult(row.line(), row.email(),
+                    UserImportRowResult.Status.EXISTS, "El email se registró durante la importación"));
+            }
+        }
+    }
+
+    /**
+     * Calcula los hashes en paralelo si el encoder lo permite
+     */
+    private List<String> encodePasswords(List<ImportRow> rows) {
+        List<String> rawPasswords = rows.stream().map(ImportRow::password).collect(Collectors.toList());
+        if (passwordEncoder instanceof BoundedPasswordEncoder boundedEncoder) {
+            return boundedEncoder.encodeAll(rawPasswords);
+        }
+        return rawPasswords.stream().map(passwordEncoder::encode).collect(Collectors.toList());
+    }
+
+    private String validate(ImportRow row) {
+        if (row.error() != null) {
+            return row.error();
+        }
+        if (row.fullName() == null || row.fullName().length() < 2 || row.fullName().length() > 100) {
+            return "El nombre debe tener entre 2 y 100 caracteres";
+        }
+        if (row.email() == null || row.email().length() > 150 || !EMAIL_PATTERN.matcher(row.email()).matches()) {
+            return "El formato del email no es válido";
+        }
+        if (row.password() == null || row.password().length() < 8) {
+            return "La contraseña debe tener al menos 8 caracteres";
+        }
+        return null;
+    }
+
+    private Map<String, Integer> readCsvHeader(String line) {
+        List<String> names = parseCsvLine(line);
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < names.size(); i++) {
+            columns.put(names.get(i).trim().replace("_", "").toLowerCase(), i);
+        }
+        if (!columns.containsKey("fullname") || !columns.containsKey("email") || !columns.containsKey("password")) {
+            throw new IllegalArgumentException("La cabecera CSV debe incluir fullName, email y password");
+        }
+        return columns;
+    }
+
+    private ImportRow parseCsvRow(long lineNumber, String line, Map<String, Integer> columns) {
+        List<String> values = parseCsvLine(line);
+        return new ImportRow(lineNumber,
+            column(values, columns.get("fullname")),
+            column(values, columns.get("email")),
+            column(values, columns.get("password")),
+            null);
+    }
+
+    private ImportRow parseJsonRow(long lineNumber, String line) {
+        try {
+            JsonNode node = objectMapper.readTree(line);
+            return new ImportRow(lineNumber,
+                text(node, "fullName"),
+                text(node, "email"),
+                node.hasNonNull("password") ? node.get("password").asText() : null,
+                null);
+        } catch (IOException e) {
+            return new ImportRow(lineNumber, null, null, null, "JSON inválido");
+        }
+    }
+
+    private static String column(List<String> values, int index) {
+        if (index >= values.size()) {
+            return null;
+        }
+        String value = values.get(index).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    private static String text(JsonNode node, String field) {
+        if (!node.hasNonNull(field)) {
+            return null;
+        }
+        String value = node.get(field).asText().trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    /**
+     * Separa una línea CSV respetando comillas dobles ("" escapa una comilla)
+     */
+    private static List<String> parseCsvLine(String line) {
+        List<String> values = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    current.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                values.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        values.add(current.toString());
+        return values;
+    }
+
+    /**
+     * Fila leída del archivo
+     */
+    private record ImportRow(long line, String fullName, String email, String password, String error) {
+    }
+
+    /**
+     * Formatos de importación admitidos
+     */
+    public enum Format {
+        CSV,
+        NDJSON
+    }
+}
@@ -0,0 +1,120 @@
+package com.deloitte.mindmeet.service;
+
+import com.deloitte.mindmeet.config.ReadWriteRoutingDataSource;
+import com.deloitte.mindmeet.dto.UserSnapshot;
+import com.deloitte.mindmeet.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Optional;
+
+/**
+ * Servicio de búsqueda de usuarios por email con cache en memoria (Caffeine)
+ * Evita la consulta a base de datos (con join a roles) en cada petición autenticada
+ *
+ * El cache guarda copias inmutables ({@link UserSnapshot}) y no entidades:
+ * una entidad desasociada compartida entre peticiones podía modificarse por
+ * accidente y fallaba con LazyInitializationException al tocar sus
+ * colecciones perezosas (por ejemplo en hashCode al agregarla a un Set).
+ *
+ * Con el enrutamiento a réplicas un fallo del cache se lee siempre del
+ * primario, en una transacción propia de solo lectura: una réplica atrasada
+ * podría devolver un dato anterior a un cambio y el cache lo serviría durante
+ * todo el TTL. Las peticiones autenticadas por JWT no tienen aún un usuario
+ * para read-your-writes, por lo que sin esto irían a una réplica y el cache
+ * nunca se llenaría.
+ *
+ * El tamaño máximo, el TTL y el registro de estadísticas se configuran en
+ * spring.cache.caffeine.spec; las métricas de aciertos y fallos se exportan
+ * automáticamente al endpoint de Prometheus
+ *
+ * @author MindMeet Team
+ * @version 1.0
+ */
+@Service
+@Slf4j
+public class UserLookupService {
+
+    /**
+     * Nombre del cache de usuarios por email
+     */
+    public static final String USERS_BY_EMAIL_CACHE = "usersByEmail";
+
+    private final UserRepository userRepository;
+    private final CacheManager cacheManager;
+    private final TransactionTemplate lookupTransaction;
+
+    public UserLookupService(UserRepository userRepository, CacheManager cacheManager,
+                             PlatformTransactionManager transactionManager) {
+        this.userRepository = userRepository;
+        this.cacheManager = cacheManager;
+
+        // Transacción propia: la actual pudo obtener ya su conexión de una réplica
+        this.lookupTransaction = new TransactionTemplate(transactionManager);
+        this.lookupTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.lookupTransaction.setReadOnly(true);
+    }
+
+    /**
+     * Busca un usuario por email, usando el cache si está disponible
+     * Si no está en cache se lee del primario; los usuarios inexistentes no
+     * se almacenan en cache
+     *
+     * Para usar el usuario en una relación JPA debe obtenerse una referencia
+     * con UserRepository.getReferenceById(id); las modificaciones se hacen
+     * sobre una entidad obtenida del repositorio
+     *
+     * @param email Email del usuario
+     * @return Optional con la copia del usuario si existe
+     */
+    public Optional<UserSnapshot> findByEmail(String email) {
+        Cache cache = cacheManager.getCache(USERS_BY_EMAIL_CACHE);
+        UserSnapshot cached = cache != null ? cache.get(email, UserSnapshot.class) : null;
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+
+        Optional<UserSnapshot> user = ReadWriteRoutingDataSource.readFromPrimary(() ->
+            lookupTransaction.execute(status -> userRepository.findByEmail(email).map(UserSnapshot::of)));
+        if (cache != null && user.isPresent()) {
+            cache.put(email, user.get());
+        }
+        return user;
+    }
+
+    /**
+     * Elimina un usuario del cache
+     * Debe invocarse tras cualquier cambio en los datos del usuario. Dentro de
+     * una transacción se elimina tras el commit: si se eliminara antes, una
+     * lectura concurrente podría volver a guardar los datos anteriores
+     *
+     * @param email Email del usuario
+     */
+    public void evict(String email) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evictNow(email);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                evictNow(email);
+            }
+        });
+    }
+
+    private void evictNow(String email) {
+        Cache cache = cacheManager.getCache(USERS_BY_EMAIL_CACHE);
+        if (cache != null) {
+            cache.evict(email);
+            log.debug("Usuario eliminado del cache: {}", email);
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package com.deloitte.mindmeet.service;
+
+import com.deloitte.mindmeet.config.ReadWriteRoutingDataSource;
+import com.deloitte.mindmeet.config.ReadYourWritesTracker;
+import com.deloitte.mindmeet.config.ReplicaLagMonitor;
+import com.deloitte.mindmeet.dto.UserSnapshot;
+import com.deloitte.mindmeet.model.User;
+import com.deloitte.mindmeet.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Pruebas del cache de usuarios con el enrutamiento a réplicas activo
+ *
+ * El lag monitor siempre ofrece la réplica, como ocurre con las peticiones
+ * autenticadas por JWT, que aún no tienen usuario para read-your-writes.
+ *
+ * @author MindMeet Team
+ * @version 1.0
+ */
+class UserLookupServiceTest {
+
+    private static final String EMAIL = "ana@mindmeet.test";
+    private static final String REPLICA = "replica-1";
+
+    private DataSource primary;
+    private DataSource replica;
+    private DataSource dataSource;
+    private DataSourceTransactionManager transactionManager;
+    private UserRepository userRepository;
+    private UserLookupService userLookupService;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        primary = mock(DataSource.class);
+        replica = mock(DataSource.class);
+        when(primary.getConnection()).thenReturn(mock(Connection.class));
+        when(replica.getConnection()).thenReturn(mock(Connection.class));
+
+        ReplicaLagMonitor lagMonitor = mock(ReplicaLagMonitor.class);
+        when(lagMonitor.choose(anyLong())).thenReturn(new ReplicaLagMonitor.Choice(REPLICA, "replica"));
+
+        ReadWriteRoutingDataSource routing = new ReadWriteRoutingDataSource(lagMonitor,
+            new ReadYourWritesTracker(Duration.ofSeconds(30)), new SimpleMeterRegistry());
+        routing.setTargetDataSources(Map.of(ReadWriteRoutingDataSource.PRIMARY, primary, REPLICA, replica));
+        routing.afterPropertiesSet();
+        dataSource = new LazyConnectionDataSourceProxy(routing);
+        transactionManager = new DataSourceTransactionManager(dataSource);
+
+        User user = new User("Ana Viewer", EMAIL, "password-ana");
+        user.setId(1L);
+        userRepository = mock(UserRepository.class);
+        when(userRepository.findByEmail(EMAIL)).thenAnswer(invocation -> {
+            // La primera sentencia decide a qué DataSource va la conexión
+            DataSourceUtils.getConnection(dataSource).createStatement();
+            return Optional.of(user);
+        });
+
+        userLookupService = new UserLookupService(userRepository,
+            new ConcurrentMapCacheManager(UserLookupService.USERS_BY_EMAIL_CACHE), transactionManager);
+    }
+
+    @Test
+    void readOnlyTransactionsUseTheReplica() throws Exception {
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+
+        readOnly.executeWithoutResult(status -> {
+            try {
+                DataSourceUtils.getConnection(dataSource).createStatement();
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+
+        verify(replica).getConnection();
+        verify(primary, never()).getConnection();
+    }
+
+    @Test
+    void secondLookupIsServedFromTheCache() throws Exception {
+        Optional<UserSnapshot> first = userLookupService.findByEmail(EMAIL);
+        Optional<UserSnapshot> second = userLookupService.findByEmail(EMAIL);
+
+        assertThat(first).map(UserSnapshot::id).contains(1L);
+        assertThat(second).isEqualTo(first);
+        verify(userRepository, times(1)).findByEmail(EMAIL);
+        verify(primary, atLeastOnce()).getConnection();
+        verify(replica, never()).getConnection();
+    }
+
+    @Test
+    void missFromAReadOnlyTransactionStillReadsThePrimary() throws Exception {
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+
+        Optional<UserSnapshot> user = readOnly.execute(status -> userLookupService.findByEmail(EMAIL));
+        userLookupService.findByEmail(EMAIL);
+
+        assertThat(user).isPresent();
+        verify(userRepository, times(1)).findByEmail(EMAIL);
+        verify(replica, never()).getConnection();
+    }
+}
@@ -0,0 +1,60 @@
+package com.deloitte.mindmeet.repository;
+
+import com.deloitte.mindmeet.model.User;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Repositorio de acceso a datos para usuarios
+ *
+ * @author MindMeet Team
+ * @version 1.0
+ */
+@Repository
+public interface UserRepository extends JpaRepository<User, Long> {
+
+    /**
+     * Busca un usuario por email
+     */
+    Optional<User> findByEmail(String email);
+
+    /**
+     * Verifica si existe un usuario con el email indicado
+     */
+    boolean existsByEmail(String email);
+
+    /**
+     * Obtiene ID y email de varios usuarios en una sola consulta (IN)
+     * No carga entidades: los roles (EAGER) se leerían con una consulta por usuario
+     *
+     * @param emails Emails a buscar
+     * @return ID y email de los usuarios encontrados
+     */
+    @Query("SELECT u.id AS id, u.email AS email FROM User u WHERE u.email IN :emails")
+    List<UserIdentity> findIdentitiesByEmailIn(@Param("emails") Collection<String> emails);
+
+    /**
+     * Obtiene cuáles de los emails indicados ya están registrados (una sola consulta IN)
+     *
+     * @param emails Emails a verificar
+     * @return Emails ya registrados
+     */
+    @Query("SELECT u.email FROM User u WHERE u.email IN :emails")
+    List<String> findExistingEmails(@Param("emails") Collection<String> emails);
+
+    /**
+     * Proyección con el ID y el email de un usuario
+     */
+    interface UserIdentity {
+
+        Long getId();
+
+        String getEmail();
+    }
+}
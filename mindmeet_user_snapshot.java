@@ -0,0 +1,45 @@
+package com.deloitte.mindmeet.dto;
+
+import com.deloitte.mindmeet.model.Role;
+import com.deloitte.mindmeet.model.User;
+
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Copia inmutable de los datos de un usuario que se guarda en cache
+ *
+ * No es una entidad: no arrastra colecciones perezosas ni puede
+ * modificarse por accidente. Para usar el usuario en una relación JPA se
+ * obtiene una referencia con UserRepository.getReferenceById(id).
+ *
+ * @param id ID del usuario
+ * @param email Correo electrónico
+ * @param fullName Nombre completo
+ * @param active Si el usuario está activo
+ * @param roles Nombres de los roles del usuario
+ * @author MindMeet Team
+ * @version 1.0
+ */
+public record UserSnapshot(Long id, String email, String fullName, boolean active, Set<String> roles) {
+
+    public UserSnapshot {
+        roles = roles != null ? Set.copyOf(roles) : Set.of();
+    }
+
+    /**
+     * Copia los datos de una entidad; los roles deben estar cargados
+     *
+     * @param user Entidad usuario
+     * @return Copia inmutable
+     */
+    public static UserSnapshot of(User user) {
+        return new UserSnapshot(
+            user.getId(),
+            user.getEmail(),
+            user.getFullName(),
+            Boolean.TRUE.equals(user.getActive()),
+            user.getRoles().stream().map(Role::getName).collect(Collectors.toSet())
+        );
+    }
+}
@@ -0,0 +1,236 @@
+package com.deloitte.mindmeet.security;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Base64;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Cache acotado de tokens JWT ya verificados
+ *
+ * Evita volver a parsear el token y verificar su firma HMAC en cada petición.
+ * La clave es el SHA-256 del token (el token no se guarda en memoria) y el
+ * valor son los claims ya leídos. Cada entrada expira como máximo en el
+ * {@code exp} del propio token. Solo se guardan tokens válidos: los inválidos
+ * siempre pasan por JwtTokenProvider.
+ *
+ * Lo usan JwtAuthenticationFilter en cada petición HTTP y el handshake de
+ * la transcripción en vivo.
+ *
+ * {@link #revoke(String)} elimina los tokens cacheados del usuario y rechaza
+ * los emitidos antes de la revocación, aunque su firma siga siendo válida.
+ * El claim iat tiene precisión de segundos, así que la revocación se
+ * trunca a segundos y un token emitido en el mismo segundo se considera
+ * revocado.
+ *
+ * @author MindMeet Team
+ * @version 1.0
+ */
+@Component
+@Slf4j
+public class VerifiedTokenCache {
+
+    private final JwtTokenProvider jwtTokenProvider;
+    private final ObjectMapper objectMapper;
+    private final Duration maxTtl;
+
+    private final Cache<String, VerifiedToken> tokens;
+
+    /**
+     * Digests cacheados por usuario, para invalidarlos al revocar
+     */
+    private final ConcurrentHashMap<String, Set<String>> digestsByUser = new ConcurrentHashMap<>();
+
+    /**
+     * Fecha de revocación por usuario; se conserva durante la vida máxima de un token
+     */
+    private final Cache<String, Instant> revokedAt;
+
+    public VerifiedTokenCache(
+            JwtTokenProvider jwtTokenProvider,
+            ObjectMapper objectMapper,
+            @Value("${security.jwt.cache.max-size:50000}") long maxSize,
+            @Value("${security.jwt.cache.max-ttl-seconds:600}") long maxTtlSeconds,
+            @Value("${security.jwt.expiration:86400000}") long tokenLifetimeMs) {
+        this.jwtTokenProvider = jwtTokenProvider;
+        this.objectMapper = objectMapper;
+        this.maxTtl = Duration.ofSeconds(maxTtlSeconds);
+        this.tokens = Caffeine.newBuilder()
+            .maximumSize(maxSize)
+            .expireAfter(new TokenExpiry())
+            .removalListener((String digest, VerifiedToken token, RemovalCause cause) -> {
+                if (digest != null && token != null && cause != RemovalCause.REPLACED) {
+                    unindex(token.email(), digest);
+                }
+            })
+            .recordStats()
+            .build();
+        this.revokedAt = Caffeine.newBuilder()
+            .expireAfterWrite(Duration.ofMillis(tokenLifetimeMs))
+            .build();
+    }
+
+    /**
+     * Verifica un token usando el cache
+     *
+     * @param token Token JWT
+     * @return Claims del token si es válido y no está revocado
+     */
+    public Optional<VerifiedToken> verify(String token) {
+        if (token == null || token.isBlank()) {
+            return Optional.empty();
+        }
+
+        String digest = digest(token);
+        VerifiedToken cached = tokens.getIfPresent(digest);
+        if (cached != null) {
+            return isRevoked(cached) ? Optional.empty() : Optional.of(cached);
+        }
+
+        if (!jwtTokenProvider.validateToken(token)) {
+            return Optional.empty();
+        }
+
+        VerifiedToken verified = readClaims(token);
+        if (verified == null) {
+            // Firma válida pero sin exp legible: no se cachea
+            VerifiedToken uncached = new VerifiedToken(jwtTokenProvider.getEmailFromToken(token), null, null);
+            return isRevoked(uncached) ? Optional.empty() : Optional.of(uncached);
+        }
+        if (isRevoked(verified)) {
+            return Optional.empty();
+        }
+
+        digestsByUser.computeIfAbsent(verified.email(), email -> ConcurrentHashMap.newKeySet()).add(digest);
+        tokens.put(digest, verified);
+        return Optional.of(verified);
+    }
+
+    /**
+     * Indica si el token es válido
+     *
+     * @param token Token JWT
+     * @return true si el token es válido y no está revocado
+     */
+    public boolean isValid(String token) {
+        return verify(token).isPresent();
+    }
+
+    /**
+     * Revoca los tokens de un usuario emitidos hasta este momento
+     *
+     * @param email Email del usuario
+     */
+    public void revoke(String email) {
+        revokedAt.put(email, Instant.now().truncatedTo(ChronoUnit.SECONDS));
+        Set<String> digests = digestsByUser.remove(email);
+        if (digests != null) {
+            tokens.invalidateAll(digests);
+        }
+        log.info("Tokens revocados para usuario: {}", email);
+    }
+
+    /**
+     * Un token está revocado si se emitió en el segundo de la revocación o antes
+     * (iat y la revocación tienen precisión de segundos)
+     */
+    private boolean isRevoked(VerifiedToken token) {
+        Instant revoked = revokedAt.getIfPresent(token.email());
+        if (revoked == null) {
+            return false;
+        }
+        return token.issuedAt() == null
+            || token.issuedAt().truncatedTo(ChronoUnit.SECONDS).compareTo(revoked) <= 0;
+    }
+
+    private void unindex(String email, String digest) {
+        digestsByUser.computeIfPresent(email, (key, digests) -> {
+            digests.remove(digest);
+            return digests.isEmpty() ? null : digests;
+        });
+    }
+
+    /**
+     * Lee sub, iat y exp del payload; la firma ya fue verificada por JwtTokenProvider
+     */
+    private VerifiedToken readClaims(String token) {
+        try {
+            String[] parts = token.split("\\.");
+            if (parts.length < 2) {
+                return null;
+            }
+            JsonNode payload = objectMapper.readTree(Base64.getUrlDecoder().decode(parts[1]));
+            if (!payload.hasNonNull("sub") || !payload.hasNonNull("exp")) {
+                return null;
+            }
+            Instant issuedAt = payload.hasNonNull("iat")
+                ? Instant.ofEpochSecond(payload.get("iat").asLong())
+                : null;
+            return new VerifiedToken(payload.get("sub").asText(), issuedAt,
+                Instant.ofEpochSecond(payload.get("exp").asLong()));
+        } catch (Exception e) {
+            log.debug("No se pudieron leer los claims del token: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 no disponible", e);
+        }
+    }
+
+    /**
+     * Expira cada entrada en el exp del token, sin superar el TTL máximo del cache
+     */
+    private class TokenExpiry implements Expiry<String, VerifiedToken> {
+
+        @Override
+        public long expireAfterCreate(String digest, VerifiedToken token, long currentTime) {
+            Duration untilExp = Duration.between(Instant.now(), token.expiresAt());
+            if (untilExp.isNegative()) {
+                return 0;
+            }
+            return Math.min(untilExp.toNanos(), maxTtl.toNanos());
+        }
+
+        @Override
+        public long expireAfterUpdate(String digest, VerifiedToken token, long currentTime, long currentDuration) {
+            return expireAfterCreate(digest, token, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String digest, VerifiedToken token, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+
+    /**
+     * Claims de un token verificado
+     *
+     * @param email Usuario (claim sub)
+     * @param issuedAt Fecha de emisión, puede ser null
+     * @param expiresAt Fecha de expiración, null si no se pudo leer
+     */
+    public record VerifiedToken(String email, Instant issuedAt, Instant expiresAt) {
+    }
+}
@@ -0,0 +1,59 @@
+package com.deloitte.mindmeet.config;
+
+import com.deloitte.mindmeet.controller.LiveTranscriptionWebSocketHandler;
+import com.deloitte.mindmeet.security.LiveTranscriptionHandshakeInterceptor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.socket.config.annotation.EnableWebSocket;
+import org.springframework.web.socket.config.annotation.WebSocketConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketHandlerRegistry;
+import org.springframework.web.socket.server.standard.ServletServerContainerFactoryBean;
+
+/**
+ * Configuración de WebSocket para la transcripción en vivo
+ *
+ * Endpoint: /ws/meetings/{id}/live (mensajes binarios con audio PCM).
+ * La autenticación se hace en el handshake con el mismo JWT de la API,
+ * enviado en la cabecera Authorization o en el parámetro access_token.
+ *
+ * @author MindMeet Team
+ * @version 1.0
+ */
+@Configuration
+@EnableWebSocket
+@RequiredArgsConstructor
+public class WebSocketConfig implements WebSocketConfigurer {
+
+    private final LiveTranscriptionWebSocketHandler liveTranscriptionHandler;
+    private final LiveTranscriptionHandshakeInterceptor liveTranscriptionHandshakeInterceptor;
+
+    @Value("${mindmeet.live-transcription.allowed-origins:*}")
+    private String[] allowedOrigins;
+
+    @Override
+    public void registerWebSocketHandlers(WebSocketHandlerRegistry registry) {
+        registry.addHandler(liveTranscriptionHandler, "/ws/meetings/*/live")
+            .addInterceptors(liveTranscriptionHandshakeInterceptor)
+            .setAllowedOriginPatterns(allowedOrigins);
+    }
+
+    /**
+     * Límites del contenedor WebSocket
+     *
+     * @param maxFrameBytes Tamaño máximo de un mensaje binario de audio
+     * @param idleTimeoutMs Tiempo sin mensajes tras el que se cierra la conexión
+     * @return Fábrica del contenedor configurada
+     */
+    @Bean
+    public ServletServerContainerFactoryBean webSocketContainer(
+            @Value("${mindmeet.live-transcription.max-frame-bytes:65536}") int maxFrameBytes,
+            @Value("${mindmeet.live-transcription.idle-timeout-ms:60000}") long idleTimeoutMs) {
+        ServletServerContainerFactoryBean container = new ServletServerContainerFactoryBean();
+        container.setMaxBinaryMessageBufferSize(maxFrameBytes);
+        container.setMaxTextMessageBufferSize(8192);
+        container.setMaxSessionIdleTimeout(idleTimeoutMs);
+        return container;
+    }
+}
@@ -0,0 +1,67 @@
+package com.deloitte.mindmeet.service;
+
+import org.springframework.boot.system.JavaVersion;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Fábricas de hilos de los pools de trabajo de la aplicación
+ *
+ * Los pools que pasan la mayor parte del tiempo bloqueados en E/S (SMTP,
+ * base de datos, archivos, proveedor de transcripción) usan hilos virtuales
+ * cuando spring.threads.virtual.enabled=true y la JVM es Java 21 o superior,
+ * igual que Tomcat y el planificador de Spring Boot. En Java 17 la propiedad
+ * se ignora y se mantienen los hilos de plataforma. El tamaño del pool sigue
+ * acotando la concurrencia en ambos modos.
+ *
+ * Los pools de trabajo de CPU (BCrypt) siempre usan hilos de plataforma.
+ *
+ * @author MindMeet Team
+ * @version 1.0
+ */
+public final class WorkerThreads {
+
+    private WorkerThreads() {
+    }
+
+    /**
+     * Indica si se deben crear hilos virtuales
+     *
+     * @param virtualThreadsEnabled Valor de spring.threads.virtual.enabled
+     * @return true si está habilitado y la JVM los soporta
+     */
+    public static boolean virtual(boolean virtualThreadsEnabled) {
+        return virtualThreadsEnabled && JavaVersion.getJavaVersion().isEqualOrNewerThan(JavaVersion.TWENTY_ONE);
+    }
+
+    /**
+     * Crea la fábrica de hilos de un pool de E/S
+     *
+     * @param prefix Prefijo del nombre de los hilos (se agrega "-N")
+     * @param virtualThreadsEnabled Valor de spring.threads.virtual.enabled
+     * @return Fábrica de hilos virtuales, o de hilos daemon de plataforma
+     */
+    public static ThreadFactory io(String prefix, boolean virtualThreadsEnabled) {
+        if (virtual(virtualThreadsEnabled)) {
+            return new VirtualThreadTaskExecutor(prefix + "-").getVirtualThreadFactory();
+        }
+        return platform(prefix);
+    }
+
+    /**
+     * Crea una fábrica de hilos daemon de plataforma
+     *
+     * @param prefix Prefijo del nombre de los hilos (se agrega "-N")
+     * @return Fábrica de hilos
+     */
+    public static ThreadFactory platform(String prefix) {
+        AtomicInteger threadCounter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + "-" + threadCounter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}